@@ -0,0 +1,108 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.benchmarks;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link Document} against a hand-written {@link StringBuilder} baseline and the
+ * alternatives evaluated in the README.  All render HTML5 in SGML serialization.
+ *
+ * @author  AO Industries, Inc.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AlternativesBenchmark {
+
+	@Param
+	public Page page;
+
+	@Param({"false", "true"})
+	public boolean indent;
+
+	private final CountingWriter out = new CountingWriter();
+
+	private final StringBuilder sb = new StringBuilder();
+
+	@Setup
+	public void setup() {
+		out.reset();
+	}
+
+	@Benchmark
+	public CountingWriter fluentHtml(Counters counters) throws IOException {
+		long start = out.getCount();
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.setIndent(indent);
+		FluentPages.render(page, document);
+		counters.add(page, out.getCount() - start);
+		return out;
+	}
+
+	/**
+	 * The baseline does not indent, so is the same for both values of {@link #indent}.
+	 */
+	@Benchmark
+	public CountingWriter stringBuilder(Counters counters) {
+		sb.setLength(0);
+		StringBuilderPages.render(page, sb);
+		out.append(sb);
+		counters.add(page, sb.length());
+		return out;
+	}
+
+	@Benchmark
+	public CountingWriter htmlFlow(Counters counters) {
+		long start = out.getCount();
+		HtmlFlowPages.render(page, out, indent);
+		counters.add(page, out.getCount() - start);
+		return out;
+	}
+
+	@Benchmark
+	public CountingWriter j2html(Counters counters) throws IOException {
+		long start = out.getCount();
+		J2htmlPages.render(page, out, indent);
+		counters.add(page, out.getCount() - start);
+		return out;
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Auxiliary counters reported as throughput next to each benchmark result.
+ * The inverse of these gives the time per element and time per byte.
+ *
+ * @author  AO Industries, Inc.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class Counters {
+
+	/**
+	 * The number of elements written.
+	 */
+	public long elements;
+
+	/**
+	 * The number of bytes written.
+	 * Since all benchmark data is ASCII, this is the number of characters written.
+	 */
+	public long bytes;
+
+	@Setup(Level.Iteration)
+	public void clean() {
+		elements = 0;
+		bytes = 0;
+	}
+
+	void add(Page page, long bytes) {
+		this.elements += page.getElements();
+		this.bytes += bytes;
+	}
+}
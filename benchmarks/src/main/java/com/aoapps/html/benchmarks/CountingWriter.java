@@ -0,0 +1,97 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.benchmarks;
+
+import java.io.Writer;
+
+/**
+ * Discards all output while counting the number of characters written.
+ * This is not thread-safe.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class CountingWriter extends Writer {
+
+	private long count;
+
+	long getCount() {
+		return count;
+	}
+
+	void reset() {
+		count = 0;
+	}
+
+	@Override
+	public void write(int c) {
+		count++;
+	}
+
+	@Override
+	public void write(char[] cbuf) {
+		count += cbuf.length;
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) {
+		count += len;
+	}
+
+	@Override
+	public void write(String str) {
+		count += str.length();
+	}
+
+	@Override
+	public void write(String str, int off, int len) {
+		count += len;
+	}
+
+	@Override
+	public CountingWriter append(CharSequence csq) {
+		count += (csq == null) ? 4 : csq.length();
+		return this;
+	}
+
+	@Override
+	public CountingWriter append(CharSequence csq, int start, int end) {
+		count += end - start;
+		return this;
+	}
+
+	@Override
+	public CountingWriter append(char c) {
+		count++;
+		return this;
+	}
+
+	@Override
+	public void flush() {
+		// Nothing to flush
+	}
+
+	@Override
+	public void close() {
+		// Nothing to close
+	}
+}
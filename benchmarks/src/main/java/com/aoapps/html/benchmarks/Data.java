@@ -0,0 +1,80 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.benchmarks;
+
+/**
+ * Data shared by all pages, created once so that benchmarks measure only rendering.
+ * All values are ASCII, so the number of characters written is also the number of UTF-8 bytes.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class Data {
+
+	/** Make no instances. */
+	private Data() {throw new AssertionError();}
+
+	static final int NAV_LINKS = 10;
+
+	static final int TABLE_ROWS = 1000;
+
+	static final int TABLE_COLUMNS = 5;
+
+	static final int NESTING_DEPTH = 64;
+
+	static final int FORM_FIELDS = 300;
+
+	static final String[] NAV_HREFS = new String[NAV_LINKS];
+	static final String[] NAV_LABELS = new String[NAV_LINKS];
+	static {
+		for(int i = 0; i < NAV_LINKS; i++) {
+			NAV_HREFS[i] = "/section-" + i + "/index.html";
+			NAV_LABELS[i] = "Section " + i;
+		}
+	}
+
+	/**
+	 * The table cells, indexed by row then column.
+	 */
+	static final String[][] TABLE_CELLS = new String[TABLE_ROWS][TABLE_COLUMNS];
+	static {
+		for(int row = 0; row < TABLE_ROWS; row++) {
+			String[] cells = TABLE_CELLS[row];
+			cells[0] = Integer.toString(row);
+			cells[1] = "Customer " + row;
+			cells[2] = "customer" + row + "@example.com";
+			cells[3] = (row % 3 == 0) ? "Active & Billing" : "Active";
+			cells[4] = Integer.toString(row * 37 % 1000) + ".00";
+		}
+	}
+
+	static final String[] FIELD_NAMES = new String[FORM_FIELDS];
+	static final String[] FIELD_LABELS = new String[FORM_FIELDS];
+	static final String[] FIELD_VALUES = new String[FORM_FIELDS];
+	static {
+		for(int i = 0; i < FORM_FIELDS; i++) {
+			FIELD_NAMES[i] = "field" + i;
+			FIELD_LABELS[i] = "Field " + i;
+			FIELD_VALUES[i] = "Value <" + i + '>';
+		}
+	}
+}
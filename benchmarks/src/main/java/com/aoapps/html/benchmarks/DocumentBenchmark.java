@@ -0,0 +1,104 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.benchmarks;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Renders each {@link Page} through {@link Document} for every pair of {@link Serialization}
+ * and {@link Doctype}, with indentation both on and off.
+ *
+ * @author  AO Industries, Inc.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentBenchmark {
+
+	@Param
+	public Page page;
+
+	/**
+	 * All values when not specified.
+	 */
+	@Param
+	public Serialization serialization;
+
+	/**
+	 * All values when not specified.
+	 */
+	@Param
+	public Doctype doctype;
+
+	@Param({"false", "true"})
+	public boolean indent;
+
+	/**
+	 * Reuse elements.
+	 *
+	 * @see  Document#setFlyweights(boolean)
+	 */
+	@Param({"false", "true"})
+	public boolean flyweights;
+
+	private final CountingWriter out = new CountingWriter();
+
+	/**
+	 * The document is reused across invocations, so that reused elements reach a steady state.
+	 */
+	private Document document;
+
+	@Setup
+	public void setup() {
+		out.reset();
+		document = new Document(serialization, doctype, out);
+		document.setIndent(indent);
+		document.setFlyweights(flyweights);
+	}
+
+	@Benchmark
+	public CountingWriter document(Counters counters) throws IOException {
+		long start = out.getCount();
+		FluentPages.render(page, document);
+		counters.add(page, out.getCount() - start);
+		return out;
+	}
+}
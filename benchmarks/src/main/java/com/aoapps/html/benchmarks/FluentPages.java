@@ -0,0 +1,106 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.benchmarks;
+
+import com.aoapps.html.DIV_content;
+import com.aoapps.html.Document;
+import java.io.IOException;
+
+/**
+ * Renders each {@link Page} through {@link Document}.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class FluentPages {
+
+	/** Make no instances. */
+	private FluentPages() {throw new AssertionError();}
+
+	static void render(Page page, Document document) throws IOException {
+		switch(page) {
+			case NAV :
+				nav(document);
+				break;
+			case TABLE :
+				table(document);
+				break;
+			case NESTING :
+				nesting(document, Data.NESTING_DEPTH);
+				break;
+			case FORM :
+				form(document);
+				break;
+			default :
+				throw new AssertionError(page);
+		}
+	}
+
+	static void nav(Document document) throws IOException {
+		document.nav__(nav -> nav
+			.ul__(ul -> {
+				for(int i = 0; i < Data.NAV_LINKS; i++) {
+					String href = Data.NAV_HREFS[i];
+					String label = Data.NAV_LABELS[i];
+					ul.li__(li -> li
+						.a(href).clazz("nav-link").__(label)
+					);
+				}
+			})
+		);
+	}
+
+	static void table(Document document) throws IOException {
+		document.table().clazz("grid").__(table -> table
+			.tbody__(tbody -> {
+				for(String[] cells : Data.TABLE_CELLS) {
+					tbody.tr__(tr -> {
+						for(String cell : cells) {
+							tr.td__(cell);
+						}
+					});
+				}
+			})
+		);
+	}
+
+	static <__ extends DIV_content<__>> void nesting(__ content, int depth) throws IOException {
+		content.div().clazz("level").__(div -> {
+			div.span__(depth);
+			if(depth > 1) nesting(div, depth - 1);
+		});
+	}
+
+	static void form(Document document) throws IOException {
+		document.form("/submit").__(form -> {
+			for(int i = 0; i < Data.FORM_FIELDS; i++) {
+				String label = Data.FIELD_LABELS[i];
+				String name = Data.FIELD_NAMES[i];
+				String value = Data.FIELD_VALUES[i];
+				form.label__(l -> l
+					.text(label)
+					.input().text().name(name).value(value).__()
+				);
+			}
+		});
+	}
+}
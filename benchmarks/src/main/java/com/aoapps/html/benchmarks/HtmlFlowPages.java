@@ -0,0 +1,107 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.benchmarks;
+
+import htmlflow.HtmlFlow;
+import htmlflow.HtmlPage;
+import java.util.function.Consumer;
+import org.xmlet.htmlapifaster.Div;
+import org.xmlet.htmlapifaster.EnumTypeInputType;
+import org.xmlet.htmlapifaster.Form;
+import org.xmlet.htmlapifaster.Tbody;
+import org.xmlet.htmlapifaster.Ul;
+
+/**
+ * Renders each {@link Page} through <a href="https://github.com/xmlet/HtmlFlow">HtmlFlow</a>.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class HtmlFlowPages {
+
+	/** Make no instances. */
+	private HtmlFlowPages() {throw new AssertionError();}
+
+	static void render(Page page, Appendable out, boolean indent) {
+		HtmlPage doc = HtmlFlow.doc(out).setIndented(indent);
+		switch(page) {
+			case NAV :
+				nav(doc);
+				break;
+			case TABLE :
+				table(doc);
+				break;
+			case NESTING :
+				doc.div().attrClass("level").of(level -> nesting(level, Data.NESTING_DEPTH)).__();
+				break;
+			case FORM :
+				form(doc);
+				break;
+			default :
+				throw new AssertionError(page);
+		}
+	}
+
+	static void nav(HtmlPage doc) {
+		doc.nav().ul().of(HtmlFlowPages::navItems).__().__();
+	}
+
+	private static void navItems(Ul<?> ul) {
+		for(int i = 0; i < Data.NAV_LINKS; i++) {
+			ul.li().a().attrHref(Data.NAV_HREFS[i]).attrClass("nav-link").text(Data.NAV_LABELS[i]).__().__();
+		}
+	}
+
+	static void table(HtmlPage doc) {
+		doc.table().attrClass("grid").tbody().of(HtmlFlowPages::tableRows).__().__();
+	}
+
+	private static void tableRows(Tbody<?> tbody) {
+		for(String[] cells : Data.TABLE_CELLS) {
+			tbody.tr().of(tr -> {
+				for(String cell : cells) {
+					tr.td().text(cell).__();
+				}
+			}).__();
+		}
+	}
+
+	/**
+	 * Writes the content of a level, which is nested in a new level until the given depth is reached.
+	 */
+	private static void nesting(Div<?> level, int depth) {
+		level.span().text(Integer.toString(depth)).__();
+		if(depth > 1) level.div().attrClass("level").of(nested -> nesting(nested, depth - 1)).__();
+	}
+
+	static void form(HtmlPage doc) {
+		Consumer<Form<?>> fields = form -> {
+			for(int i = 0; i < Data.FORM_FIELDS; i++) {
+				form.label()
+					.text(Data.FIELD_LABELS[i])
+					.input().attrType(EnumTypeInputType.TEXT).attrName(Data.FIELD_NAMES[i]).attrValue(Data.FIELD_VALUES[i]).__()
+				.__();
+			}
+		};
+		doc.form().attrAction("/submit").of(fields).__();
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.benchmarks;
+
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.html.Document;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the heap retained per suspended render, with many renders waiting at once on virtual threads.
+ * <p>
+ * Each render writes part of a page, flushes, and then waits, as it would on I/O, while holding its document.  The
+ * retained heap is the growth of the heap after garbage collection, divided by the number of renders, and includes
+ * the virtual thread and its stack.  A baseline of renders that wait without a document is subtracted.
+ * </p>
+ * <p>
+ * A document gives its buffers back to the shared pool only on {@link Document#flush()}, not whenever its render is
+ * suspended, so each render flushes before waiting.
+ * </p>
+ * <p>
+ * This is not a JMH benchmark, since it measures retained heap instead of time or allocation rate.  Run with:
+ * <code>java -Xmx4g -cp target/benchmarks.jar com.aoapps.html.benchmarks.IdleDocumentBenchmark [renders]</code>
+ * </p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class IdleDocumentBenchmark {
+
+	private static final int DEFAULT_RENDERS = 100000;
+
+	/**
+	 * Discards all output.
+	 */
+	private static final class NullOutputStream extends OutputStream {
+		@Override
+		public void write(int b) {
+			// Discard
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			// Discard
+		}
+	}
+
+	private static void render(Document document) throws IOException {
+		document.div().clazz("row").__(div -> div
+			.span__("<Label & value>")
+			.text(1234)
+		);
+	}
+
+	private static long usedAfterGc() throws InterruptedException {
+		Runtime runtime = Runtime.getRuntime();
+		long used = Long.MAX_VALUE;
+		for(int i = 0; i < 5; i++) {
+			System.gc();
+			Thread.sleep(100);
+			used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+		}
+		return used;
+	}
+
+	/**
+	 * @return  The heap retained per suspended render, in bytes
+	 */
+	private static long measure(ExecutorService executor, int renders, boolean withDocument) throws Exception {
+		long before = usedAfterGc();
+		CountDownLatch started = new CountDownLatch(renders);
+		CountDownLatch resume = new CountDownLatch(1);
+		CountDownLatch finished = new CountDownLatch(renders);
+		List<Document> documents = new ArrayList<>(renders);
+		for(int i = 0; i < renders; i++) {
+			Document document = withDocument ? new Document(EncodingContext.DEFAULT, new NullOutputStream()) : null;
+			if(document != null) documents.add(document);
+			executor.execute(() -> {
+				try {
+					if(document != null) {
+						render(document);
+						document.flush();
+					}
+					started.countDown();
+					// Suspended, as if waiting on I/O
+					resume.await();
+					if(document != null) {
+						render(document);
+						document.flush();
+					}
+				} catch(IOException | InterruptedException e) {
+					throw new AssertionError(e);
+				} finally {
+					finished.countDown();
+				}
+			});
+		}
+		started.await();
+		long during = usedAfterGc();
+		resume.countDown();
+		finished.await();
+		documents.clear();
+		return (during - before) / renders;
+	}
+
+	public static void main(String[] args) throws Exception {
+		int renders = (args.length == 0) ? DEFAULT_RENDERS : Integer.parseInt(args[0]);
+		ExecutorService executor;
+		try {
+			executor = (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch(NoSuchMethodException e) {
+			System.err.println("Virtual threads are not available on Java " + System.getProperty("java.version"));
+			return;
+		}
+		try {
+			// Warm up
+			measure(executor, renders / 10, true);
+			long baseline = measure(executor, renders, false);
+			long total = measure(executor, renders, true);
+			System.out.println("Renders:                   " + renders);
+			System.out.println("Per suspended render:      " + total + " bytes");
+			System.out.println("Per idle document:         " + (total - baseline) + " bytes");
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+		}
+	}
+}
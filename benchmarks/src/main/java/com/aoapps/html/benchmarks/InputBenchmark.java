@@ -0,0 +1,87 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.benchmarks;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes {@link Data#FORM_FIELDS} <code>&lt;input&gt;</code> elements per invocation, reported per input.
+ * Run with {@code -prof gc}: with flyweights, {@code gc.alloc.rate.norm} should reach zero bytes per input once
+ * warmed-up.
+ *
+ * @author  AO Industries, Inc.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(Data.FORM_FIELDS)
+public class InputBenchmark {
+
+	/**
+	 * Reuse elements.
+	 *
+	 * @see  Document#setFlyweights(boolean)
+	 */
+	@Param({"false", "true"})
+	public boolean flyweights;
+
+	private final CountingWriter out = new CountingWriter();
+
+	private Document document;
+
+	@Setup
+	public void setup() {
+		out.reset();
+		document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.setFlyweights(flyweights);
+	}
+
+	@Benchmark
+	public CountingWriter inputs() throws IOException {
+		document.form("/submit").__(form -> {
+			for(int i = 0; i < Data.FORM_FIELDS; i++) {
+				form.input().text().name(Data.FIELD_NAMES[i]).value(Data.FIELD_VALUES[i]).__();
+			}
+		});
+		return out;
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.benchmarks;
+
+import static j2html.TagCreator.a;
+import static j2html.TagCreator.div;
+import static j2html.TagCreator.each;
+import static j2html.TagCreator.form;
+import static j2html.TagCreator.input;
+import static j2html.TagCreator.label;
+import static j2html.TagCreator.li;
+import static j2html.TagCreator.nav;
+import static j2html.TagCreator.span;
+import static j2html.TagCreator.table;
+import static j2html.TagCreator.tbody;
+import static j2html.TagCreator.td;
+import static j2html.TagCreator.text;
+import static j2html.TagCreator.tr;
+import static j2html.TagCreator.ul;
+
+import j2html.rendering.FlatHtml;
+import j2html.rendering.IndentedHtml;
+import j2html.tags.DomContent;
+import j2html.tags.specialized.DivTag;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Renders each {@link Page} through <a href="https://j2html.com/">j2html</a>.
+ * The tree is built on each render, as it would be for dynamic content.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class J2htmlPages {
+
+	/** Make no instances. */
+	private J2htmlPages() {throw new AssertionError();}
+
+	static void render(Page page, Appendable out, boolean indent) throws IOException {
+		DomContent content;
+		switch(page) {
+			case NAV :
+				content = nav();
+				break;
+			case TABLE :
+				content = table();
+				break;
+			case NESTING :
+				content = nesting(Data.NESTING_DEPTH);
+				break;
+			case FORM :
+				content = form();
+				break;
+			default :
+				throw new AssertionError(page);
+		}
+		if(indent) {
+			content.render(IndentedHtml.into(out));
+		} else {
+			content.render(FlatHtml.into(out));
+		}
+	}
+
+	static DomContent nav() {
+		return nav(
+			ul(
+				each(
+					IntStream.range(0, Data.NAV_LINKS).boxed(),
+					i -> li(a(Data.NAV_LABELS[i]).withHref(Data.NAV_HREFS[i]).withClass("nav-link"))
+				)
+			)
+		);
+	}
+
+	static DomContent table() {
+		return table(
+			tbody(
+				each(
+					Arrays.stream(Data.TABLE_CELLS),
+					cells -> tr(each(Arrays.stream(cells), cell -> td(cell)))
+				)
+			)
+		).withClass("grid");
+	}
+
+	static DivTag nesting(int depth) {
+		DivTag div = div(span(Integer.toString(depth))).withClass("level");
+		if(depth > 1) div.with(nesting(depth - 1));
+		return div;
+	}
+
+	static DomContent form() {
+		return form(
+			each(
+				IntStream.range(0, Data.FORM_FIELDS).boxed(),
+				i -> label(
+					text(Data.FIELD_LABELS[i]),
+					input().withType("text").withName(Data.FIELD_NAMES[i]).withValue(Data.FIELD_VALUES[i])
+				)
+			)
+		).withAction("/submit");
+	}
+}
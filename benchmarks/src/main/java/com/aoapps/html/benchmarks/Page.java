@@ -0,0 +1,66 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.benchmarks;
+
+/**
+ * The typical pages rendered by each benchmark.
+ *
+ * @author  AO Industries, Inc.
+ */
+public enum Page {
+
+	/**
+	 * A navigation bar of {@link Data#NAV_LINKS} links:
+	 * <code>nav &gt; ul &gt; li &gt; a</code>.
+	 */
+	NAV(2 + Data.NAV_LINKS * 2),
+
+	/**
+	 * A grid of {@link Data#TABLE_ROWS} rows by {@link Data#TABLE_COLUMNS} columns:
+	 * <code>table &gt; tbody &gt; tr &gt; td</code>.
+	 */
+	TABLE(2 + Data.TABLE_ROWS * (1 + Data.TABLE_COLUMNS)),
+
+	/**
+	 * {@link Data#NESTING_DEPTH} levels of nested <code>div</code>, each containing a <code>span</code>.
+	 */
+	NESTING(Data.NESTING_DEPTH * 2),
+
+	/**
+	 * A form of {@link Data#FORM_FIELDS} labeled text inputs.
+	 */
+	FORM(1 + Data.FORM_FIELDS * 2);
+
+	private final int elements;
+
+	private Page(int elements) {
+		this.elements = elements;
+	}
+
+	/**
+	 * Gets the number of elements written for this page.
+	 */
+	public int getElements() {
+		return elements;
+	}
+}
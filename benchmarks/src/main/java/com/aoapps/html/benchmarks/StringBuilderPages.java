@@ -0,0 +1,128 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.benchmarks;
+
+/**
+ * Renders each {@link Page} by hand into a {@link StringBuilder}, as the baseline.
+ * The markup matches HTML5 in SGML serialization without indentation.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class StringBuilderPages {
+
+	/** Make no instances. */
+	private StringBuilderPages() {throw new AssertionError();}
+
+	static void render(Page page, StringBuilder sb) {
+		switch(page) {
+			case NAV :
+				nav(sb);
+				break;
+			case TABLE :
+				table(sb);
+				break;
+			case NESTING :
+				nesting(sb, Data.NESTING_DEPTH);
+				break;
+			case FORM :
+				form(sb);
+				break;
+			default :
+				throw new AssertionError(page);
+		}
+	}
+
+	/**
+	 * Minimal escaping, sufficient for both text and double-quoted attribute values.
+	 */
+	private static void escape(String value, StringBuilder sb) {
+		for(int i = 0, len = value.length(); i < len; i++) {
+			char ch = value.charAt(i);
+			switch(ch) {
+				case '<' :
+					sb.append("&lt;");
+					break;
+				case '>' :
+					sb.append("&gt;");
+					break;
+				case '&' :
+					sb.append("&amp;");
+					break;
+				case '"' :
+					sb.append("&quot;");
+					break;
+				case '\'' :
+					sb.append("&#39;");
+					break;
+				default :
+					sb.append(ch);
+			}
+		}
+	}
+
+	static void nav(StringBuilder sb) {
+		sb.append("<nav><ul>");
+		for(int i = 0; i < Data.NAV_LINKS; i++) {
+			sb.append("<li><a href=\"");
+			escape(Data.NAV_HREFS[i], sb);
+			sb.append("\" class=\"nav-link\">");
+			escape(Data.NAV_LABELS[i], sb);
+			sb.append("</a></li>");
+		}
+		sb.append("</ul></nav>");
+	}
+
+	static void table(StringBuilder sb) {
+		sb.append("<table class=\"grid\"><tbody>");
+		for(String[] cells : Data.TABLE_CELLS) {
+			sb.append("<tr>");
+			for(String cell : cells) {
+				sb.append("<td>");
+				escape(cell, sb);
+				sb.append("</td>");
+			}
+			sb.append("</tr>");
+		}
+		sb.append("</tbody></table>");
+	}
+
+	static void nesting(StringBuilder sb, int depth) {
+		sb.append("<div class=\"level\"><span>").append(depth).append("</span>");
+		if(depth > 1) nesting(sb, depth - 1);
+		sb.append("</div>");
+	}
+
+	static void form(StringBuilder sb) {
+		sb.append("<form action=\"/submit\">");
+		for(int i = 0; i < Data.FORM_FIELDS; i++) {
+			sb.append("<label>");
+			escape(Data.FIELD_LABELS[i], sb);
+			sb.append("<input type=\"text\" name=\"");
+			escape(Data.FIELD_NAMES[i], sb);
+			sb.append("\" value=\"");
+			escape(Data.FIELD_VALUES[i], sb);
+			sb.append("\"></label>");
+		}
+		sb.append("</form>");
+	}
+}
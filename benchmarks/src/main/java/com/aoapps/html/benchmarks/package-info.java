@@ -0,0 +1,51 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+/**
+ * <a href="https://github.com/openjdk/jmh">JMH</a> benchmarks for
+ * <a href="https://oss.aoapps.com/fluent-html/">AO Fluent HTML</a>.
+ * <p>
+ * Each page from {@link com.aoapps.html.benchmarks.Page} is rendered through
+ * {@link com.aoapps.html.Document} for every
+ * {@link com.aoapps.encoding.Serialization} and {@link com.aoapps.encoding.Doctype},
+ * with indentation both on and off, by {@link com.aoapps.html.benchmarks.DocumentBenchmark}.
+ * The same pages are rendered by a hand-written {@link java.lang.StringBuilder} baseline,
+ * <a href="https://github.com/xmlet/HtmlFlow">HtmlFlow</a>, and
+ * <a href="https://j2html.com/">j2html</a> in {@link com.aoapps.html.benchmarks.AlternativesBenchmark}.
+ * </p>
+ * <p>
+ * Build and run with {@code -prof gc} for allocation rates:
+ * </p>
+ * <pre>mvn package
+ * java -jar target/benchmarks.jar -prof gc</pre>
+ * <p>
+ * Results are reported per invocation along with the auxiliary counters of
+ * {@link com.aoapps.html.benchmarks.Counters}, which provide the number of elements
+ * and bytes written.  Divide by these for time and allocation per element and per byte.
+ * </p>
+ * <p>
+ * {@link com.aoapps.html.benchmarks.IdleDocumentBenchmark} is run directly instead of through JMH, and measures the
+ * heap retained by many suspended renders.
+ * </p>
+ */
+package com.aoapps.html.benchmarks;
@@ -38,10 +38,44 @@ final public class A<
 > extends
 	AnyA<Document, PC, A<PC>, A_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private A_c<PC> flyweight_c;
+
 	A(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public A<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public A<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/links.html#attr-hyperlink-href">4.6.2 Links created by a and area elements: href</a>.
+	 *
+	 * @param  href  Written as-is, so should be from
+	 *               {@link EncodedAttributeValue#valueOfURL(com.aoapps.encoding.EncodingContext, java.lang.CharSequence)}
+	 *
+	 * @throws  IllegalArgumentException  when encoded for a different encoding context than the document
+	 */
+	public A<PC> href(EncodedAttributeValue href) throws IOException {
+		document.writeAttribute(" href=\"", href);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected A<PC> writeOpen(Writer out) throws IOException {
@@ -50,6 +84,7 @@ final public class A<
 
 	@Override
 	protected A_c<PC> new_c() {
-		return new A_c<>(this);
+		if(flyweight_c == null) flyweight_c = new A_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
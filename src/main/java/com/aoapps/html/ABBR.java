@@ -38,6 +38,10 @@ final public class ABBR<
 > extends
 	AnyABBR<Document, PC, ABBR<PC>, ABBR__<PC>, ABBR_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private ABBR__<PC> flyweight__;
+	private ABBR_c<PC> flyweight_c;
+
 	ABBR(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class ABBR<
 
 	@Override
 	protected ABBR__<PC> new__() {
-		return new ABBR__<>(this);
+		if(flyweight__ == null) flyweight__ = new ABBR__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected ABBR_c<PC> new_c() {
-		return new ABBR_c<>(this);
+		if(flyweight_c == null) flyweight_c = new ABBR_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
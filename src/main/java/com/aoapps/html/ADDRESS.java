@@ -38,6 +38,10 @@ final public class ADDRESS<
 > extends
 	AnyADDRESS<Document, PC, ADDRESS<PC>, ADDRESS__<PC>, ADDRESS_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private ADDRESS__<PC> flyweight__;
+	private ADDRESS_c<PC> flyweight_c;
+
 	ADDRESS(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class ADDRESS<
 
 	@Override
 	protected ADDRESS__<PC> new__() {
-		return new ADDRESS__<>(this);
+		if(flyweight__ == null) flyweight__ = new ADDRESS__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected ADDRESS_c<PC> new_c() {
-		return new ADDRESS_c<>(this);
+		if(flyweight_c == null) flyweight_c = new ADDRESS_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
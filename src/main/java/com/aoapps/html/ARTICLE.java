@@ -38,6 +38,10 @@ final public class ARTICLE<
 > extends
 	AnyARTICLE<Document, PC, ARTICLE<PC>, ARTICLE__<PC>, ARTICLE_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private ARTICLE__<PC> flyweight__;
+	private ARTICLE_c<PC> flyweight_c;
+
 	ARTICLE(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class ARTICLE<
 
 	@Override
 	protected ARTICLE__<PC> new__() {
-		return new ARTICLE__<>(this);
+		if(flyweight__ == null) flyweight__ = new ARTICLE__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected ARTICLE_c<PC> new_c() {
-		return new ARTICLE_c<>(this);
+		if(flyweight_c == null) flyweight_c = new ARTICLE_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,6 +38,10 @@ final public class ASIDE<
 > extends
 	AnyASIDE<Document, PC, ASIDE<PC>, ASIDE__<PC>, ASIDE_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private ASIDE__<PC> flyweight__;
+	private ASIDE_c<PC> flyweight_c;
+
 	ASIDE(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class ASIDE<
 
 	@Override
 	protected ASIDE__<PC> new__() {
-		return new ASIDE__<>(this);
+		if(flyweight__ == null) flyweight__ = new ASIDE__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected ASIDE_c<PC> new_c() {
-		return new ASIDE_c<>(this);
+		if(flyweight_c == null) flyweight_c = new ASIDE_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -93,7 +93,9 @@ public interface AnyContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new HTML<>(document, pc).writeOpen(document.getUnsafe(null));
+		HTML<__> html = document.getFlyweight(HTML.class, pc);
+		if(html == null) html = document.putFlyweight(new HTML<>(document, pc));
+		return html.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -110,6 +112,21 @@ public interface AnyContent<
 		return html().__(html);
 	}
 
+	/**
+	 * Creates a html element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/semantics.html#the-html-element">4.1.1 The html element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ html__(C context, ContextConsumerE<? super HTML__<__>, ? super C, Ex> html) throws IOException, Ex {
+		return html().__(getDocument().withContext(html, context));
+	}
+
 	@Override
 	default HTML_c<__> html_c() throws IOException {
 		return html()._c();
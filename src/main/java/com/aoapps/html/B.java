@@ -38,6 +38,10 @@ final public class B<
 > extends
 	AnyB<Document, PC, B<PC>, B__<PC>, B_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private B__<PC> flyweight__;
+	private B_c<PC> flyweight_c;
+
 	B(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class B<
 
 	@Override
 	protected B__<PC> new__() {
-		return new B__<>(this);
+		if(flyweight__ == null) flyweight__ = new B__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected B_c<PC> new_c() {
-		return new B_c<>(this);
+		if(flyweight_c == null) flyweight_c = new B_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
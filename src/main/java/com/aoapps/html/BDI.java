@@ -38,6 +38,10 @@ final public class BDI<
 > extends
 	AnyBDI<Document, PC, BDI<PC>, BDI__<PC>, BDI_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private BDI__<PC> flyweight__;
+	private BDI_c<PC> flyweight_c;
+
 	BDI(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class BDI<
 
 	@Override
 	protected BDI__<PC> new__() {
-		return new BDI__<>(this);
+		if(flyweight__ == null) flyweight__ = new BDI__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected BDI_c<PC> new_c() {
-		return new BDI_c<>(this);
+		if(flyweight_c == null) flyweight_c = new BDI_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,6 +38,10 @@ final public class BDO<
 > extends
 	AnyBDO<Document, PC, BDO<PC>, BDO__<PC>, BDO_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private BDO__<PC> flyweight__;
+	private BDO_c<PC> flyweight_c;
+
 	BDO(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class BDO<
 
 	@Override
 	protected BDO__<PC> new__() {
-		return new BDO__<>(this);
+		if(flyweight__ == null) flyweight__ = new BDO__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected BDO_c<PC> new_c() {
-		return new BDO_c<>(this);
+		if(flyweight_c == null) flyweight_c = new BDO_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -41,6 +41,10 @@ final public class BLOCKQUOTE<
 > extends
 	AnyBLOCKQUOTE<Document, PC, BLOCKQUOTE<PC>, BLOCKQUOTE__<PC>, BLOCKQUOTE_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private BLOCKQUOTE__<PC> flyweight__;
+	private BLOCKQUOTE_c<PC> flyweight_c;
+
 	BLOCKQUOTE(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -53,11 +57,13 @@ final public class BLOCKQUOTE<
 
 	@Override
 	protected BLOCKQUOTE__<PC> new__() {
-		return new BLOCKQUOTE__<>(this);
+		if(flyweight__ == null) flyweight__ = new BLOCKQUOTE__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected BLOCKQUOTE_c<PC> new_c() {
-		return new BLOCKQUOTE_c<>(this);
+		if(flyweight_c == null) flyweight_c = new BLOCKQUOTE_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
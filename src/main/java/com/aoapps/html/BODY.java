@@ -42,6 +42,10 @@ final public class BODY<
 > extends
 	AnyBODY<Document, PC, BODY<PC>, BODY__<PC>, BODY_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private BODY__<PC> flyweight__;
+	private BODY_c<PC> flyweight_c;
+
 	BODY(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -54,11 +58,13 @@ final public class BODY<
 
 	@Override
 	protected BODY__<PC> new__() {
-		return new BODY__<>(this);
+		if(flyweight__ == null) flyweight__ = new BODY__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected BODY_c<PC> new_c() {
-		return new BODY_c<>(this);
+		if(flyweight_c == null) flyweight_c = new BODY_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -0,0 +1,132 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A shared pool of the buffers used while writing.
+ * <p>
+ * Documents take buffers on first write and give them back on flush, so a document that is idle, such as while its
+ * render is waiting on I/O, holds no buffers.  Only buffers of the default sizes are pooled; others are allocated and
+ * left to be garbage collected.
+ * </p>
+ * <p>
+ * This class is thread-safe, and does not lock.
+ * </p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class Buffers {
+
+	/**
+	 * Make no instances.
+	 */
+	private Buffers() {
+		throw new AssertionError();
+	}
+
+	/**
+	 * The maximum number of released buffers kept for reuse, per size.
+	 */
+	private static final int MAX_POOL_SIZE = 256;
+
+	private static final class Pool<B> {
+
+		private final ConcurrentLinkedQueue<B> queue = new ConcurrentLinkedQueue<>();
+
+		private final AtomicInteger size = new AtomicInteger();
+
+		/**
+		 * @return  A released buffer or {@code null} when none
+		 */
+		private B poll() {
+			B buffer = queue.poll();
+			if(buffer != null) size.decrementAndGet();
+			return buffer;
+		}
+
+		private void offer(B buffer) {
+			if(size.incrementAndGet() <= MAX_POOL_SIZE) {
+				queue.add(buffer);
+			} else {
+				size.decrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Scratch space for escaping and for copying strings, of {@link Escaper#CHARS_SIZE}.
+	 */
+	private static final Pool<char[]> smallChars = new Pool<>();
+
+	private static final Pool<char[]> chunkChars = new Pool<>();
+
+	/**
+	 * Scratch space for formatting numbers, of {@link Numbers#MAX_CHARS}.
+	 */
+	private static final Pool<char[]> numberChars = new Pool<>();
+
+	private static final Pool<byte[]> chunkBytes = new Pool<>();
+
+	private static Pool<char[]> getCharsPool(int size) {
+		if(size == Escaper.CHARS_SIZE) return smallChars;
+		if(size == ChunkWriter.DEFAULT_CHUNK_SIZE) return chunkChars;
+		if(size == Numbers.MAX_CHARS) return numberChars;
+		return null;
+	}
+
+	/**
+	 * Takes a character buffer of the given size from the pool, or allocates a new buffer.  The contents are not
+	 * cleared.
+	 */
+	static char[] getChars(int size) {
+		Pool<char[]> pool = getCharsPool(size);
+		char[] buffer = (pool == null) ? null : pool.poll();
+		return (buffer == null) ? new char[size] : buffer;
+	}
+
+	/**
+	 * Gives a character buffer back to the pool.  The buffer must not be used after being released.
+	 */
+	static void release(char[] buffer) {
+		Pool<char[]> pool = getCharsPool(buffer.length);
+		if(pool != null) pool.offer(buffer);
+	}
+
+	/**
+	 * Takes a byte buffer of the given size from the pool, or allocates a new buffer.  The contents are not cleared.
+	 */
+	static byte[] getBytes(int size) {
+		byte[] buffer = (size == Utf8Writer.DEFAULT_BUFFER_SIZE) ? chunkBytes.poll() : null;
+		return (buffer == null) ? new byte[size] : buffer;
+	}
+
+	/**
+	 * Gives a byte buffer back to the pool.  The buffer must not be used after being released.
+	 */
+	static void release(byte[] buffer) {
+		if(buffer.length == Utf8Writer.DEFAULT_BUFFER_SIZE) chunkBytes.offer(buffer);
+	}
+}
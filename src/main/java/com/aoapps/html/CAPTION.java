@@ -38,6 +38,10 @@ final public class CAPTION<
 > extends
 	AnyCAPTION<Document, PC, CAPTION<PC>, CAPTION__<PC>, CAPTION_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private CAPTION__<PC> flyweight__;
+	private CAPTION_c<PC> flyweight_c;
+
 	CAPTION(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class CAPTION<
 
 	@Override
 	protected CAPTION__<PC> new__() {
-		return new CAPTION__<>(this);
+		if(flyweight__ == null) flyweight__ = new CAPTION__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected CAPTION_c<PC> new_c() {
-		return new CAPTION_c<>(this);
+		if(flyweight_c == null) flyweight_c = new CAPTION_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,6 +38,10 @@ final public class CITE<
 > extends
 	AnyCITE<Document, PC, CITE<PC>, CITE__<PC>, CITE_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private CITE__<PC> flyweight__;
+	private CITE_c<PC> flyweight_c;
+
 	CITE(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class CITE<
 
 	@Override
 	protected CITE__<PC> new__() {
-		return new CITE__<>(this);
+		if(flyweight__ == null) flyweight__ = new CITE__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected CITE_c<PC> new_c() {
-		return new CITE_c<>(this);
+		if(flyweight_c == null) flyweight_c = new CITE_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,6 +38,10 @@ final public class CODE<
 > extends
 	AnyCODE<Document, PC, CODE<PC>, CODE__<PC>, CODE_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private CODE__<PC> flyweight__;
+	private CODE_c<PC> flyweight_c;
+
 	CODE(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class CODE<
 
 	@Override
 	protected CODE__<PC> new__() {
-		return new CODE__<>(this);
+		if(flyweight__ == null) flyweight__ = new CODE__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected CODE_c<PC> new_c() {
-		return new CODE_c<>(this);
+		if(flyweight_c == null) flyweight_c = new CODE_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
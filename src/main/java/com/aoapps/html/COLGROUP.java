@@ -38,6 +38,10 @@ final public class COLGROUP<
 > extends
 	AnyCOLGROUP<Document, PC, COLGROUP<PC>, COLGROUP__<PC>, COLGROUP_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private COLGROUP__<PC> flyweight__;
+	private COLGROUP_c<PC> flyweight_c;
+
 	COLGROUP(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class COLGROUP<
 
 	@Override
 	protected COLGROUP__<PC> new__() {
-		return new COLGROUP__<>(this);
+		if(flyweight__ == null) flyweight__ = new COLGROUP__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected COLGROUP_c<PC> new_c() {
-		return new COLGROUP_c<>(this);
+		if(flyweight_c == null) flyweight_c = new COLGROUP_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
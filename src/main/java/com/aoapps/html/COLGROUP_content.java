@@ -54,7 +54,9 @@ public interface COLGROUP_content<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new COL<>(document, pc).writeOpen(document.getUnsafe(null));
+		COL<__> col = document.getFlyweight(COL.class, pc);
+		if(col == null) col = document.putFlyweight(new COL<>(document, pc));
+		return col.writeOpen(document.getUnsafe(null));
 	}
 	// </editor-fold>
 	// Inherited: TEMPLATE
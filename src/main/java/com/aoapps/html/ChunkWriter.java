@@ -0,0 +1,190 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+/**
+ * Coalesces the many small writes of a document into a reusable character buffer, writing to the wrapped writer only
+ * in whole chunks.  Writes larger than the space remaining fill the buffer, then write any further whole chunks
+ * directly, so every write to the wrapped writer, except the last on flush, is a multiple of the chunk size.
+ * <p>
+ * Writing to a {@link PrintWriter} is one synchronized write per chunk instead of one per tag, attribute, and text.
+ * Since a {@link PrintWriter} swallows exceptions, its error state is checked on {@link #flush()}, and reported as an
+ * {@link IOException}.
+ * </p>
+ * <p>
+ * The buffer is taken from {@link Buffers} on first write and given back on flush.
+ * </p>
+ * <p>
+ * This is not thread-safe, and does not synchronize.
+ * </p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class ChunkWriter extends Writer {
+
+	static final int DEFAULT_CHUNK_SIZE = 8192;
+
+	private final Writer out;
+
+	private final int chunkSize;
+
+	private char[] buf;
+
+	private int count;
+
+	ChunkWriter(Writer out, int chunkSize) {
+		if(chunkSize < 1) throw new IllegalArgumentException("chunkSize < 1: " + chunkSize);
+		this.out = out;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Gets the wrapped writer.
+	 */
+	Writer getOut() {
+		return out;
+	}
+
+	/**
+	 * Writes the buffered characters, which is a whole chunk unless flushing.
+	 */
+	private void flushBuffer() throws IOException {
+		if(count > 0) {
+			out.write(buf, 0, count);
+			count = 0;
+		}
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		if(buf == null) buf = Buffers.getChars(chunkSize);
+		else if(count == chunkSize) flushBuffer();
+		buf[count++] = (char)c;
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		if(buf == null) buf = Buffers.getChars(chunkSize);
+		int space = chunkSize - count;
+		if(len < space) {
+			System.arraycopy(cbuf, off, buf, count, len);
+			count += len;
+		} else {
+			System.arraycopy(cbuf, off, buf, count, space);
+			count = chunkSize;
+			flushBuffer();
+			off += space;
+			len -= space;
+			int direct = len - (len % chunkSize);
+			if(direct > 0) {
+				out.write(cbuf, off, direct);
+				off += direct;
+				len -= direct;
+			}
+			System.arraycopy(cbuf, off, buf, 0, len);
+			count = len;
+		}
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		if(buf == null) buf = Buffers.getChars(chunkSize);
+		int space = chunkSize - count;
+		if(len < space) {
+			str.getChars(off, off + len, buf, count);
+			count += len;
+		} else {
+			str.getChars(off, off + space, buf, count);
+			count = chunkSize;
+			flushBuffer();
+			off += space;
+			len -= space;
+			int direct = len - (len % chunkSize);
+			if(direct > 0) {
+				out.write(str, off, direct);
+				off += direct;
+				len -= direct;
+			}
+			str.getChars(off, off + len, buf, 0);
+			count = len;
+		}
+	}
+
+	@Override
+	public void write(String str) throws IOException {
+		write(str, 0, str.length());
+	}
+
+	@Override
+	public ChunkWriter append(CharSequence csq) throws IOException {
+		String str = String.valueOf(csq);
+		write(str, 0, str.length());
+		return this;
+	}
+
+	@Override
+	public ChunkWriter append(CharSequence csq, int start, int end) throws IOException {
+		if(csq == null) csq = "null";
+		write(csq.subSequence(start, end).toString());
+		return this;
+	}
+
+	@Override
+	public ChunkWriter append(char c) throws IOException {
+		write(c);
+		return this;
+	}
+
+	/**
+	 * Writes the buffered characters and gives the buffer back to the pool, then flushes the wrapped writer.
+	 *
+	 * @throws  IOException  when the wrapped writer is a {@link PrintWriter} that has encountered an error
+	 */
+	@Override
+	public void flush() throws IOException {
+		flushBuffer();
+		char[] b = buf;
+		if(b != null) {
+			buf = null;
+			Buffers.release(b);
+		}
+		if(out instanceof PrintWriter) {
+			// Also flushes
+			if(((PrintWriter)out).checkError()) throw new IOException("Error writing to PrintWriter");
+		} else {
+			out.flush();
+		}
+	}
+
+	/**
+	 * Flushes.  The wrapped writer is not closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		flush();
+	}
+}
@@ -0,0 +1,297 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import com.aoapps.encoding.TextInXhtmlAttributeEncoder;
+import com.aoapps.lang.Strings;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Reusable column definitions for rendering many table rows in bulk.
+ * <p>
+ * Each row is written with pre-encoded markup joining the end of one cell to the start of the next, including the
+ * cached attributes of each column, so a row costs one bulk write per cell plus its values.  No elements, content
+ * models, or lambdas are created per row.  Values that are {@code null} leave the cell empty, integers and doubles are
+ * formatted directly, and everything else is written as {@link Document#text(java.lang.Object)}.
+ * </p>
+ * <p>
+ * When indenting, rows are written through the regular element factories instead.
+ * </p>
+ * <p>
+ * This class is immutable and thread-safe, and is intended to be created once and reused.
+ * </p>
+ * <p>
+ * Class attributes are trimmed, and omitted when empty, the same as set on an element.
+ * </p>
+ * <pre>static final Columns&lt;Order&gt; ORDER_COLUMNS = Columns.builder(Order.class)
+ *   .property("id")
+ *   .property("amount", "numeric")
+ *   .column(order -&gt; order.getCustomer().getName())
+ *   .build();
+ * ...
+ * table.tbody__(orders, ORDER_COLUMNS);</pre>
+ *
+ * @param  <R>  The type of row
+ *
+ * @see  Union_TBODY_THEAD_TFOOT#rows__(java.lang.Iterable, com.aoapps.html.Columns)
+ * @see  TABLE_content#tbody__(java.lang.Iterable, com.aoapps.html.Columns)
+ *
+ * @author  AO Industries, Inc.
+ */
+final public class Columns<R> {
+
+	/**
+	 * Starts defining columns for the given type of row.
+	 */
+	public static <R> Builder<R> builder(Class<R> type) {
+		return new Builder<>(type);
+	}
+
+	/**
+	 * Defines columns, in order.
+	 *
+	 * @param  <R>  The type of row
+	 */
+	final public static class Builder<R> {
+
+		private final Class<R> type;
+
+		private final List<Column<R>> columns = new ArrayList<>();
+
+		private int batchSize;
+
+		private Builder(Class<R> type) {
+			this.type = Objects.requireNonNull(type);
+		}
+
+		/**
+		 * Adds a column with the given class attribute, or none when {@code null}.
+		 */
+		public Builder<R> column(String clazz, Function<? super R, ?> value) {
+			columns.add(new Column<>(clazz, Objects.requireNonNull(value), null));
+			return this;
+		}
+
+		/**
+		 * Adds a column without attributes.
+		 */
+		public Builder<R> column(Function<? super R, ?> value) {
+			return column(null, value);
+		}
+
+		/**
+		 * Adds a column for a property, with the given class attribute, or none when {@code null}.  The accessor is
+		 * resolved once, as either a record-style accessor with the same name as the property, or a JavaBeans getter.
+		 *
+		 * @param  property  The name of the property
+		 * @param  clazz     The class attribute of each cell
+		 *
+		 * @throws  IllegalArgumentException  when no public accessor found
+		 */
+		public Builder<R> property(String property, String clazz) {
+			columns.add(new Column<>(clazz, null, findAccessor(type, property)));
+			return this;
+		}
+
+		/**
+		 * Adds a column for a property, without attributes.
+		 *
+		 * @throws  IllegalArgumentException  when no public accessor found
+		 *
+		 * @see  #property(java.lang.String, java.lang.String)
+		 */
+		public Builder<R> property(String property) {
+			return property(property, null);
+		}
+
+		/**
+		 * Flushes the output after each given number of rows, or never when {@code 0}.  Defaults to {@code 0}.
+		 */
+		public Builder<R> batchSize(int batchSize) {
+			if(batchSize < 0) throw new IllegalArgumentException("batchSize < 0: " + batchSize);
+			this.batchSize = batchSize;
+			return this;
+		}
+
+		public Columns<R> build() {
+			return new Columns<>(columns, batchSize);
+		}
+	}
+
+	private static Method findMethod(Class<?> type, String name) {
+		try {
+			Method method = type.getMethod(name);
+			if(!Modifier.isStatic(method.getModifiers()) && method.getReturnType() != void.class) return method;
+		} catch(NoSuchMethodException e) {
+			// Try next
+		}
+		return null;
+	}
+
+	/**
+	 * Finds a property accessor, adapted to {@code (Object)Object}.
+	 */
+	private static MethodHandle findAccessor(Class<?> type, String property) {
+		if(property.isEmpty()) throw new IllegalArgumentException("Empty property");
+		String cap = property.substring(0, 1).toUpperCase(Locale.ROOT) + property.substring(1);
+		Method method = findMethod(type, property);
+		if(method == null) method = findMethod(type, "get" + cap);
+		if(method == null) {
+			method = findMethod(type, "is" + cap);
+			if(method != null && method.getReturnType() != boolean.class) method = null;
+		}
+		if(method == null) throw new IllegalArgumentException("No public accessor for property \"" + property + "\" in " + type.getName());
+		try {
+			return MethodHandles.publicLookup()
+				.unreflect(method)
+				.asType(MethodType.methodType(Object.class, Object.class));
+		} catch(IllegalAccessException e) {
+			throw new IllegalArgumentException("Accessor not accessible: " + method, e);
+		}
+	}
+
+	private static final class Column<R> {
+
+		private final String clazz;
+
+		private final Function<? super R, ?> function;
+
+		private final MethodHandle accessor;
+
+		private Column(String clazz, Function<? super R, ?> function, MethodHandle accessor) {
+			this.clazz = Strings.trimNullIfEmpty(clazz);
+			this.function = function;
+			this.accessor = accessor;
+		}
+
+		private Object getValue(R row) {
+			if(function != null) return function.apply(row);
+			try {
+				return (Object)accessor.invokeExact((Object)row);
+			} catch(RuntimeException | Error e) {
+				throw e;
+			} catch(Throwable t) {
+				throw new UndeclaredThrowableException(t);
+			}
+		}
+	}
+
+	private final List<Column<R>> columns;
+
+	/**
+	 * The markup between values, one more than the number of columns: {@code <tr><td>}, {@code </td><td>}, ...,
+	 * {@code </td></tr>}.
+	 */
+	private final Fragment[] between;
+
+	private final int batchSize;
+
+	private Columns(List<Column<R>> columns, int batchSize) {
+		this.columns = Collections.unmodifiableList(new ArrayList<>(columns));
+		this.batchSize = batchSize;
+		int size = columns.size();
+		between = new Fragment[size + 1];
+		StringBuilder markup = new StringBuilder("<tr>");
+		for(int i = 0; i < size; i++) {
+			markup.append("<td");
+			String clazz = columns.get(i).clazz;
+			if(clazz != null) {
+				markup.append(" class=\"");
+				try {
+					TextInXhtmlAttributeEncoder.encodeTextInXhtmlAttribute(clazz, markup);
+				} catch(IOException e) {
+					throw new IllegalArgumentException(e);
+				}
+				markup.append('"');
+			}
+			markup.append('>');
+			between[i] = new Fragment(markup.toString());
+			markup.setLength(0);
+			markup.append("</td>");
+		}
+		markup.append("</tr>");
+		between[size] = new Fragment(markup.toString());
+	}
+
+	private static void writeValue(Document document, Object value) throws IOException {
+		if(
+			value instanceof Integer
+			|| value instanceof Long
+			|| value instanceof Short
+			|| value instanceof Byte
+		) {
+			Numbers.write(((Number)value).longValue(), document.getNumberChars(), document.getUnsafe(false));
+		} else if(value instanceof Double) {
+			Numbers.write((Double)value, document.getNumberChars(), document.getUnsafe(false));
+		} else if(value != null) {
+			document.text(value);
+		}
+	}
+
+	/**
+	 * Writes a <code>tr</code> for each row.
+	 */
+	<__ extends Union_TBODY_THEAD_TFOOT<__>> void write(__ pc, Iterator<? extends R> rows) throws IOException {
+		Document document = pc.getDocument();
+		List<Column<R>> cols = columns;
+		int size = cols.size();
+		int count = 0;
+		while(rows.hasNext()) {
+			R row = rows.next();
+			if(document.getIndent()) {
+				pc.tr__(content -> {
+					for(Column<R> column : cols) {
+						TD<TR__<__>> td = content.td();
+						if(column.clazz != null) td.clazz(column.clazz);
+						Object value = column.getValue(row);
+						if(value == null) td.__();
+						else td.__(value);
+					}
+				});
+			} else {
+				for(int i = 0; i < size; i++) {
+					document.write(between[i], false);
+					writeValue(document, cols.get(i).getValue(row));
+				}
+				document.write(between[size], false);
+			}
+			if(batchSize != 0 && ++count == batchSize) {
+				count = 0;
+				document.getUnsafe(null).flush();
+			}
+		}
+	}
+}
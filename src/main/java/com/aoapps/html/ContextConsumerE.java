@@ -0,0 +1,49 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import java.io.IOException;
+
+/**
+ * The body of an element that is given a context, such as the value of the current row, along with the content model.
+ * <p>
+ * Since the context is passed explicitly, a body need not capture loop variables.  It may then be a non-capturing
+ * lambda or a constant, which is not allocated per element.
+ * </p>
+ * <pre>static final ContextConsumerE&lt;TR__&lt;?&gt;, Order, RuntimeException&gt; ORDER_ROW = (tr, order) -&gt; tr
+ *   .td__(order.getId())
+ *   .td__(order.getCustomer());
+ * ...
+ * for(Order order : orders) tbody.tr__(order, ORDER_ROW);</pre>
+ *
+ * @param  <T>   The content model
+ * @param  <C>   The type of context
+ * @param  <Ex>  An arbitrary exception type that may be thrown
+ *
+ * @author  AO Industries, Inc.
+ */
+@FunctionalInterface
+public interface ContextConsumerE<T, C, Ex extends Throwable> {
+
+	void accept(T t, C context) throws IOException, Ex;
+}
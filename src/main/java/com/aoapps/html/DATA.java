@@ -38,6 +38,10 @@ final public class DATA<
 > extends
 	AnyDATA<Document, PC, DATA<PC>, DATA__<PC>, DATA_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private DATA__<PC> flyweight__;
+	private DATA_c<PC> flyweight_c;
+
 	DATA(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class DATA<
 
 	@Override
 	protected DATA__<PC> new__() {
-		return new DATA__<>(this);
+		if(flyweight__ == null) flyweight__ = new DATA__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected DATA_c<PC> new_c() {
-		return new DATA_c<>(this);
+		if(flyweight_c == null) flyweight_c = new DATA_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
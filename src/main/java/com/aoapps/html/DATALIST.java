@@ -38,6 +38,10 @@ final public class DATALIST<
 > extends
 	AnyDATALIST<Document, PC, DATALIST<PC>, DATALIST__<PC>, DATALIST_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private DATALIST__<PC> flyweight__;
+	private DATALIST_c<PC> flyweight_c;
+
 	DATALIST(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class DATALIST<
 
 	@Override
 	protected DATALIST__<PC> new__() {
-		return new DATALIST__<>(this);
+		if(flyweight__ == null) flyweight__ = new DATALIST__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected DATALIST_c<PC> new_c() {
-		return new DATALIST_c<>(this);
+		if(flyweight_c == null) flyweight_c = new DATALIST_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
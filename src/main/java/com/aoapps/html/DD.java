@@ -38,23 +38,47 @@ final public class DD<
 > extends
 	AnyDD<Document, PC, DD<PC>, DD__<PC>, DD_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private DD__<PC> flyweight__;
+	private DD_c<PC> flyweight_c;
+
 	DD(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public DD<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public DD<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected DD<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.DD, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected DD__<PC> new__() {
-		return new DD__<>(this);
+		if(flyweight__ == null) flyweight__ = new DD__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected DD_c<PC> new_c() {
-		return new DD_c<>(this);
+		if(flyweight_c == null) flyweight_c = new DD_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
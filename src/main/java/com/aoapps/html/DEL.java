@@ -38,6 +38,9 @@ final public class DEL<
 > extends
 	AnyDEL<Document, PC, DEL<PC>, DEL_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private DEL_c<PC> flyweight_c;
+
 	DEL(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,6 +53,7 @@ final public class DEL<
 
 	@Override
 	protected DEL_c<PC> new_c() {
-		return new DEL_c<>(this);
+		if(flyweight_c == null) flyweight_c = new DEL_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
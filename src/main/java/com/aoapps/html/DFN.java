@@ -38,6 +38,10 @@ final public class DFN<
 > extends
 	AnyDFN<Document, PC, DFN<PC>, DFN__<PC>, DFN_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private DFN__<PC> flyweight__;
+	private DFN_c<PC> flyweight_c;
+
 	DFN(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class DFN<
 
 	@Override
 	protected DFN__<PC> new__() {
-		return new DFN__<>(this);
+		if(flyweight__ == null) flyweight__ = new DFN__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected DFN_c<PC> new_c() {
-		return new DFN_c<>(this);
+		if(flyweight_c == null) flyweight_c = new DFN_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
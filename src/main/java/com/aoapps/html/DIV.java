@@ -23,6 +23,7 @@
 package com.aoapps.html;
 
 import com.aoapps.html.any.AnyDIV;
+import com.aoapps.lang.io.function.IOConsumerE;
 import java.io.IOException;
 import java.io.Writer;
 
@@ -38,23 +39,74 @@ final public class DIV<
 > extends
 	AnyDIV<Document, PC, DIV<PC>, DIV__<PC>, DIV_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private DIV__<PC> flyweight__;
+	private DIV_c<PC> flyweight_c;
+
 	DIV(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public DIV<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public DIV<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected DIV<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.DIV, out) ? this : super.writeOpen(out);
+	}
+
+	/**
+	 * Renders the content of this element asynchronously, on a thread from {@link Document#getAsyncExecutor()}, into
+	 * a private buffer at the current indentation depth.  The rest of the page continues immediately, and its output is
+	 * buffered behind this element until all earlier regions are complete.  Each region is then written in document
+	 * order, so the time to render a set of independent regions tracks the slowest region instead of their sum.
+	 * <p>
+	 * {@link Document#awaitAsync()} must be called once all other content has been written.  Once any region fails,
+	 * further writes to the document throw {@link IOException}, and {@link Document#awaitAsync()} throws the failure.
+	 * </p>
+	 * <p>
+	 * Any {@link FlowContent#deferred__(com.aoapps.lang.io.function.IOConsumerE) deferred regions} within the body are
+	 * rendered by the page's {@link Document#renderDeferred()} at the end of <code>BODY</code>, in document order along
+	 * with the page's own deferred regions, and on the thread calling it.
+	 * </p>
+	 * <p>
+	 * The body must only use the content model given to it, and must be safe to run concurrently with the rest of the
+	 * page.
+	 * </p>
+	 *
+	 * @param  <Ex>  An arbitrary unchecked exception type that may be thrown
+	 *
+	 * @return  The parent content model this element is within
+	 */
+	public <Ex extends RuntimeException> PC async__(IOConsumerE<? super DIV__<PC>, Ex> div) throws IOException {
+		return __(content -> document.async(pc, div));
 	}
 
 	@Override
 	protected DIV__<PC> new__() {
-		return new DIV__<>(this);
+		if(flyweight__ == null) flyweight__ = new DIV__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected DIV_c<PC> new_c() {
-		return new DIV_c<>(this);
+		if(flyweight_c == null) flyweight_c = new DIV_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,23 +38,47 @@ final public class DL<
 > extends
 	AnyDL<Document, PC, DL<PC>, DL__<PC>, DL_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private DL__<PC> flyweight__;
+	private DL_c<PC> flyweight_c;
+
 	DL(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public DL<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public DL<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected DL<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.DL, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected DL__<PC> new__() {
-		return new DL__<>(this);
+		if(flyweight__ == null) flyweight__ = new DL__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected DL_c<PC> new_c() {
-		return new DL_c<>(this);
+		if(flyweight_c == null) flyweight_c = new DL_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,23 +38,47 @@ final public class DT<
 > extends
 	AnyDT<Document, PC, DT<PC>, DT__<PC>, DT_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private DT__<PC> flyweight__;
+	private DT_c<PC> flyweight_c;
+
 	DT(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public DT<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public DT<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected DT<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.DT, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected DT__<PC> new__() {
-		return new DT__<>(this);
+		if(flyweight__ == null) flyweight__ = new DT__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected DT_c<PC> new_c() {
-		return new DT_c<>(this);
+		if(flyweight_c == null) flyweight_c = new DT_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
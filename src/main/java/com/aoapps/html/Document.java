@@ -27,7 +27,22 @@ import com.aoapps.encoding.Doctype;
 import com.aoapps.encoding.EncodingContext;
 import com.aoapps.encoding.Serialization;
 import com.aoapps.html.any.AnyDocument;
+import com.aoapps.lang.Strings;
+import com.aoapps.lang.io.function.IOConsumerE;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Fluent Java DSL for high-performance HTML generation.
@@ -40,7 +55,7 @@ import java.io.Writer;
  *
  * @author  AO Industries, Inc.
  */
-final public class Document extends AnyDocument<Document> implements AnyContent<Document> {
+final public class Document extends AnyDocument<Document> implements AnyContent<Document>, Flushable {
 
 	/**
 	 * @param  out  May be {@code null}, but must be set to a non-null value again before any additional writes.
@@ -50,6 +65,7 @@ final public class Document extends AnyDocument<Document> implements AnyContent<
 	 */
 	public Document(EncodingContext encodingContext, Serialization serialization, Doctype doctype, Writer out) {
 		super(encodingContext, serialization, doctype, out);
+		this.fragments = Fragments.getInstance(serialization, doctype);
 	}
 
 	/**
@@ -60,16 +76,7 @@ final public class Document extends AnyDocument<Document> implements AnyContent<
 	 */
 	public Document(Serialization serialization, Doctype doctype, Writer out) {
 		this(
-			new EncodingContext() {
-				@Override
-				public Serialization getSerialization() {
-					return serialization;
-				}
-				@Override
-				public Doctype getDoctype() {
-					return doctype;
-				}
-			},
+			Fragments.getInstance(serialization, doctype).getEncodingContext(),
 			serialization,
 			doctype,
 			out
@@ -102,10 +109,1033 @@ final public class Document extends AnyDocument<Document> implements AnyContent<
 		this(EncodingContext.DEFAULT, out);
 	}
 
+	/**
+	 * The default size of the chunks written to the underlying writer, stream, or channel when buffering.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = ChunkWriter.DEFAULT_CHUNK_SIZE;
+
 	/**
 	 * Unwraps the given chain writer.
+	 *
+	 * @see  #Document(com.aoapps.encoding.ChainWriter, int)
 	 */
 	public Document(ChainWriter out) {
 		this(out.getEncodingContext(), out.getPrintWriter());
 	}
+
+	/**
+	 * Unwraps the given chain writer, buffering its {@link java.io.PrintWriter} in chunks of the given size.
+	 * {@link #flush()} must be called once done writing.
+	 *
+	 * @param  chunkSize  The size of writes, such as {@link #DEFAULT_CHUNK_SIZE}
+	 *
+	 * @see  #Document(com.aoapps.encoding.EncodingContext, java.io.Writer, int)
+	 */
+	public Document(ChainWriter out, int chunkSize) {
+		this(out.getEncodingContext(), out.getPrintWriter(), chunkSize);
+	}
+
+	/**
+	 * Coalesces writes into an internal, unsynchronized buffer, writing to the given writer only in whole chunks of the
+	 * given size.  This avoids a synchronized write per tag, attribute, and text when writing to a
+	 * {@link java.io.PrintWriter}, whose swallowed errors are then reported by {@link #flush()}.
+	 * {@link #flush()} must be called once done writing.
+	 * <p>
+	 * The writer is never closed by this document.
+	 * </p>
+	 *
+	 * @param  chunkSize  The size of writes, such as the size of the frames of the underlying protocol
+	 */
+	public Document(EncodingContext encodingContext, Writer out, int chunkSize) {
+		this(encodingContext, new ChunkWriter(out, chunkSize));
+	}
+
+	private Document(EncodingContext encodingContext, ChunkWriter out) {
+		this(encodingContext, (Writer)out);
+		this.chunkWriter = out;
+	}
+
+	/**
+	 * Only UTF-8 is written to streams and channels.
+	 *
+	 * @throws  IllegalArgumentException  when the encoding context uses any other character encoding
+	 */
+	private static EncodingContext requireUtf8(EncodingContext encodingContext) {
+		Charset charset = encodingContext.getCharacterEncoding();
+		if(!StandardCharsets.UTF_8.equals(charset)) {
+			throw new IllegalArgumentException("Only UTF-8 is written to a stream or channel: " + charset);
+		}
+		return encodingContext;
+	}
+
+	private Document(EncodingContext encodingContext, Utf8Writer out) {
+		this(encodingContext, (Writer)out);
+		this.utf8Writer = out;
+	}
+
+	/**
+	 * Writes UTF-8 directly to the given stream through an internal buffer, without an intermediate
+	 * {@link java.io.OutputStreamWriter}.  {@link #flush()} must be called once done writing.
+	 * <p>
+	 * The stream is never closed by this document.
+	 * </p>
+	 *
+	 * @throws  IllegalArgumentException  when the encoding context is not UTF-8
+	 */
+	public Document(EncodingContext encodingContext, OutputStream out) {
+		this(requireUtf8(encodingContext), new Utf8Writer(out));
+	}
+
+	/**
+	 * Writes UTF-8 directly to the given stream through an internal buffer, without an intermediate
+	 * {@link java.io.OutputStreamWriter}.  {@link #flush()} must be called once done writing.
+	 * <p>
+	 * The stream is never closed by this document.
+	 * </p>
+	 *
+	 * @see  EncodingContext#DEFAULT
+	 */
+	public Document(OutputStream out) {
+		this(EncodingContext.DEFAULT, out);
+	}
+
+	/**
+	 * Writes UTF-8 directly to the given stream through an internal buffer, writing in chunks of the given size.
+	 * {@link #flush()} must be called once done writing.
+	 * <p>
+	 * The stream is never closed by this document.
+	 * </p>
+	 *
+	 * @param  chunkSize  The size of writes, in bytes, such as the size of the frames of the underlying protocol,
+	 *                    at least four
+	 *
+	 * @throws  IllegalArgumentException  when the encoding context is not UTF-8, or the chunk size is less than four
+	 */
+	public Document(EncodingContext encodingContext, OutputStream out, int chunkSize) {
+		this(requireUtf8(encodingContext), new Utf8Writer(out, chunkSize));
+	}
+
+	/**
+	 * Writes UTF-8 directly to the given channel through an internal buffer.  {@link #flush()} must be called once
+	 * done writing.
+	 * <p>
+	 * The channel is never closed by this document.
+	 * </p>
+	 *
+	 * @param  out  Must be a blocking channel.
+	 *
+	 * @throws  IllegalArgumentException  when the encoding context is not UTF-8
+	 */
+	public Document(EncodingContext encodingContext, WritableByteChannel out) {
+		this(requireUtf8(encodingContext), new Utf8Writer(out));
+	}
+
+	/**
+	 * Writes UTF-8 directly to the given channel through an internal buffer.  {@link #flush()} must be called once
+	 * done writing.
+	 * <p>
+	 * The channel is never closed by this document.
+	 * </p>
+	 *
+	 * @param  out  Must be a blocking channel.
+	 *
+	 * @see  EncodingContext#DEFAULT
+	 */
+	public Document(WritableByteChannel out) {
+		this(EncodingContext.DEFAULT, out);
+	}
+
+	/**
+	 * Writes UTF-8 directly to the given channel through an internal buffer, writing in chunks of the given size.
+	 * {@link #flush()} must be called once done writing.
+	 * <p>
+	 * The channel is never closed by this document.
+	 * </p>
+	 *
+	 * @param  out        Must be a blocking channel.
+	 * @param  chunkSize  The size of writes, in bytes, such as the size of the frames of the underlying protocol,
+	 *                    at least four
+	 *
+	 * @throws  IllegalArgumentException  when the encoding context is not UTF-8, or the chunk size is less than four
+	 */
+	public Document(EncodingContext encodingContext, WritableByteChannel out, int chunkSize) {
+		this(requireUtf8(encodingContext), new Utf8Writer(out, chunkSize));
+	}
+
+	/**
+	 * Renders on the current thread while the given writer writes on its own thread.  {@link #flush()} waits until
+	 * everything written so far has been written and flushed by the writing thread.
+	 * <p>
+	 * The writer is never closed by this document; it must be closed once done writing, which ends its writing thread.
+	 * </p>
+	 *
+	 * @param  out  May be {@code null}, but must be set to a non-null value again before any additional writes.
+	 *              Not doing so may result in {@link IllegalStateException}.
+	 */
+	public Document(EncodingContext encodingContext, RingBufferWriter out) {
+		this(encodingContext, (Writer)out);
+		this.ringBufferWriter = out;
+	}
+
+	/**
+	 * Renders on the current thread while the given writer writes on its own thread.  {@link #flush()} waits until
+	 * everything written so far has been written and flushed by the writing thread.
+	 * <p>
+	 * The writer is never closed by this document; it must be closed once done writing, which ends its writing thread.
+	 * </p>
+	 *
+	 * @param  out  May be {@code null}, but must be set to a non-null value again before any additional writes.
+	 *              Not doing so may result in {@link IllegalStateException}.
+	 *
+	 * @see  EncodingContext#DEFAULT
+	 */
+	public Document(RingBufferWriter out) {
+		this(EncodingContext.DEFAULT, out);
+	}
+
+	/**
+	 * Encodes UTF-8 into buffers that are handed off as they fill, and on {@link #flush()}.
+	 *
+	 * @throws  IllegalArgumentException  when the encoding context is not UTF-8
+	 *
+	 * @see  DocumentPublisher
+	 */
+	Document(EncodingContext encodingContext, Utf8Writer.Handoff out) {
+		this(requireUtf8(encodingContext), new Utf8Writer(out));
+	}
+
+	/**
+	 * Gets the shared, immutable encoding context for the given serialization and doctype, as used by
+	 * {@link #Document(com.aoapps.encoding.Serialization, com.aoapps.encoding.Doctype, java.io.Writer)}.
+	 */
+	public static EncodingContext getEncodingContext(Serialization serialization, Doctype doctype) {
+		return Fragments.getInstance(serialization, doctype).getEncodingContext();
+	}
+
+	/**
+	 * Resets this document for reuse, writing to a new writer as if newly created with the same encoding context.
+	 * <p>
+	 * Any output that is buffered or held by minification is first written and flushed to the previous output, and
+	 * buffers are given back to the shared pool.  Indentation and minification are then disabled and the depth
+	 * returns to zero.  Any deferred or asynchronous regions not yet rendered are discarded, along with any output
+	 * following an asynchronous region that has not been awaited.  The reuse of elements, fragment cache, encoding
+	 * cache, and asynchronous executor are retained, along with the elements already created for reuse.
+	 * </p>
+	 *
+	 * @param  out  May be {@code null}, but must be set to a non-null value again before any additional writes.
+	 *              Not doing so may result in {@link IllegalStateException}.
+	 *
+	 * @throws  IOException  when unable to write the buffered output, in which case this document is still reset
+	 *
+	 * @see  DocumentPool
+	 */
+	public Document reset(Writer out) throws IOException {
+		StitchingWriter s = stitcher;
+		if(s != null) {
+			stitcher = null;
+			s.cancel();
+			setOut(s.getOut());
+		}
+		try {
+			flush();
+		} finally {
+			setOut(out);
+			chunkWriter = null;
+			utf8Writer = null;
+			ringBufferWriter = null;
+			minifyWriter = null;
+			setIndent(false);
+			setDepth(0);
+			clearAtnl();
+			if(flyweights != null) flyweights.reset();
+			deferred = null;
+			deferredIds = new AtomicInteger();
+		}
+		return this;
+	}
+
+	/**
+	 * The minifying writer wrapping the output, or {@code null} when not minifying.
+	 */
+	private MinifyWriter minifyWriter;
+
+	/**
+	 * Is output being minified?
+	 *
+	 * @see  #setMinify(boolean)
+	 */
+	public boolean getMinify() {
+		return minifyWriter != null;
+	}
+
+	/**
+	 * Enables or disables minification, only supported for {@link Serialization#SGML}.  Disabled by default.
+	 * <p>
+	 * When enabled, indentation is disabled, and end tags, attribute quotes, and boolean attribute values are
+	 * omitted wherever permitted by the HTML syntax.  See {@link MinifyWriter} for the exact rules.  An end tag
+	 * that may be omitted is held until what follows it is known, so this document must be flushed or minification
+	 * disabled once done writing.
+	 * </p>
+	 *
+	 * @throws  IllegalStateException  when enabling for {@link Serialization#XML}, which does not allow omissions, or
+	 *                                 when asynchronous regions have not been awaited
+	 */
+	public Document setMinify(boolean minify) throws IOException {
+		if(stitcher != null && minify != (minifyWriter != null)) {
+			throw new IllegalStateException("Unable to change minification while asynchronous regions have not been awaited");
+		}
+		if(minify) {
+			if(minifyWriter == null) {
+				if(serialization != Serialization.SGML) {
+					throw new IllegalStateException("Minification is only supported for SGML serialization: " + serialization);
+				}
+				setIndent(false);
+				minifyWriter = new MinifyWriter(getUnsafe(null));
+				setOut(minifyWriter);
+			}
+		} else {
+			MinifyWriter minifying = minifyWriter;
+			if(minifying != null) {
+				minifyWriter = null;
+				minifying.flush();
+				setOut(minifying.getOut());
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * The UTF-8 encoder when writing to a stream or channel, or {@code null} when writing to a {@link Writer}.
+	 */
+	private Utf8Writer utf8Writer;
+
+	/**
+	 * The buffer coalescing writes to a {@link Writer}, or {@code null} when not buffering.
+	 */
+	private ChunkWriter chunkWriter;
+
+	/**
+	 * The writer handing output to its writing thread, or {@code null} when writing on the current thread.
+	 */
+	private RingBufferWriter ringBufferWriter;
+
+	/**
+	 * Writes any buffered output to the underlying writer, stream, or channel, then flushes it.
+	 * When minifying, also writes any end tag being held and flushes the writer.
+	 * When writing to a {@link RingBufferWriter}, waits for its writing thread to write and flush.
+	 * Otherwise, does nothing when writing to a {@link Writer} without buffering.
+	 * <p>
+	 * Buffers are given back to a shared pool and taken again on the next write, so a document that has been flushed
+	 * holds no buffers while its render is waiting, such as on I/O.
+	 * </p>
+	 * <p>
+	 * While asynchronous regions have not been awaited, flushes the output written through so far while holding the
+	 * same lock as the threads completing the regions.
+	 * </p>
+	 *
+	 * @throws  IOException  including when buffering a {@link java.io.PrintWriter} that has encountered an error, or
+	 *                       when an asynchronous region has failed
+	 */
+	@Override
+	public void flush() throws IOException {
+		StitchingWriter s = stitcher;
+		if(s != null) s.flush();
+		else if(minifyWriter != null) minifyWriter.flush();
+		else if(chunkWriter != null) chunkWriter.flush();
+		else if(utf8Writer != null) utf8Writer.flush();
+		else if(ringBufferWriter != null) ringBufferWriter.flush();
+		char[] chars = escapeChars;
+		if(chars != null) {
+			escapeChars = null;
+			Buffers.release(chars);
+		}
+		chars = numberChars;
+		if(chars != null) {
+			numberChars = null;
+			Buffers.release(chars);
+		}
+	}
+
+	/**
+	 * The pre-encoded markup for this serialization and doctype.
+	 */
+	final Fragments fragments;
+
+	/**
+	 * Writes pre-encoded markup in a single write.
+	 *
+	 * @param  endsNewline  See {@link #getUnsafe(java.lang.Boolean)}
+	 */
+	Document write(Fragment fragment, Boolean endsNewline) throws IOException {
+		fragment.writeTo(getUnsafe(endsNewline));
+		return this;
+	}
+
+	/**
+	 * Writes the beginning of the start tag of an element, such as {@code "<div"}, as pre-encoded markup in a single
+	 * write.  Only when not indenting, since indentation is written by the element.
+	 *
+	 * @return  {@code true} when written, or {@code false} when the element must write it instead
+	 */
+	boolean writeOpen(Tag tag, Writer out) throws IOException {
+		if(getIndent()) return false;
+		fragments.open(tag).writeTo(out);
+		clearAtnl();
+		return true;
+	}
+
+	/**
+	 * Writes an element without attributes and with only the given text, as pre-encoded start and end tags around the
+	 * escaped text, without creating the element.  Only strings and {@link EncodedText} are written directly, and
+	 * only when not indenting.
+	 *
+	 * @return  {@code true} when written, or {@code false} when the element must be created instead
+	 */
+	boolean writeLeaf(Tag tag, Object text) throws IOException {
+		if(
+			!(text instanceof String || text instanceof EncodedText)
+			|| getIndent()
+		) return false;
+		write(fragments.openEnd(tag), false);
+		text(text);
+		write(fragments.close(tag), false);
+		return true;
+	}
+
+	private EncodingCache encodingCache;
+
+	/**
+	 * Gets the cache of encoded strings, or {@code null} when not caching.  Not caching by default.
+	 *
+	 * @see  #setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public EncodingCache getEncodingCache() {
+		return encodingCache;
+	}
+
+	/**
+	 * Sets the cache of encoded strings, or {@code null} to not cache.
+	 * <p>
+	 * Caching only helps pages that write the same literal strings many times.  Every string first seen adds a lookup
+	 * and an entry to the cache, so pages of mostly per-request text are faster without it.
+	 * </p>
+	 *
+	 * @see  EncodingCache#getDefault()
+	 */
+	public Document setEncodingCache(EncodingCache encodingCache) {
+		this.encodingCache = encodingCache;
+		return this;
+	}
+
+	/**
+	 * Scratch space for escaping, taken from {@link Buffers} on first use and given back on flush.
+	 */
+	private char[] escapeChars;
+
+	/**
+	 * Escapes strings four characters at a time, writing clean runs in bulk, or from the encoding cache.  When
+	 * indenting, or for anything other than a string, uses the default implementation.
+	 *
+	 * @see  Escaper
+	 * @see  #setEncodingCache(com.aoapps.html.EncodingCache)
+	 * @see  EncodedText
+	 */
+	@Override
+	public Document text(Object text) throws IOException {
+		if(text instanceof EncodedText && !getIndent()) {
+			EncodedText encoded = (EncodedText)text;
+			int len = encoded.length();
+			if(len > 0) encoded.writeTo(this, getUnsafe(encoded.charAt(len - 1) == '\n'));
+			return this;
+		}
+		if(text instanceof String && !getIndent()) {
+			String str = (String)text;
+			int len = str.length();
+			if(len > 0) {
+				char[] chars = escapeChars;
+				if(chars == null) escapeChars = chars = Buffers.getChars(Escaper.CHARS_SIZE);
+				Writer out = getUnsafe(str.charAt(len - 1) == '\n');
+				EncodingCache cache = encodingCache;
+				if(cache != null) cache.encode(str, false, chars, out);
+				else Escaper.encodeText(str, chars, out);
+			}
+			return this;
+		}
+		return super.text(text);
+	}
+
+	/**
+	 * Escapes an attribute value four characters at a time, writing clean runs in bulk, or from the encoding cache.
+	 *
+	 * @see  Escaper
+	 * @see  #setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	void encodeAttribute(String value) throws IOException {
+		char[] chars = escapeChars;
+		if(chars == null) escapeChars = chars = Buffers.getChars(Escaper.CHARS_SIZE);
+		Writer out = getUnsafe(false);
+		EncodingCache cache = encodingCache;
+		if(cache != null) cache.encode(value, true, chars, out);
+		else Escaper.encodeAttribute(value, chars, out);
+	}
+
+	/**
+	 * Writes a pre-encoded attribute value in a single write.
+	 *
+	 * @throws  IllegalArgumentException  when the value was encoded for a different encoding context
+	 */
+	void encodeAttribute(EncodedAttributeValue value) throws IOException {
+		value.writeTo(this, getUnsafe(false));
+	}
+
+	/**
+	 * Writes an attribute with a string value, escaped by {@link #encodeAttribute(java.lang.String)}.  As the
+	 * attributes of the base library, the value is trimmed and the attribute is omitted when {@code null} or empty.
+	 *
+	 * @param  start  The beginning of the attribute up to and including the opening quote, such as
+	 *                <code>" class=\""</code>
+	 */
+	void writeAttribute(String start, String value) throws IOException {
+		value = Strings.trimNullIfEmpty(value);
+		if(value != null) {
+			Writer out = getUnsafe(false);
+			out.write(start);
+			encodeAttribute(value);
+			out.write('"');
+		}
+	}
+
+	/**
+	 * Writes an attribute with a pre-encoded value, without scanning.  The attribute is omitted when the value is empty.
+	 *
+	 * @param  start  The beginning of the attribute up to and including the opening quote, such as
+	 *                <code>" class=\""</code>
+	 *
+	 * @throws  IllegalArgumentException  when the value was encoded for a different encoding context
+	 */
+	void writeAttribute(String start, EncodedAttributeValue value) throws IOException {
+		if(value.length() > 0) {
+			Writer out = getUnsafe(false);
+			out.write(start);
+			value.writeTo(this, out);
+			out.write('"');
+		}
+	}
+
+	/**
+	 * Scratch space for formatting numbers, taken on first use and given back on flush.
+	 */
+	private char[] numberChars;
+
+	/**
+	 * Gets the scratch space for formatting numbers, at least {@link Numbers#MAX_CHARS} long.
+	 */
+	char[] getNumberChars() {
+		char[] chars = numberChars;
+		if(chars == null) numberChars = chars = Buffers.getChars(Numbers.MAX_CHARS);
+		return chars;
+	}
+
+	/**
+	 * Writes an attribute with a numeric value, formatting the digits directly into the output.
+	 *
+	 * @param  start  The beginning of the attribute up to and including the opening quote, such as
+	 *                <code>" colspan=\""</code>
+	 */
+	void writeAttribute(String start, long value) throws IOException {
+		Writer out = getUnsafe(false);
+		out.write(start);
+		Numbers.write(value, getNumberChars(), out);
+		out.write('"');
+	}
+
+	/**
+	 * Writes an attribute with a numeric value, formatting the digits directly into the output.
+	 *
+	 * @param  start  The beginning of the attribute up to and including the opening quote, such as
+	 *                <code>" value=\""</code>
+	 *
+	 * @throws  IllegalArgumentException  when not finite, which is not a valid floating-point number in HTML
+	 */
+	void writeAttribute(String start, double value) throws IOException {
+		if(!Double.isFinite(value)) throw new IllegalArgumentException("Not a valid floating-point number: " + value);
+		Writer out = getUnsafe(false);
+		out.write(start);
+		Numbers.write(value, getNumberChars(), out);
+		out.write('"');
+	}
+
+	/**
+	 * Writes an attribute with a numeric value, with the same output as {@link Float#toString(float)}.
+	 *
+	 * @param  start  The beginning of the attribute up to and including the opening quote, such as
+	 *                <code>" value=\""</code>
+	 *
+	 * @throws  IllegalArgumentException  when not finite, which is not a valid floating-point number in HTML
+	 */
+	void writeAttribute(String start, float value) throws IOException {
+		if(!Float.isFinite(value)) throw new IllegalArgumentException("Not a valid floating-point number: " + value);
+		Writer out = getUnsafe(false);
+		out.write(start);
+		out.write(Float.toString(value));
+		out.write('"');
+	}
+
+	/**
+	 * Adapts a body that is given a context to the body of an element, reused for every element of this document.
+	 * The body and context are only held from when given until the element calls the body.
+	 */
+	private static final class ContextBody implements IOConsumerE<Object, Throwable> {
+
+		private ContextConsumerE<Object, Object, ?> body;
+
+		private Object context;
+
+		@Override
+		public void accept(Object content) throws IOException, Throwable {
+			// Cleared before calling, since the body may create further elements with their own context
+			ContextConsumerE<Object, Object, ?> b = body;
+			Object c = context;
+			body = null;
+			context = null;
+			b.accept(content, c);
+		}
+	}
+
+	/**
+	 * The body adapter, created on first use.
+	 */
+	private ContextBody contextBody;
+
+	/**
+	 * Gets the body for an element that calls the given body with the given context, without allocation.  Must be
+	 * given to the element immediately.
+	 *
+	 * @see  ContextConsumerE
+	 */
+	@SuppressWarnings("unchecked")
+	<T, C, Ex extends Throwable> IOConsumerE<T, Ex> withContext(ContextConsumerE<? super T, ? super C, Ex> body, C context) {
+		ContextBody adapter = contextBody;
+		if(adapter == null) contextBody = adapter = new ContextBody();
+		adapter.body = (ContextConsumerE<Object, Object, ?>)body;
+		adapter.context = context;
+		return (IOConsumerE<T, Ex>)(IOConsumerE<?, ?>)adapter;
+	}
+
+	/**
+	 * The reusable elements, or {@code null} when not reusing elements.
+	 */
+	private Flyweights flyweights;
+
+	/**
+	 * The most recently used input factory.
+	 */
+	private Union_Interactive_Phrasing.InputFactory<?> inputFactory;
+
+	/**
+	 * Are elements being reused?
+	 *
+	 * @see  #setFlyweights(boolean)
+	 */
+	public boolean getFlyweights() {
+		return flyweights != null;
+	}
+
+	/**
+	 * Enables or disables the reuse of elements.  Disabled by default.
+	 * <p>
+	 * When enabled, each element factory returns the same element instance each time it is called within the same
+	 * content model, along with the same <code>__</code> and <code>_c</code> content models.  Once warmed-up, a render
+	 * allocates nothing per tag.
+	 * </p>
+	 * <p>
+	 * An element or content model must not be used once a sibling or ancestor has been written, since it may have
+	 * already been reused for another element.  Such stale use is not detected in general: the content model of a
+	 * closed element is the same instance as that of its next sibling of the same type, and text is written without
+	 * any check.  When assertions are enabled, creating an element within, or opening the content model of an
+	 * element created within, a content model that is no longer open throws {@link IllegalStateException}.  Otherwise,
+	 * a new element is created instead of being reused.
+	 * </p>
+	 * <p>
+	 * This should be set before writing any elements, since content models obtained before enabling are not
+	 * considered open for writing.
+	 * </p>
+	 */
+	public Document setFlyweights(boolean flyweights) {
+		if(flyweights) {
+			if(this.flyweights == null) this.flyweights = new Flyweights(this);
+		} else {
+			this.flyweights = null;
+		}
+		return this;
+	}
+
+	/**
+	 * Gets the reusable element of the given type within the given parent content model.
+	 * When {@code null}, the newly created element should be given to {@link #putFlyweight(java.lang.Object)}.
+	 *
+	 * @return  The element or {@code null} when a new element must be created
+	 */
+	@SuppressWarnings("unchecked")
+	<E> E getFlyweight(Class<? super E> type, Object pc) {
+		return (flyweights == null) ? null : (E)flyweights.get(type, pc);
+	}
+
+	/**
+	 * Stores a newly created element for reuse, following a {@code null} from
+	 * {@link #getFlyweight(java.lang.Class, java.lang.Object)}.
+	 *
+	 * @return  The element
+	 */
+	<E> E putFlyweight(E element) {
+		if(flyweights != null) flyweights.put(element);
+		return element;
+	}
+
+	/**
+	 * Gets the input factory for the given parent content model.  The factory is reused while inputs are written to
+	 * the same content model, and is also reused per content model when reusing elements.
+	 */
+	@SuppressWarnings("unchecked")
+	<__ extends Union_Interactive_Phrasing<__>> Union_Interactive_Phrasing.InputFactory<__> getInputFactory(__ pc) {
+		Union_Interactive_Phrasing.InputFactory<__> factory = getFlyweight(Union_Interactive_Phrasing.InputFactory.class, pc);
+		if(factory == null) {
+			Union_Interactive_Phrasing.InputFactory<?> last = inputFactory;
+			if(last != null && last.isFor(this, pc)) {
+				factory = (Union_Interactive_Phrasing.InputFactory<__>)last;
+			} else {
+				factory = new Union_Interactive_Phrasing.InputFactory<>(this, pc);
+			}
+			putFlyweight(factory);
+		}
+		inputFactory = factory;
+		return factory;
+	}
+
+	/**
+	 * Marks the <code>__</code> or <code>_c</code> content model of an element as open for writing.
+	 *
+	 * @param  pc  The parent content model of the element
+	 *
+	 * @return  The content model
+	 */
+	<C> C pushFlyweight(Object pc, C content) {
+		if(flyweights != null) flyweights.push(pc, content);
+		return content;
+	}
+
+	private FragmentCache fragmentCache = FragmentCache.getDefault();
+
+	/**
+	 * Gets the cache used by {@link #cached(java.lang.Object, com.aoapps.lang.io.function.IOConsumerE)}.
+	 *
+	 * @see  FragmentCache#getDefault()
+	 */
+	public FragmentCache getFragmentCache() {
+		return fragmentCache;
+	}
+
+	/**
+	 * Sets the cache used by {@link #cached(java.lang.Object, com.aoapps.lang.io.function.IOConsumerE)}.
+	 */
+	public Document setFragmentCache(FragmentCache fragmentCache) {
+		this.fragmentCache = Objects.requireNonNull(fragmentCache);
+		return this;
+	}
+
+	/**
+	 * Renders a static subtree once, then replays its output as a single bulk write.
+	 * <p>
+	 * The first time the key is used, the body is invoked and its output both written and recorded.  After that,
+	 * the body is not invoked, and the recorded output is written instead.  Recordings are kept separately for
+	 * each {@link EncodingContext}, {@link Serialization}, {@link Doctype}, and, when indenting, indentation depth and
+	 * whether at a new line.
+	 * </p>
+	 * <p>
+	 * The output of the body is recorded before minification and asynchronous regions, and is always written through
+	 * them, so the first render and every replay are minified and ordered the same as rendering the body directly.
+	 * Asynchronous regions within the body are awaited before recording completes.
+	 * </p>
+	 * <p>
+	 * The body must always produce the same output for the same key, such as a header, menu, or footer that changes
+	 * only on deploy.  It must write only through the given document, must leave the indentation depth as it
+	 * found it, and must not use {@link FlowContent#deferred__(com.aoapps.lang.io.function.IOConsumerE)}.
+	 * </p>
+	 *
+	 * @param  key  Identifies the subtree, must implement {@link Object#equals(java.lang.Object)} and {@link Object#hashCode()}
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @throws  IllegalStateException  when the body defers a region
+	 *
+	 * @see  #setFragmentCache(com.aoapps.html.FragmentCache)
+	 */
+	public <Ex extends Throwable> Document cached(Object key, IOConsumerE<? super Document, Ex> body) throws IOException, Ex {
+		FragmentCache cache = fragmentCache;
+		boolean indent = getIndent();
+		FragmentCache.Key cacheKey = new FragmentCache.Key(key, encodingContext, serialization, doctype, indent, getDepth(), indent && getAtnl());
+		Fragment fragment = cache.get(cacheKey);
+		if(fragment == null) {
+			Writer out = getUnsafe(null);
+			StitchingWriter outerStitcher = stitcher;
+			List<Pending> outerDeferred = deferred;
+			StringWriter recorder = new StringWriter();
+			stitcher = null;
+			deferred = null;
+			setOut(recorder);
+			List<Pending> bodyDeferred;
+			try {
+				body.accept(this);
+				awaitAsync();
+			} finally {
+				StitchingWriter bodyStitcher = stitcher;
+				if(bodyStitcher != null) bodyStitcher.cancel();
+				bodyDeferred = deferred;
+				stitcher = outerStitcher;
+				deferred = outerDeferred;
+				setOut(out);
+			}
+			if(!isEmpty(bodyDeferred)) throw new IllegalStateException("Deferred regions may not be cached");
+			fragment = new Fragment(recorder.toString());
+			cache.put(cacheKey, fragment);
+		}
+		if(!fragment.isEmpty()) {
+			char[] chars = fragment.getChars();
+			write(fragment, chars[chars.length - 1] == '\n');
+		}
+		return this;
+	}
+
+	/**
+	 * Content to be rendered by {@link #renderDeferred()}.
+	 */
+	private abstract static class Pending {
+
+		/**
+		 * Whether there is nothing to render.
+		 */
+		abstract boolean isEmpty();
+
+		abstract void render(Document document) throws IOException;
+	}
+
+	private static boolean isEmpty(List<Pending> regions) {
+		if(regions != null) {
+			for(Pending region : regions) {
+				if(!region.isEmpty()) return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * A region with a placeholder already written.
+	 */
+	private static final class Deferred<PC extends Union_DL_Palpable<PC>> extends Pending {
+
+		private final String id;
+		private final PC pc;
+		private final IOConsumerE<? super DIV__<PC>, ? extends RuntimeException> div;
+
+		private Deferred(String id, PC pc, IOConsumerE<? super DIV__<PC>, ? extends RuntimeException> div) {
+			this.id = id;
+			this.pc = pc;
+			this.div = div;
+		}
+
+		@Override
+		boolean isEmpty() {
+			return false;
+		}
+
+		@Override
+		void render(Document document) throws IOException {
+			Writer out = document.autoNli().getUnsafe(null);
+			document.write(document.fragments.open(Tag.TEMPLATE), false);
+			out.write(" id=\"");
+			out.write(id);
+			out.write("-content\">");
+			document.incDepth();
+			div.accept(document.pushFlyweight(document, new DIV__<>(new DIV<>(document, pc))));
+			document.decDepth();
+			document.autoNli().write(document.fragments.close(Tag.TEMPLATE), false);
+			// Move the content into the placeholder, then remove the template
+			document.autoNli().script().__(
+				"(function(){var t=document.getElementById(\"" + id + "-content\"),p=document.getElementById(\"" + id + "\");"
+				+ "p.appendChild(t.content);t.parentNode.removeChild(t);})();"
+			);
+			document.getUnsafe(null).flush();
+		}
+	}
+
+	/**
+	 * The regions deferred within an asynchronous region, kept in the position of the asynchronous region so they are
+	 * rendered in document order.  Set by the asynchronous region once it has rendered.
+	 */
+	private static final class AsyncDeferred extends Pending {
+
+		private volatile List<Pending> regions;
+
+		@Override
+		boolean isEmpty() {
+			return Document.isEmpty(regions);
+		}
+
+		@Override
+		void render(Document document) throws IOException {
+			document.awaitAsync();
+			List<Pending> r = regions;
+			if(r != null) {
+				for(Pending region : r) {
+					region.render(document);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The deferred regions not yet rendered, or {@code null} when none.
+	 */
+	private List<Pending> deferred;
+
+	/**
+	 * The number of deferred regions in this render, used to generate unique ids.  Shared with asynchronous regions,
+	 * so ids are unique across the whole page.
+	 */
+	private AtomicInteger deferredIds = new AtomicInteger();
+
+	/**
+	 * Registers a region for {@link #renderDeferred()}.
+	 *
+	 * @return  The id of the placeholder
+	 *
+	 * @see  FlowContent#deferred__(com.aoapps.lang.io.function.IOConsumerE)
+	 */
+	<PC extends Union_DL_Palpable<PC>> String defer(PC pc, IOConsumerE<? super DIV__<PC>, ? extends RuntimeException> div) {
+		String id = "ao-deferred-" + deferredIds.incrementAndGet();
+		if(deferred == null) deferred = new ArrayList<>();
+		deferred.add(new Deferred<>(id, pc, div));
+		return id;
+	}
+
+	/**
+	 * Renders the content of all deferred regions, in the order their placeholders were written.  This must be
+	 * called at the end of <code>BODY</code>, once all other content has been written.
+	 * <p>
+	 * Each region is rendered inside a <code>&lt;template&gt;</code> followed by a small <code>&lt;script&gt;</code>
+	 * that moves the content into its placeholder.  The output is flushed after each region, so the browser displays
+	 * each region as soon as it is rendered.
+	 * </p>
+	 * <p>
+	 * Regions deferred within asynchronous regions are rendered here too, in document order, which first awaits the
+	 * asynchronous regions.
+	 * </p>
+	 *
+	 * @see  FlowContent#deferred__(com.aoapps.lang.io.function.IOConsumerE)
+	 */
+	public Document renderDeferred() throws IOException {
+		List<Pending> regions = deferred;
+		if(regions != null) {
+			deferred = null;
+			for(Pending region : regions) {
+				region.render(this);
+			}
+		}
+		return this;
+	}
+
+	private Executor asyncExecutor = StitchingWriter.DEFAULT_EXECUTOR;
+
+	/**
+	 * Gets the executor that renders asynchronous regions.
+	 *
+	 * @see  #setAsyncExecutor(java.util.concurrent.Executor)
+	 */
+	public Executor getAsyncExecutor() {
+		return asyncExecutor;
+	}
+
+	/**
+	 * Sets the executor that renders asynchronous regions.  Since regions typically block on I/O, this defaults to a
+	 * new virtual thread per region when available (Java 21+), otherwise a cached pool of daemon threads.
+	 *
+	 * @see  DIV#async__(com.aoapps.lang.io.function.IOConsumerE)
+	 */
+	public Document setAsyncExecutor(Executor asyncExecutor) {
+		this.asyncExecutor = Objects.requireNonNull(asyncExecutor);
+		return this;
+	}
+
+	/**
+	 * Splices asynchronous regions in document order, or {@code null} when none started since the last
+	 * {@link #awaitAsync()}.
+	 */
+	private StitchingWriter stitcher;
+
+	/**
+	 * Starts rendering an asynchronous region at the current position, which must be inside an open element.
+	 *
+	 * @see  DIV#async__(com.aoapps.lang.io.function.IOConsumerE)
+	 */
+	<PC extends Union_DL_Palpable<PC>> void async(PC pc, IOConsumerE<? super DIV__<PC>, ? extends RuntimeException> div) throws IOException {
+		StitchingWriter s = stitcher;
+		if(s == null) {
+			s = new StitchingWriter(getUnsafe(null));
+			setOut(s);
+			stitcher = s;
+		}
+		StringWriter buffer = new StringWriter();
+		Document region = new Document(encodingContext, serialization, doctype, buffer);
+		region.setIndent(getIndent());
+		region.setDepth(getDepth());
+		region.setFlyweights(getFlyweights());
+		region.fragmentCache = fragmentCache;
+		region.encodingCache = encodingCache;
+		region.deferredIds = deferredIds;
+		region.asyncExecutor = asyncExecutor;
+		// Regions deferred within the region are rendered by this document, at the end of BODY
+		AsyncDeferred regionDeferred = new AsyncDeferred();
+		if(deferred == null) deferred = new ArrayList<>();
+		deferred.add(regionDeferred);
+		// When minifying, the region is written through this document's minifying writer beneath the stitching, so it
+		// is minified in document order along with the output around it
+		StitchingWriter.Segment segment = s.start();
+		StitchingWriter stitching = s;
+		try {
+			asyncExecutor.execute(() -> {
+				Throwable failure = null;
+				try {
+					div.accept(region.pushFlyweight(region, new DIV__<>(new DIV<>(region, pc))));
+					region.awaitAsync();
+					regionDeferred.regions = region.deferred;
+				} catch(Throwable t) {
+					failure = t;
+				}
+				stitching.complete(segment, buffer.toString(), failure);
+			});
+		} catch(RejectedExecutionException e) {
+			s.complete(segment, "", e);
+			throw e;
+		}
+	}
+
+	/**
+	 * Waits for all asynchronous regions to be rendered and written.  This must be called once all other content has
+	 * been written, and before this document's output is completed.
+	 *
+	 * @throws  IOException  when a region failed with an {@link IOException}
+	 *
+	 * @see  DIV#async__(com.aoapps.lang.io.function.IOConsumerE)
+	 */
+	public Document awaitAsync() throws IOException {
+		StitchingWriter s = stitcher;
+		if(s != null) {
+			try {
+				s.await();
+			} finally {
+				stitcher = null;
+				setOut(s.getOut());
+			}
+		}
+		return this;
+	}
 }
@@ -0,0 +1,142 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.Serialization;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A bounded, per-thread pool of documents, ready for reuse along with their elements and internal state.
+ * <p>
+ * Documents are pooled separately for each {@link EncodingContext} instance, so documents are best obtained with
+ * the shared contexts of {@link Document#getEncodingContext(com.aoapps.encoding.Serialization, com.aoapps.encoding.Doctype)}
+ * or a single application-wide context.
+ * </p>
+ * <p>
+ * A document must be released by the same thread that obtained it, once it will no longer be used.  Documents that
+ * are not released are simply garbage collected.
+ * </p>
+ * <p>
+ * Since documents are pooled per thread, this pool only helps when threads are reused, such as a pool of platform
+ * threads serving requests.  With a new virtual thread per request, documents are never reused and are retained
+ * until their thread ends, so do not use a pool there.  Flushing a document before it waits already gives its
+ * buffers back to a pool shared by all threads.
+ * </p>
+ * <pre>Document document = pool.get(serialization, doctype, out);
+ * try {
+ *   ...
+ * } finally {
+ *   pool.release(document);
+ * }</pre>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class DocumentPool {
+
+	/**
+	 * The default maximum number of documents kept per thread.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 4;
+
+	private static final DocumentPool defaultPool = new DocumentPool(DEFAULT_MAX_SIZE);
+
+	/**
+	 * Gets the default pool, which keeps up to {@link #DEFAULT_MAX_SIZE} documents per thread.
+	 */
+	public static DocumentPool getDefault() {
+		return defaultPool;
+	}
+
+	private final int maxSize;
+
+	private final ThreadLocal<List<Document>> documents = ThreadLocal.withInitial(ArrayList::new);
+
+	/**
+	 * @param  maxSize  The maximum number of documents kept per thread
+	 */
+	public DocumentPool(int maxSize) {
+		if(maxSize < 0) throw new IllegalArgumentException("maxSize < 0: " + maxSize);
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Gets a document from this thread's pool, reset to write to the given writer, or a new document when none
+	 * available for the encoding context.
+	 *
+	 * @param  out  May be {@code null}, but must be set to a non-null value again before any additional writes.
+	 *              Not doing so may result in {@link IllegalStateException}.
+	 *
+	 * @throws  IOException  not expected, since pooled documents are flushed when released
+	 *
+	 * @see  Document#reset(java.io.Writer)
+	 */
+	public Document get(EncodingContext encodingContext, Writer out) throws IOException {
+		List<Document> available = documents.get();
+		for(int i = available.size() - 1; i >= 0; i--) {
+			Document document = available.get(i);
+			if(document.encodingContext == encodingContext) {
+				available.remove(i);
+				return document.reset(out);
+			}
+		}
+		return new Document(encodingContext, out);
+	}
+
+	/**
+	 * Gets a document using the shared encoding context for the given serialization and doctype.
+	 *
+	 * @param  out  May be {@code null}, but must be set to a non-null value again before any additional writes.
+	 *              Not doing so may result in {@link IllegalStateException}.
+	 *
+	 * @throws  IOException  not expected, since pooled documents are flushed when released
+	 *
+	 * @see  Document#getEncodingContext(com.aoapps.encoding.Serialization, com.aoapps.encoding.Doctype)
+	 */
+	public Document get(Serialization serialization, Doctype doctype, Writer out) throws IOException {
+		return get(Document.getEncodingContext(serialization, doctype), out);
+	}
+
+	/**
+	 * Returns a document to this thread's pool.  The document must not be used after being released.
+	 * Any output that is buffered or held by minification is first written and flushed.
+	 * When the pool is full, the oldest document is discarded.
+	 *
+	 * @throws  IOException  when unable to write the buffered output, in which case the document is not pooled
+	 *
+	 * @see  Document#reset(java.io.Writer)
+	 */
+	public void release(Document document) throws IOException {
+		if(maxSize > 0) {
+			// Do not hold onto the writer
+			document.reset(null);
+			List<Document> available = documents.get();
+			if(available.size() >= maxSize) available.remove(0);
+			available.add(document);
+		}
+	}
+}
@@ -0,0 +1,260 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.lang.io.function.IOConsumerE;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Renders a document as a stream of UTF-8 chunks for non-blocking servers.
+ * <p>
+ * The render begins on the first request from the subscriber, on a thread from the given executor, which by default
+ * is a new virtual thread when available (Java 21+).  Output is emitted in chunks of {@link #CHUNK_SIZE} bytes
+ * whenever a chunk is filled, and as a shorter chunk whenever the document is flushed.  When the subscriber has no
+ * outstanding demand, the render is suspended until more is requested, so the page is never buffered beyond a single
+ * chunk.
+ * </p>
+ * <p>
+ * Each chunk wraps the very buffer the document encoded into, so the output is not copied again.  Buffers are taken
+ * from a shared pool.  A subscriber that is done with a chunk may give it back with
+ * {@link #release(java.nio.ByteBuffer)}; chunks not released are simply garbage collected.  Only chunks emitted by
+ * this publisher and not yet released are given back, so releasing a chunk twice or releasing any other buffer can
+ * never share an array between documents.
+ * </p>
+ * <p>
+ * This publisher renders once, for a single subscriber.  Any additional subscriber receives
+ * {@link IllegalStateException}.
+ * </p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class DocumentPublisher implements Flow.Publisher<ByteBuffer> {
+
+	/**
+	 * The size of each chunk, in bytes.
+	 */
+	public static final int CHUNK_SIZE = Utf8Writer.DEFAULT_BUFFER_SIZE;
+
+	/**
+	 * The arrays of the chunks emitted and not yet released.  Arrays compare by identity.
+	 */
+	private final Set<byte[]> emitted = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Gives a chunk back for reuse.  The chunk must not be used after being released.
+	 * Buffers that were not emitted by this publisher, or have already been released, are ignored.
+	 *
+	 * @return  {@code true} when given back, or {@code false} when ignored
+	 */
+	public boolean release(ByteBuffer chunk) {
+		if(chunk.hasArray() && !chunk.isReadOnly()) {
+			byte[] array = chunk.array();
+			if(emitted.remove(array)) {
+				Buffers.release(array);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private final EncodingContext encodingContext;
+
+	private final Executor executor;
+
+	private final IOConsumerE<? super Document, ?> body;
+
+	private final AtomicBoolean subscribed = new AtomicBoolean();
+
+	/**
+	 * @param  executor  Runs the render, which blocks while there is no demand
+	 */
+	public DocumentPublisher(EncodingContext encodingContext, Executor executor, IOConsumerE<? super Document, ?> body) {
+		this.encodingContext = Objects.requireNonNull(encodingContext);
+		this.executor = Objects.requireNonNull(executor);
+		this.body = Objects.requireNonNull(body);
+	}
+
+	public DocumentPublisher(EncodingContext encodingContext, IOConsumerE<? super Document, ?> body) {
+		this(encodingContext, StitchingWriter.DEFAULT_EXECUTOR, body);
+	}
+
+	/**
+	 * @see  EncodingContext#DEFAULT
+	 */
+	public DocumentPublisher(IOConsumerE<? super Document, ?> body) {
+		this(EncodingContext.DEFAULT, body);
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+		Objects.requireNonNull(subscriber);
+		if(subscribed.compareAndSet(false, true)) {
+			Render render = new Render(subscriber);
+			subscriber.onSubscribe(render);
+		} else {
+			subscriber.onSubscribe(new Flow.Subscription() {
+				@Override
+				public void request(long n) {
+					// Nothing to emit
+				}
+				@Override
+				public void cancel() {
+					// Nothing to cancel
+				}
+			});
+			subscriber.onError(new IllegalStateException("Only a single subscriber is supported"));
+		}
+	}
+
+	/**
+	 * The subscription, which also receives the encoded output of the document.  All signals to the subscriber are
+	 * sent from the render thread.
+	 */
+	private final class Render implements Flow.Subscription, Utf8Writer.Handoff, Runnable {
+
+		private final Flow.Subscriber<? super ByteBuffer> subscriber;
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		/**
+		 * Signalled when demand is added or the subscription is cancelled.
+		 */
+		private final Condition demanded = lock.newCondition();
+
+		private long demand;
+
+		private boolean started;
+
+		private boolean cancelled;
+
+		/**
+		 * A request that violated the specification, to be sent to the subscriber.
+		 */
+		private IllegalArgumentException invalidRequest;
+
+		private Render(Flow.Subscriber<? super ByteBuffer> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			boolean start = false;
+			lock.lock();
+			try {
+				if(n <= 0) {
+					if(invalidRequest == null) invalidRequest = new IllegalArgumentException("Non-positive request: " + n);
+				} else {
+					demand += n;
+					if(demand < 0) demand = Long.MAX_VALUE;
+				}
+				if(!started) {
+					started = true;
+					start = true;
+				}
+				demanded.signalAll();
+			} finally {
+				lock.unlock();
+			}
+			if(start) {
+				try {
+					executor.execute(this);
+				} catch(RejectedExecutionException e) {
+					subscriber.onError(e);
+				}
+			}
+		}
+
+		@Override
+		public void cancel() {
+			lock.lock();
+			try {
+				cancelled = true;
+				demanded.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Waits for demand then emits the buffer as a chunk.
+		 *
+		 * @throws  CancellationException  when the subscription has been cancelled, ending the render
+		 */
+		@Override
+		public void accept(byte[] buf, int len) throws IOException {
+			lock.lock();
+			try {
+				while(demand == 0 && !cancelled && invalidRequest == null) {
+					demanded.await();
+				}
+				if(cancelled) throw new CancellationException();
+				if(invalidRequest != null) throw invalidRequest;
+				demand--;
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+				InterruptedIOException ioErr = new InterruptedIOException();
+				ioErr.initCause(e);
+				throw ioErr;
+			} finally {
+				lock.unlock();
+			}
+			emitted.add(buf);
+			subscriber.onNext(ByteBuffer.wrap(buf, 0, len));
+		}
+
+		@Override
+		public void run() {
+			try {
+				Document document = new Document(encodingContext, this);
+				body.accept(document);
+				document.awaitAsync();
+				document.flush();
+				subscriber.onComplete();
+			} catch(CancellationException e) {
+				// Subscriber no longer interested
+			} catch(Throwable t) {
+				boolean wasCancelled;
+				lock.lock();
+				try {
+					wasCancelled = cancelled;
+				} finally {
+					lock.unlock();
+				}
+				if(!wasCancelled) subscriber.onError(t);
+			}
+		}
+	}
+}
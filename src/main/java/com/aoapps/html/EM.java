@@ -38,6 +38,10 @@ final public class EM<
 > extends
 	AnyEM<Document, PC, EM<PC>, EM__<PC>, EM_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private EM__<PC> flyweight__;
+	private EM_c<PC> flyweight_c;
+
 	EM(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class EM<
 
 	@Override
 	protected EM__<PC> new__() {
-		return new EM__<>(this);
+		if(flyweight__ == null) flyweight__ = new EM__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected EM_c<PC> new_c() {
-		return new EM_c<>(this);
+		if(flyweight_c == null) flyweight_c = new EM_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -0,0 +1,59 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+/**
+ * Text that has been escaped for use in (X)HTML.
+ * <p>
+ * The value is escaped once, when created, and kept both as characters and as UTF-8 bytes.  Each use is then a single
+ * bulk write without scanning, writing the bytes directly when the document is encoding to UTF-8 itself.
+ * </p>
+ * <p>
+ * As a {@link CharSequence}, this is the original, unescaped value.  It may be given anywhere a value is accepted,
+ * and is written correctly, though possibly without the benefit of being pre-encoded.
+ * </p>
+ * <p>
+ * This class is immutable and thread-safe, and is intended to be created once and shared across requests.
+ * </p>
+ * <pre>static final EncodedText STATUS_ACTIVE = EncodedText.valueOf("Active");</pre>
+ *
+ * @see  Document#text(java.lang.Object)
+ *
+ * @author  AO Industries, Inc.
+ */
+final public class EncodedText extends EncodedValue {
+
+	/**
+	 * Escapes the given value once for reuse in any document.
+	 *
+	 * @param  value  The value, unescaped
+	 */
+	public static EncodedText valueOf(CharSequence value) {
+		String str = value.toString();
+		return new EncodedText(str, encode(str, false));
+	}
+
+	private EncodedText(String value, String encoded) {
+		super(value, encoded, null);
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import com.aoapps.encoding.EncodingContext;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * A value that has been escaped once for use in (X)HTML, kept both as characters and as UTF-8 bytes.
+ * <p>
+ * As a {@link CharSequence}, this is the original, unescaped value.
+ * </p>
+ *
+ * @see  EncodedText
+ * @see  EncodedAttributeValue
+ *
+ * @author  AO Industries, Inc.
+ */
+abstract class EncodedValue implements CharSequence {
+
+	/**
+	 * Escapes the given value.
+	 *
+	 * @param  attribute  Whether escaping for an attribute value instead of text
+	 */
+	static String encode(String value, boolean attribute) {
+		StringWriter encoded = new StringWriter(value.length() + (value.length() >> 2));
+		try {
+			if(attribute) Escaper.encodeAttribute(value, new char[Escaper.CHARS_SIZE], encoded);
+			else Escaper.encodeText(value, new char[Escaper.CHARS_SIZE], encoded);
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return encoded.toString();
+	}
+
+	private final String value;
+
+	private final Fragment encoded;
+
+	/**
+	 * The encoding context this value was encoded for, or {@code null} when the same in every context.
+	 */
+	private final EncodingContext encodingContext;
+
+	EncodedValue(String value, String encoded, EncodingContext encodingContext) {
+		this.value = value;
+		this.encoded = new Fragment(encoded);
+		this.encodingContext = encodingContext;
+	}
+
+	/**
+	 * @return  The original, unescaped value
+	 */
+	@Override
+	public String toString() {
+		return value;
+	}
+
+	@Override
+	public int length() {
+		return value.length();
+	}
+
+	@Override
+	public char charAt(int index) {
+		return value.charAt(index);
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		return value.subSequence(start, end);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if(obj == null || obj.getClass() != getClass()) return false;
+		EncodedValue other = (EncodedValue)obj;
+		return
+			value.equals(other.value)
+			&& encoded.toString().equals(other.encoded.toString())
+			&& (encodingContext == null ? other.encodingContext == null : encodingContext.equals(other.encodingContext));
+	}
+
+	@Override
+	public int hashCode() {
+		return value.hashCode();
+	}
+
+	/**
+	 * Gets the escaped value.
+	 */
+	public String getEncoded() {
+		return encoded.toString();
+	}
+
+	/**
+	 * Gets the encoding context this value was encoded for.
+	 *
+	 * @return  The context or {@code null} when this value may be written to any document
+	 */
+	public EncodingContext getEncodingContext() {
+		return encodingContext;
+	}
+
+	/**
+	 * Writes the escaped value in a single write.
+	 *
+	 * @throws  IllegalArgumentException  when this value was encoded for a different encoding context than the document
+	 */
+	void writeTo(Document document, Writer out) throws IOException {
+		if(encodingContext != null && !encodingContext.equals(document.encodingContext)) {
+			throw new IllegalArgumentException("Value encoded for a different encoding context: " + value);
+		}
+		encoded.writeTo(out);
+	}
+}
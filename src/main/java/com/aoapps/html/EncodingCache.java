@@ -0,0 +1,213 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of encoded text and attribute values, keyed by the identity of the {@link String} instance.
+ * <p>
+ * Literal constants, such as <code>"btn btn-primary"</code> or the label of a button in every row, are the same
+ * instance on every use.  Once such a string has been seen twice, its encoded form is cached and written directly,
+ * so it is escaped once per JVM instead of once per use.  Strings that are already clean are remembered as such and
+ * written without scanning.
+ * </p>
+ * <p>
+ * Each context has a fixed-size, direct-mapped table of immutable entries, indexed by
+ * {@link System#identityHashCode(java.lang.Object)}.  Lookups are lock-free, and a colliding string simply replaces
+ * the entry.  A string seen for the first time is only recorded, without copying, so strings built per request cost
+ * little more than without the cache.  Strings longer than {@link #MAX_LENGTH} are not cached.
+ * </p>
+ * <p>
+ * Documents use the cache for {@link Document#text(java.lang.Object)} and the text of elements, for the
+ * <code>class</code> of the commonly used elements given a {@link String}, such as
+ * {@link DIV#clazz(java.lang.String)}, and for the attribute holes of a {@link Template}.  All other attributes are
+ * written by the base library, without the cache.
+ * </p>
+ * <p>
+ * Documents do not cache unless given a cache.  Since each string first seen is recorded, and stays reachable until
+ * replaced, a cache is best used by documents that write mostly literal constants, such as forms and tables with
+ * fixed labels and classes.
+ * </p>
+ * <p>
+ * This class is thread-safe, and a single instance is typically shared by all documents of an application.
+ * </p>
+ *
+ * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+ *
+ * @author  AO Industries, Inc.
+ */
+final public class EncodingCache {
+
+	/**
+	 * The default number of entries per context.
+	 */
+	public static final int DEFAULT_SIZE = 4096;
+
+	/**
+	 * The longest string that is cached.
+	 */
+	public static final int MAX_LENGTH = 256;
+
+	private static final EncodingCache defaultInstance = new EncodingCache(DEFAULT_SIZE);
+
+	/**
+	 * Gets a shared cache of the default size, for documents that opt in to caching.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public static EncodingCache getDefault() {
+		return defaultInstance;
+	}
+
+	/**
+	 * An immutable entry, safely published through its final fields.
+	 */
+	private static final class Entry {
+
+		private final String key;
+
+		/**
+		 * The encoded form, which is the key itself when clean, or {@code null} when only seen once.
+		 */
+		private final String encoded;
+
+		private Entry(String key, String encoded) {
+			this.key = key;
+			this.encoded = encoded;
+		}
+	}
+
+	private final int size;
+
+	private final int mask;
+
+	private final Entry[] text;
+
+	private final Entry[] attribute;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * @param  size  The number of entries per context, rounded up to a power of two
+	 */
+	public EncodingCache(int size) {
+		if(size < 1 || size > (1 << 24)) throw new IllegalArgumentException("size out of range: " + size);
+		int s = Integer.highestOneBit(size);
+		if(s < size) s <<= 1;
+		this.size = s;
+		this.mask = s - 1;
+		this.text = new Entry[s];
+		this.attribute = new Entry[s];
+	}
+
+	/**
+	 * Gets the number of entries per context.
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Gets the number of strings written from the cache.
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Gets the number of strings encoded, not counting those longer than {@link #MAX_LENGTH}.
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Gets the ratio of hits to all lookups, or {@code 0} when none.
+	 */
+	public double getHitRatio() {
+		long h = hits.sum();
+		long total = h + misses.sum();
+		return (total == 0) ? 0 : (double)h / total;
+	}
+
+	/**
+	 * Removes all entries.  The counters are not reset.
+	 */
+	public void clear() {
+		for(int i = 0; i < size; i++) {
+			text[i] = null;
+			attribute[i] = null;
+		}
+	}
+
+	/**
+	 * Encodes a string, using the cache when possible.
+	 *
+	 * @param  chars  Scratch space at least {@link Escaper#CHARS_SIZE} long
+	 */
+	void encode(String s, boolean isAttribute, char[] chars, Writer out) throws IOException {
+		int len = s.length();
+		if(len > MAX_LENGTH) {
+			encodeDirect(s, isAttribute, chars, out);
+			return;
+		}
+		Entry[] table = isAttribute ? attribute : text;
+		int index = System.identityHashCode(s) & mask;
+		Entry entry = table[index];
+		if(entry != null && entry.key == s) {
+			String encoded = entry.encoded;
+			if(encoded != null) {
+				hits.increment();
+				out.write(encoded, 0, encoded.length());
+				return;
+			}
+			// Seen twice: cache the encoded form
+			misses.increment();
+			StringWriter buffer = new StringWriter(len + (len >> 2));
+			encodeDirect(s, isAttribute, chars, buffer);
+			encoded = buffer.toString();
+			if(encoded.equals(s)) encoded = s;
+			table[index] = new Entry(s, encoded);
+			out.write(encoded, 0, encoded.length());
+		} else {
+			// Seen once: remember only
+			misses.increment();
+			table[index] = new Entry(s, null);
+			encodeDirect(s, isAttribute, chars, out);
+		}
+	}
+
+	private static void encodeDirect(String s, boolean isAttribute, char[] chars, Writer out) throws IOException {
+		if(isAttribute) {
+			Escaper.encodeAttribute(s, chars, out);
+		} else {
+			Escaper.encodeText(s, chars, out);
+		}
+	}
+}
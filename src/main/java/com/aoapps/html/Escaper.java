@@ -0,0 +1,185 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import com.aoapps.encoding.TextInXhtmlAttributeEncoder;
+import com.aoapps.encoding.TextInXhtmlEncoder;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Escapes text and attribute values with the same output as {@link TextInXhtmlEncoder} and
+ * {@link TextInXhtmlAttributeEncoder}, scanning four characters at a time.
+ * <p>
+ * Strings are bulk copied into a scratch array in blocks.  Each group of four characters is packed into a
+ * {@code long} and tested for any character that might need escaping or validation with a handful of word-wide
+ * (SWAR) operations and a single branch.  Clean runs are then written with a single bulk write.  Only the runs that
+ * are not clean are given to the encoder, which escapes them and checks for invalid characters exactly as before.
+ * </p>
+ * <p>
+ * Clean characters are printable ASCII other than {@code &}, {@code <}, {@code >}, {@code "}, and {@code '}.  All
+ * others, including control characters, characters beyond ASCII, and surrogates, are given to the encoder.  Since
+ * surrogates are never clean, surrogate pairs are never split.
+ * </p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class Escaper {
+
+	private Escaper() {}
+
+	/**
+	 * The number of characters copied from strings at a time.
+	 */
+	static final int CHARS_SIZE = 1024;
+
+	/**
+	 * One in each of the four 16-bit lanes.
+	 */
+	private static final long LANES = 0x0001_0001_0001_0001L;
+
+	/**
+	 * The high bit of each lane.
+	 */
+	private static final long HIGH = 0x8000_8000_8000_8000L;
+
+	private static final long LESS_THAN_SPACE = LANES * ' ';
+	private static final long GREATER_THAN_TILDE = LANES * (0x7fff - '~');
+	private static final long AMP = LANES * '&';
+	private static final long LT = LANES * '<';
+	private static final long GT = LANES * '>';
+	private static final long QUOT = LANES * '"';
+	private static final long APOS = LANES * '\'';
+
+	/**
+	 * Any lane equal to zero.
+	 */
+	private static long hasZero(long x) {
+		return (x - LANES) & ~x & HIGH;
+	}
+
+	/**
+	 * Is any of the four characters packed into the word not clean?
+	 */
+	private static boolean isDirty(long x) {
+		return (
+			// Below space
+			((x - LESS_THAN_SPACE) & ~x & HIGH)
+			// Above tilde
+			| ((x + GREATER_THAN_TILDE) | x) & HIGH
+			| hasZero(x ^ AMP)
+			| hasZero(x ^ LT)
+			| hasZero(x ^ GT)
+			| hasZero(x ^ QUOT)
+			| hasZero(x ^ APOS)
+		) != 0;
+	}
+
+	/**
+	 * Is the character clean?
+	 */
+	private static boolean isClean(char c) {
+		return
+			c >= ' ' && c <= '~'
+			&& c != '&' && c != '<' && c != '>' && c != '"' && c != '\'';
+	}
+
+	/**
+	 * Escapes as {@link TextInXhtmlEncoder#encodeTextInXhtml(java.lang.CharSequence, java.lang.Appendable)}.
+	 *
+	 * @param  chars  Scratch space at least {@link #CHARS_SIZE} long
+	 */
+	static void encodeText(String s, char[] chars, Writer out) throws IOException {
+		encode(s, false, chars, out);
+	}
+
+	/**
+	 * Escapes as {@link TextInXhtmlAttributeEncoder#encodeTextInXhtmlAttribute(java.lang.CharSequence, java.lang.Appendable)}.
+	 *
+	 * @param  chars  Scratch space at least {@link #CHARS_SIZE} long
+	 */
+	static void encodeAttribute(String s, char[] chars, Writer out) throws IOException {
+		encode(s, true, chars, out);
+	}
+
+	private static void encode(String s, boolean attribute, char[] chars, Writer out) throws IOException {
+		int len = s.length();
+		// Start of the pending run, as an index into s
+		int runStart = 0;
+		boolean runClean = true;
+		for(int block = 0; block < len; block += CHARS_SIZE) {
+			int blockLen = Math.min(CHARS_SIZE, len - block);
+			s.getChars(block, block + blockLen, chars, 0);
+			int i = 0;
+			while(i < blockLen) {
+				if(runClean && i + 4 <= blockLen) {
+					long x =
+						chars[i]
+						| (long)chars[i + 1] << 16
+						| (long)chars[i + 2] << 32
+						| (long)chars[i + 3] << 48;
+					if(!isDirty(x)) {
+						i += 4;
+						continue;
+					}
+				}
+				// Character at a time until the state changes
+				boolean clean = isClean(chars[i]);
+				if(clean != runClean) {
+					int pos = block + i;
+					if(runClean) {
+						writeClean(runStart, pos, block, chars, out);
+					} else {
+						encodeDirty(s, runStart, pos, attribute, out);
+					}
+					runStart = pos;
+					runClean = clean;
+				}
+				i++;
+			}
+			// Write clean runs per block, while still in the scratch space
+			if(runClean) {
+				int pos = block + blockLen;
+				writeClean(runStart, pos, block, chars, out);
+				runStart = pos;
+			}
+		}
+		if(!runClean) encodeDirty(s, runStart, len, attribute, out);
+	}
+
+	/**
+	 * Writes a clean run from the scratch space.  Clean runs are written at the end of each block, so always start
+	 * within the current block.
+	 */
+	private static void writeClean(int start, int end, int block, char[] chars, Writer out) throws IOException {
+		if(start < end) out.write(chars, start - block, end - start);
+	}
+
+	private static void encodeDirty(String s, int start, int end, boolean attribute, Writer out) throws IOException {
+		if(attribute) {
+			TextInXhtmlAttributeEncoder.encodeTextInXhtmlAttribute(s, start, end, out);
+		} else {
+			TextInXhtmlEncoder.encodeTextInXhtml(s, start, end, out);
+		}
+	}
+}
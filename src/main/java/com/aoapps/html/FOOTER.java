@@ -38,6 +38,10 @@ final public class FOOTER<
 > extends
 	AnyFOOTER<Document, PC, FOOTER<PC>, FOOTER__<PC>, FOOTER_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private FOOTER__<PC> flyweight__;
+	private FOOTER_c<PC> flyweight_c;
+
 	FOOTER(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class FOOTER<
 
 	@Override
 	protected FOOTER__<PC> new__() {
-		return new FOOTER__<>(this);
+		if(flyweight__ == null) flyweight__ = new FOOTER__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected FOOTER_c<PC> new_c() {
-		return new FOOTER_c<>(this);
+		if(flyweight_c == null) flyweight_c = new FOOTER_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
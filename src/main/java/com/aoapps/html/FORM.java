@@ -41,6 +41,10 @@ final public class FORM<
 > extends
 	AnyFORM<Document, PC, FORM<PC>, FORM__<PC>, FORM_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private FORM__<PC> flyweight__;
+	private FORM_c<PC> flyweight_c;
+
 	FORM(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -53,11 +57,13 @@ final public class FORM<
 
 	@Override
 	protected FORM__<PC> new__() {
-		return new FORM__<>(this);
+		if(flyweight__ == null) flyweight__ = new FORM__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected FORM_c<PC> new_c() {
-		return new FORM_c<>(this);
+		if(flyweight_c == null) flyweight_c = new FORM_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -23,6 +23,7 @@
 package com.aoapps.html;
 
 import com.aoapps.html.any.AnyFlowContent;
+import com.aoapps.lang.io.function.IOConsumerE;
 import java.io.IOException;
 
 /**
@@ -89,6 +90,45 @@ public interface FlowContent<
 	// <editor-fold defaultstate="collapsed" desc="TODO: DIALOG">
 	// </editor-fold>
 	// Inherited: DIV
+	// <editor-fold defaultstate="collapsed" desc="DIV (deferred)">
+	/**
+	 * Writes an empty placeholder <code>DIV</code> now, deferring the rendering of its content until
+	 * {@link Document#renderDeferred()} at the end of <code>BODY</code>.  This allows the rest of the page to be sent
+	 * before slow regions, such as those waiting on backend calls, are rendered.
+	 * <p>
+	 * The content is written within a <code>&lt;template&gt;</code> and moved into the placeholder by a small
+	 * script.  Its content model is the same as that of <code>DIV</code>.
+	 * </p>
+	 * <p>
+	 * The body must not use any content model other than the one given to it, since everything else has already
+	 * been closed by the time it is invoked.
+	 * </p>
+	 *
+	 * @param  <Ex>  An arbitrary unchecked exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <Ex extends RuntimeException> __ deferred__(IOConsumerE<? super DIV__<__>, Ex> div) throws IOException {
+		@SuppressWarnings("unchecked")
+		__ pc = (__)this;
+		String id = getDocument().defer(pc, div);
+		return div().id(id).__();
+	}
+	// </editor-fold>
+	// <editor-fold defaultstate="collapsed" desc="DIV (async)">
+	/**
+	 * Writes a <code>DIV</code> with its content rendered asynchronously.
+	 *
+	 * @param  <Ex>  An arbitrary unchecked exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 *
+	 * @see  DIV#async__(com.aoapps.lang.io.function.IOConsumerE)
+	 */
+	default <Ex extends RuntimeException> __ async__(IOConsumerE<? super DIV__<__>, Ex> div) throws IOException {
+		return div().async__(div);
+	}
+	// </editor-fold>
 	// Inherited: DL
 	// Inherited: EM
 	// Inherited: EMBED
@@ -110,7 +150,9 @@ public interface FlowContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new HR<>(document, pc).writeOpen(document.getUnsafe(null));
+		HR<__> hr = document.getFlyweight(HR.class, pc);
+		if(hr == null) hr = document.putFlyweight(new HR<>(document, pc));
+		return hr.writeOpen(document.getUnsafe(null));
 	}
 	// </editor-fold>
 	// Inherited: I
@@ -0,0 +1,219 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A depth-indexed stack of reusable elements for a single {@link Document}.
+ * <p>
+ * The stack holds the content models currently open for writing, with the {@link Document} itself at depth zero.
+ * Each open content model has a set of slots, one per element type, holding the element most recently created within
+ * it.  Since the element caches its own <code>__</code> and <code>_c</code> content models, which in turn become the
+ * content models of the next depth, a steady-state render finds every element in its slot and allocates nothing per
+ * tag.
+ * </p>
+ * <p>
+ * Creating an element within a content model closes everything opened deeper within it.  A content model that is no
+ * longer on the stack is a stale handle.  When assertions are enabled, creating an element within, or pushing the
+ * content model of an element created within, a stale handle throws {@link IllegalStateException}.  Otherwise, a new,
+ * non-reused element is created.  Text is not checked, and a stale handle that has since been reused for a sibling is
+ * open again, so neither can be detected.
+ * </p>
+ * <p>
+ * This is not thread-safe, just as {@link Document} is not thread-safe.
+ * </p>
+ *
+ * @see  Document#setFlyweights(boolean)
+ *
+ * @author  AO Industries, Inc.
+ */
+final class Flyweights {
+
+	/**
+	 * Detect the use of stale handles when assertions are enabled.
+	 */
+	private static final boolean CHECK_STALE = Flyweights.class.desiredAssertionStatus();
+
+	private static final AtomicInteger nextIndex = new AtomicInteger();
+
+	/**
+	 * The slot index assigned to each element type.
+	 */
+	private static final ClassValue<Integer> indexes = new ClassValue<Integer>() {
+		@Override
+		protected Integer computeValue(Class<?> type) {
+			return nextIndex.getAndIncrement();
+		}
+	};
+
+	private static final int INITIAL_DEPTH = 16;
+
+	/**
+	 * The number of distinct content models to remember slots for.  Content models are themselves reused in a
+	 * steady-state render, so this is only reached when elements are not being reused, such as after stale handles.
+	 */
+	private static final int MAX_SLOTS = 1024;
+
+	private static final Object[] EMPTY = {};
+
+	/**
+	 * The content models, indexed by depth.
+	 */
+	private Object[] parents = new Object[INITIAL_DEPTH];
+
+	/**
+	 * The slots of each content model, indexed by depth.
+	 */
+	private Object[][] slots = new Object[INITIAL_DEPTH][];
+
+	/**
+	 * The number of content models on the stack.
+	 */
+	private int size;
+
+	/**
+	 * The slots of each content model, retained while it is not on the stack.
+	 */
+	private final Map<Object, Object[]> slotsByParent = new IdentityHashMap<>();
+
+	/**
+	 * The position of the most recent miss from {@link #get(java.lang.Class, java.lang.Object)},
+	 * or {@code -1} when the new element should not be stored.
+	 */
+	private int missDepth = -1;
+	private int missIndex;
+
+	Flyweights(Document document) {
+		parents[0] = document;
+		slots[0] = getSlots(document);
+		size = 1;
+	}
+
+	/**
+	 * Closes all content models, leaving only the document open for writing.  Slots are retained for reuse.
+	 */
+	void reset() {
+		for(int i = 1; i < size; i++) {
+			parents[i] = null;
+			slots[i] = null;
+		}
+		size = 1;
+		missDepth = -1;
+	}
+
+	private Object[] getSlots(Object parent) {
+		Object[] s = slotsByParent.get(parent);
+		if(s == null) {
+			if(slotsByParent.size() >= MAX_SLOTS) slotsByParent.clear();
+			s = EMPTY;
+			slotsByParent.put(parent, s);
+		}
+		return s;
+	}
+
+	/**
+	 * Finds the depth of the given content model, closing anything deeper.
+	 *
+	 * @return  The depth or {@code -1} when not on the stack
+	 *
+	 * @throws  IllegalStateException  when assertions are enabled and the content model is a stale handle
+	 */
+	private int enter(Object pc) throws IllegalStateException {
+		for(int depth = size - 1; depth >= 0; depth--) {
+			if(parents[depth] == pc) {
+				// Close anything deeper
+				for(int i = depth + 1; i < size; i++) {
+					parents[i] = null;
+					slots[i] = null;
+				}
+				size = depth + 1;
+				return depth;
+			}
+		}
+		if(CHECK_STALE) {
+			throw new IllegalStateException("Stale handle: content model is no longer open for writing: " + pc.getClass().getName());
+		}
+		return -1;
+	}
+
+	/**
+	 * Gets the reusable element of the given type within the given content model.
+	 * On a miss, the new element should then be provided to {@link #put(java.lang.Object)}.
+	 *
+	 * @return  The element or {@code null} when a new element must be created.
+	 */
+	Object get(Class<?> type, Object pc) {
+		int depth = enter(pc);
+		if(depth == -1) {
+			missDepth = -1;
+			return null;
+		}
+		int index = indexes.get(type);
+		Object[] s = slots[depth];
+		if(index < s.length) {
+			Object element = s[index];
+			if(element != null) return element;
+		} else {
+			s = Arrays.copyOf(s, Math.max(index + 1, s.length * 2));
+			slots[depth] = s;
+			slotsByParent.put(pc, s);
+		}
+		missDepth = depth;
+		missIndex = index;
+		return null;
+	}
+
+	/**
+	 * Stores the element created after the most recent miss.
+	 */
+	void put(Object element) {
+		if(missDepth != -1) {
+			slots[missDepth][missIndex] = element;
+			missDepth = -1;
+		}
+	}
+
+	/**
+	 * Pushes a content model of an element, becoming open for writing one level deeper than the element.
+	 *
+	 * @param  pc      The parent content model of the element
+	 * @param  parent  The <code>__</code> or <code>_c</code> content model of the element
+	 */
+	void push(Object pc, Object parent) {
+		int depth = enter(pc);
+		if(depth != -1) {
+			depth++;
+			if(depth == parents.length) {
+				parents = Arrays.copyOf(parents, depth * 2);
+				slots = Arrays.copyOf(slots, depth * 2);
+			}
+			parents[depth] = parent;
+			slots[depth] = getSlots(parent);
+			size = depth + 1;
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A piece of markup, pre-encoded both as characters and as UTF-8 bytes, so that it may be written with a single bulk
+ * write.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class Fragment {
+
+	private final String markup;
+
+	private final char[] chars;
+
+	private final byte[] bytes;
+
+	Fragment(String markup) {
+		this.markup = markup;
+		this.chars = markup.toCharArray();
+		this.bytes = markup.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public String toString() {
+		return markup;
+	}
+
+	int length() {
+		return chars.length;
+	}
+
+	boolean isEmpty() {
+		return chars.length == 0;
+	}
+
+	/**
+	 * @return  The same array on every call, which must not be modified.
+	 */
+	char[] getChars() {
+		return chars;
+	}
+
+	/**
+	 * @return  The same array on every call, which must not be modified.
+	 */
+	byte[] getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Writes this fragment in a single write, writing the UTF-8 bytes directly when possible.
+	 */
+	void writeTo(Writer out) throws IOException {
+		if(out instanceof Utf8Writer) {
+			((Utf8Writer)out).writeEncoded(bytes, 0, bytes.length);
+		} else {
+			out.write(chars);
+		}
+	}
+}
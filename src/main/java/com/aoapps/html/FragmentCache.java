@@ -0,0 +1,239 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.Serialization;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A size-bounded, least-recently-used cache of rendered markup for {@link Document#cached(java.lang.Object, com.aoapps.lang.io.function.IOConsumerE)}.
+ * <p>
+ * Entries are keyed by the application-provided key along with the {@link EncodingContext}, {@link Serialization},
+ * {@link Doctype}, indentation, indentation depth, and whether at a new line of the document, since the same subtree
+ * renders differently for each.
+ * </p>
+ * <p>
+ * The encoding context is compared by {@link Object#equals(java.lang.Object)}, so a URL encoded for one request,
+ * such as with a session id, is not replayed to another.  Documents only share entries when created with equal
+ * contexts, such as the shared contexts of {@link Document#getEncodingContext(com.aoapps.encoding.Serialization, com.aoapps.encoding.Doctype)}
+ * or a context implementing {@link Object#equals(java.lang.Object)}.
+ * </p>
+ * <p>
+ * This class is thread-safe, and a single instance is typically shared by all documents of an application.
+ * It locks with a {@link ReentrantLock} instead of synchronizing, so it does not pin virtual threads.
+ * </p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class FragmentCache {
+
+	/**
+	 * The default maximum number of entries.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 1000;
+
+	private static final FragmentCache defaultInstance = new FragmentCache(DEFAULT_MAX_SIZE);
+
+	/**
+	 * Gets the default cache, used by documents that have not been given a different cache.
+	 */
+	public static FragmentCache getDefault() {
+		return defaultInstance;
+	}
+
+	static final class Key {
+
+		private final Object key;
+		private final EncodingContext encodingContext;
+		private final Serialization serialization;
+		private final Doctype doctype;
+		private final boolean indent;
+		private final int depth;
+		private final boolean atnl;
+		private final int hash;
+
+		Key(Object key, EncodingContext encodingContext, Serialization serialization, Doctype doctype, boolean indent, int depth, boolean atnl) {
+			this.key = Objects.requireNonNull(key);
+			this.encodingContext = encodingContext;
+			this.serialization = serialization;
+			this.doctype = doctype;
+			this.indent = indent;
+			// Depth and the new line state do not affect output when not indenting
+			this.depth = indent ? depth : 0;
+			this.atnl = indent && atnl;
+			int h = key.hashCode();
+			h = h * 31 + encodingContext.hashCode();
+			h = h * 31 + serialization.hashCode();
+			h = h * 31 + doctype.hashCode();
+			h = h * 31 + (indent ? 1 : 0);
+			h = h * 31 + this.depth;
+			h = h * 31 + (this.atnl ? 1 : 0);
+			this.hash = h;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if(!(obj instanceof Key)) return false;
+			Key other = (Key)obj;
+			return
+				hash == other.hash
+				&& serialization == other.serialization
+				&& doctype == other.doctype
+				&& indent == other.indent
+				&& depth == other.depth
+				&& atnl == other.atnl
+				&& key.equals(other.key)
+				&& encodingContext.equals(other.encodingContext);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	private final int maxSize;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Map<Key, Fragment> entries;
+
+	private long hits;
+
+	private long misses;
+
+	private long evictions;
+
+	/**
+	 * @param  maxSize  The maximum number of entries, after which the least-recently-used entry is evicted.
+	 */
+	public FragmentCache(int maxSize) {
+		if(maxSize < 1) throw new IllegalArgumentException("maxSize < 1: " + maxSize);
+		this.maxSize = maxSize;
+		this.entries = new LinkedHashMap<Key, Fragment>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Fragment> eldest) {
+				if(size() > FragmentCache.this.maxSize) {
+					evictions++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Gets the current number of entries.
+	 */
+	public int size() {
+		lock.lock();
+		try {
+			return entries.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gets the number of lookups that found rendered markup.
+	 */
+	public long getHits() {
+		lock.lock();
+		try {
+			return hits;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gets the number of lookups that required rendering.
+	 */
+	public long getMisses() {
+		lock.lock();
+		try {
+			return misses;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gets the number of entries evicted to stay within {@link #getMaxSize()}.
+	 */
+	public long getEvictions() {
+		lock.lock();
+		try {
+			return evictions;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Removes all entries, such as after a deploy changes the rendered markup.
+	 * The counters are not reset.
+	 */
+	public void clear() {
+		lock.lock();
+		try {
+			entries.clear();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return  The rendered markup or {@code null} when not cached
+	 */
+	Fragment get(Key key) {
+		lock.lock();
+		try {
+			Fragment fragment = entries.get(key);
+			if(fragment != null) hits++;
+			else misses++;
+			return fragment;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	void put(Key key, Fragment fragment) {
+		lock.lock();
+		try {
+			entries.put(key, fragment);
+		} finally {
+			lock.unlock();
+		}
+	}
+}
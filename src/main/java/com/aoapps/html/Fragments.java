@@ -0,0 +1,159 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.Serialization;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Pre-encoded markup of every {@link Tag} for one {@link Serialization} and {@link Doctype}.  One instance is chosen
+ * when each {@link Document} is created, so each tag may then be written with a single bulk write.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class Fragments {
+
+	private static final Map<Serialization, Map<Doctype, Fragments>> instances = new EnumMap<>(Serialization.class);
+	static {
+		for(Serialization serialization : Serialization.values()) {
+			Map<Doctype, Fragments> byDoctype = new EnumMap<>(Doctype.class);
+			for(Doctype doctype : Doctype.values()) {
+				byDoctype.put(doctype, new Fragments(serialization, doctype));
+			}
+			instances.put(serialization, byDoctype);
+		}
+	}
+
+	/**
+	 * Gets the shared instance for the given serialization and doctype.
+	 */
+	static Fragments getInstance(Serialization serialization, Doctype doctype) {
+		return instances.get(serialization).get(doctype);
+	}
+
+	private final Serialization serialization;
+
+	private final Doctype doctype;
+
+	private final EncodingContext encodingContext;
+
+	private final Fragment selfClose;
+
+	private final Fragment[] open;
+
+	private final Fragment[] openEnd;
+
+	private final Fragment[] close;
+
+	private Fragments(Serialization serialization, Doctype doctype) {
+		this.serialization = serialization;
+		this.doctype = doctype;
+		this.encodingContext = new EncodingContext() {
+			@Override
+			public Serialization getSerialization() {
+				return serialization;
+			}
+			@Override
+			public Doctype getDoctype() {
+				return doctype;
+			}
+		};
+		selfClose = new Fragment(serialization == Serialization.XML ? " />" : ">");
+		Tag[] tags = Tag.values();
+		int len = tags.length;
+		open = new Fragment[len];
+		openEnd = new Fragment[len];
+		close = new Fragment[len];
+		for(Tag tag : tags) {
+			int i = tag.ordinal();
+			String name = tag.getTagName();
+			String prefix = '<' + name + getDefaultAttributes(tag, doctype);
+			open[i] = new Fragment(prefix);
+			if(tag.isVoid()) {
+				openEnd[i] = new Fragment(prefix + selfClose);
+			} else {
+				openEnd[i] = new Fragment(prefix + '>');
+				close[i] = new Fragment("</" + name + '>');
+			}
+		}
+	}
+
+	/**
+	 * Gets any attributes required by the doctype even when not specified.
+	 */
+	private static String getDefaultAttributes(Tag tag, Doctype doctype) {
+		if(doctype != Doctype.HTML5) {
+			if(tag == Tag.SCRIPT) return " type=\"text/javascript\"";
+			if(tag == Tag.STYLE) return " type=\"text/css\"";
+		}
+		return "";
+	}
+
+	Serialization getSerialization() {
+		return serialization;
+	}
+
+	Doctype getDoctype() {
+		return doctype;
+	}
+
+	/**
+	 * Gets the shared, immutable encoding context for this serialization and doctype.
+	 */
+	EncodingContext getEncodingContext() {
+		return encodingContext;
+	}
+
+	/**
+	 * Gets the ending of void elements: {@code ">"} for SGML or {@code " />"} for XML.
+	 */
+	Fragment selfClose() {
+		return selfClose;
+	}
+
+	/**
+	 * Gets the beginning of the start tag, before any attributes, such as {@code "<div"}.
+	 */
+	Fragment open(Tag tag) {
+		return open[tag.ordinal()];
+	}
+
+	/**
+	 * Gets the complete start tag without attributes, such as {@code "<div>"} or {@code "<br />"}.
+	 */
+	Fragment openEnd(Tag tag) {
+		return openEnd[tag.ordinal()];
+	}
+
+	/**
+	 * Gets the end tag, such as {@code "</div>"}.
+	 *
+	 * @return  The end tag or {@code null} for void elements
+	 */
+	Fragment close(Tag tag) {
+		return close[tag.ordinal()];
+	}
+}
@@ -38,23 +38,47 @@ final public class H1<
 > extends
 	AnyH1<Document, PC, H1<PC>, H1__<PC>, H1_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private H1__<PC> flyweight__;
+	private H1_c<PC> flyweight_c;
+
 	H1(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public H1<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public H1<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected H1<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.H1, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected H1__<PC> new__() {
-		return new H1__<>(this);
+		if(flyweight__ == null) flyweight__ = new H1__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected H1_c<PC> new_c() {
-		return new H1_c<>(this);
+		if(flyweight_c == null) flyweight_c = new H1_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,23 +38,47 @@ final public class H2<
 > extends
 	AnyH2<Document, PC, H2<PC>, H2__<PC>, H2_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private H2__<PC> flyweight__;
+	private H2_c<PC> flyweight_c;
+
 	H2(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public H2<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public H2<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected H2<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.H2, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected H2__<PC> new__() {
-		return new H2__<>(this);
+		if(flyweight__ == null) flyweight__ = new H2__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected H2_c<PC> new_c() {
-		return new H2_c<>(this);
+		if(flyweight_c == null) flyweight_c = new H2_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,23 +38,47 @@ final public class H3<
 > extends
 	AnyH3<Document, PC, H3<PC>, H3__<PC>, H3_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private H3__<PC> flyweight__;
+	private H3_c<PC> flyweight_c;
+
 	H3(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public H3<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public H3<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected H3<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.H3, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected H3__<PC> new__() {
-		return new H3__<>(this);
+		if(flyweight__ == null) flyweight__ = new H3__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected H3_c<PC> new_c() {
-		return new H3_c<>(this);
+		if(flyweight_c == null) flyweight_c = new H3_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
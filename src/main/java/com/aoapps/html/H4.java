@@ -38,23 +38,47 @@ final public class H4<
 > extends
 	AnyH4<Document, PC, H4<PC>, H4__<PC>, H4_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private H4__<PC> flyweight__;
+	private H4_c<PC> flyweight_c;
+
 	H4(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public H4<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public H4<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected H4<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.H4, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected H4__<PC> new__() {
-		return new H4__<>(this);
+		if(flyweight__ == null) flyweight__ = new H4__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected H4_c<PC> new_c() {
-		return new H4_c<>(this);
+		if(flyweight_c == null) flyweight_c = new H4_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,23 +38,47 @@ final public class H5<
 > extends
 	AnyH5<Document, PC, H5<PC>, H5__<PC>, H5_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private H5__<PC> flyweight__;
+	private H5_c<PC> flyweight_c;
+
 	H5(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public H5<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public H5<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected H5<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.H5, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected H5__<PC> new__() {
-		return new H5__<>(this);
+		if(flyweight__ == null) flyweight__ = new H5__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected H5_c<PC> new_c() {
-		return new H5_c<>(this);
+		if(flyweight_c == null) flyweight_c = new H5_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
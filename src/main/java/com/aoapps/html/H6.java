@@ -38,23 +38,47 @@ final public class H6<
 > extends
 	AnyH6<Document, PC, H6<PC>, H6__<PC>, H6_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private H6__<PC> flyweight__;
+	private H6_c<PC> flyweight_c;
+
 	H6(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public H6<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public H6<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected H6<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.H6, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected H6__<PC> new__() {
-		return new H6__<>(this);
+		if(flyweight__ == null) flyweight__ = new H6__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected H6_c<PC> new_c() {
-		return new H6_c<>(this);
+		if(flyweight_c == null) flyweight_c = new H6_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
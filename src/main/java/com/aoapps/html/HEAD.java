@@ -38,6 +38,10 @@ final public class HEAD<
 > extends
 	AnyHEAD<Document, PC, HEAD<PC>, HEAD__<PC>, HEAD_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private HEAD__<PC> flyweight__;
+	private HEAD_c<PC> flyweight_c;
+
 	HEAD(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class HEAD<
 
 	@Override
 	protected HEAD__<PC> new__() {
-		return new HEAD__<>(this);
+		if(flyweight__ == null) flyweight__ = new HEAD__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected HEAD_c<PC> new_c() {
-		return new HEAD_c<>(this);
+		if(flyweight_c == null) flyweight_c = new HEAD_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,6 +38,10 @@ final public class HEADER<
 > extends
 	AnyHEADER<Document, PC, HEADER<PC>, HEADER__<PC>, HEADER_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private HEADER__<PC> flyweight__;
+	private HEADER_c<PC> flyweight_c;
+
 	HEADER(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class HEADER<
 
 	@Override
 	protected HEADER__<PC> new__() {
-		return new HEADER__<>(this);
+		if(flyweight__ == null) flyweight__ = new HEADER__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected HEADER_c<PC> new_c() {
-		return new HEADER_c<>(this);
+		if(flyweight_c == null) flyweight_c = new HEADER_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -39,6 +39,10 @@ final public class HTML<
 	AnyHTML<Document, PC, HTML<PC>, HTML__<PC>, HTML_c<PC>>
 {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private HTML__<PC> flyweight__;
+	private HTML_c<PC> flyweight_c;
+
 	HTML(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -51,11 +55,13 @@ final public class HTML<
 
 	@Override
 	protected HTML__<PC> new__() {
-		return new HTML__<>(this);
+		if(flyweight__ == null) flyweight__ = new HTML__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected HTML_c<PC> new_c() {
-		return new HTML_c<>(this);
+		if(flyweight_c == null) flyweight_c = new HTML_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
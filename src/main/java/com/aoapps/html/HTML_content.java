@@ -50,7 +50,9 @@ public interface HTML_content<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new HEAD<>(document, pc).writeOpen(document.getUnsafe(null));
+		HEAD<__> head = document.getFlyweight(HEAD.class, pc);
+		if(head == null) head = document.putFlyweight(new HEAD<>(document, pc));
+		return head.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -67,6 +69,21 @@ public interface HTML_content<
 		return head().__(head);
 	}
 
+	/**
+	 * Creates a head element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/semantics.html#the-head-element">4.2.1 The head element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ head__(C context, ContextConsumerE<? super HEAD__<__>, ? super C, Ex> head) throws IOException, Ex {
+		return head().__(getDocument().withContext(head, context));
+	}
+
 	@Override
 	default HEAD_c<__> head_c() throws IOException {
 		return head()._c();
@@ -78,7 +95,9 @@ public interface HTML_content<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new BODY<>(document, pc).writeOpen(document.getUnsafe(null));
+		BODY<__> body = document.getFlyweight(BODY.class, pc);
+		if(body == null) body = document.putFlyweight(new BODY<>(document, pc));
+		return body.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -97,6 +116,23 @@ public interface HTML_content<
 		return body().__(body);
 	}
 
+	/**
+	 * Creates a body element with no attributes and the given body, which is given the context.
+	 * <ul>
+	 * <li>See <a href="https://html.spec.whatwg.org/multipage/sections.html#the-body-element">4.3.1 The body element</a>.</li>
+	 * <li>See <a href="https://developer.mozilla.org/en-US/docs/Web/HTML/Element/body">&lt;body&gt;: The Document Body element - HTML: HyperText Markup Language | MDN</a>.</li>
+	 * <li>See <a href="https://www.w3schools.com/tags/tag_body.asp">HTML body tag</a>.</li>
+	 * </ul>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ body__(C context, ContextConsumerE<? super BODY__<__>, ? super C, Ex> body) throws IOException, Ex {
+		return body().__(getDocument().withContext(body, context));
+	}
+
 	@Override
 	default BODY_c<__> body_c() throws IOException {
 		return body()._c();
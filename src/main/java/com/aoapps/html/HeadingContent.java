@@ -59,7 +59,19 @@ public interface HeadingContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new H1<>(document, pc).writeOpen(document.getUnsafe(null));
+		H1<__> h1 = document.getFlyweight(H1.class, pc);
+		if(h1 == null) h1 = document.putFlyweight(new H1<>(document, pc));
+		return h1.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ h1__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.H1, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return h1().__(text);
 	}
 
 	/**
@@ -76,6 +88,21 @@ public interface HeadingContent<
 		return h1().__(h1);
 	}
 
+	/**
+	 * Creates an h1 element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/sections.html#the-h1,-h2,-h3,-h4,-h5,-and-h6-elements">4.3.6 The h1, h2, h3, h4, h5, and h6 elements</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ h1__(C context, ContextConsumerE<? super H1__<__>, ? super C, Ex> h1) throws IOException, Ex {
+		return h1().__(getDocument().withContext(h1, context));
+	}
+
 	@Override
 	default H1_c<__> h1_c() throws IOException {
 		return h1()._c();
@@ -87,7 +114,19 @@ public interface HeadingContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new H2<>(document, pc).writeOpen(document.getUnsafe(null));
+		H2<__> h2 = document.getFlyweight(H2.class, pc);
+		if(h2 == null) h2 = document.putFlyweight(new H2<>(document, pc));
+		return h2.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ h2__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.H2, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return h2().__(text);
 	}
 
 	/**
@@ -104,6 +143,21 @@ public interface HeadingContent<
 		return h2().__(h2);
 	}
 
+	/**
+	 * Creates an h2 element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/sections.html#the-h1,-h2,-h3,-h4,-h5,-and-h6-elements">4.3.6 The h1, h2, h3, h4, h5, and h6 elements</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ h2__(C context, ContextConsumerE<? super H2__<__>, ? super C, Ex> h2) throws IOException, Ex {
+		return h2().__(getDocument().withContext(h2, context));
+	}
+
 	@Override
 	default H2_c<__> h2_c() throws IOException {
 		return h2()._c();
@@ -115,7 +169,19 @@ public interface HeadingContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new H3<>(document, pc).writeOpen(document.getUnsafe(null));
+		H3<__> h3 = document.getFlyweight(H3.class, pc);
+		if(h3 == null) h3 = document.putFlyweight(new H3<>(document, pc));
+		return h3.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ h3__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.H3, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return h3().__(text);
 	}
 
 	/**
@@ -132,6 +198,21 @@ public interface HeadingContent<
 		return h3().__(h3);
 	}
 
+	/**
+	 * Creates an h3 element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/sections.html#the-h1,-h2,-h3,-h4,-h5,-and-h6-elements">4.3.6 The h1, h2, h3, h4, h5, and h6 elements</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ h3__(C context, ContextConsumerE<? super H3__<__>, ? super C, Ex> h3) throws IOException, Ex {
+		return h3().__(getDocument().withContext(h3, context));
+	}
+
 	@Override
 	default H3_c<__> h3_c() throws IOException {
 		return h3()._c();
@@ -143,7 +224,19 @@ public interface HeadingContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new H4<>(document, pc).writeOpen(document.getUnsafe(null));
+		H4<__> h4 = document.getFlyweight(H4.class, pc);
+		if(h4 == null) h4 = document.putFlyweight(new H4<>(document, pc));
+		return h4.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ h4__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.H4, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return h4().__(text);
 	}
 
 	/**
@@ -160,6 +253,21 @@ public interface HeadingContent<
 		return h4().__(h4);
 	}
 
+	/**
+	 * Creates an h4 element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/sections.html#the-h1,-h2,-h3,-h4,-h5,-and-h6-elements">4.3.6 The h1, h2, h3, h4, h5, and h6 elements</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ h4__(C context, ContextConsumerE<? super H4__<__>, ? super C, Ex> h4) throws IOException, Ex {
+		return h4().__(getDocument().withContext(h4, context));
+	}
+
 	@Override
 	default H4_c<__> h4_c() throws IOException {
 		return h4()._c();
@@ -171,7 +279,19 @@ public interface HeadingContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new H5<>(document, pc).writeOpen(document.getUnsafe(null));
+		H5<__> h5 = document.getFlyweight(H5.class, pc);
+		if(h5 == null) h5 = document.putFlyweight(new H5<>(document, pc));
+		return h5.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ h5__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.H5, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return h5().__(text);
 	}
 
 	/**
@@ -188,6 +308,21 @@ public interface HeadingContent<
 		return h5().__(h5);
 	}
 
+	/**
+	 * Creates an h5 element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/sections.html#the-h1,-h2,-h3,-h4,-h5,-and-h6-elements">4.3.6 The h1, h2, h3, h4, h5, and h6 elements</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ h5__(C context, ContextConsumerE<? super H5__<__>, ? super C, Ex> h5) throws IOException, Ex {
+		return h5().__(getDocument().withContext(h5, context));
+	}
+
 	@Override
 	default H5_c<__> h5_c() throws IOException {
 		return h5()._c();
@@ -199,7 +334,19 @@ public interface HeadingContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new H6<>(document, pc).writeOpen(document.getUnsafe(null));
+		H6<__> h6 = document.getFlyweight(H6.class, pc);
+		if(h6 == null) h6 = document.putFlyweight(new H6<>(document, pc));
+		return h6.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ h6__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.H6, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return h6().__(text);
 	}
 
 	/**
@@ -216,6 +363,21 @@ public interface HeadingContent<
 		return h6().__(h6);
 	}
 
+	/**
+	 * Creates an h6 element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/sections.html#the-h1,-h2,-h3,-h4,-h5,-and-h6-elements">4.3.6 The h1, h2, h3, h4, h5, and h6 elements</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ h6__(C context, ContextConsumerE<? super H6__<__>, ? super C, Ex> h6) throws IOException, Ex {
+		return h6().__(getDocument().withContext(h6, context));
+	}
+
 	@Override
 	default H6_c<__> h6_c() throws IOException {
 		return h6()._c();
@@ -38,6 +38,10 @@ final public class I<
 > extends
 	AnyI<Document, PC, I<PC>, I__<PC>, I_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private I__<PC> flyweight__;
+	private I_c<PC> flyweight_c;
+
 	I(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class I<
 	}
 	@Override
 	protected I__<PC> new__() {
-		return new I__<>(this);
+		if(flyweight__ == null) flyweight__ = new I__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected I_c<PC> new_c() {
-		return new I_c<>(this);
+		if(flyweight_c == null) flyweight_c = new I_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
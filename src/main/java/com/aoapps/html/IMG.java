@@ -46,6 +46,22 @@ final public class IMG<
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/embedded-content-other.html#attr-dim-width">The width attribute</a>.
+	 */
+	public IMG<PC> width(int width) throws IOException {
+		document.writeAttribute(" width=\"", width);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/embedded-content-other.html#attr-dim-height">The height attribute</a>.
+	 */
+	public IMG<PC> height(int height) throws IOException {
+		document.writeAttribute(" height=\"", height);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected IMG<PC> writeOpen(Writer out) throws IOException {
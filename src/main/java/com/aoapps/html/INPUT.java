@@ -195,6 +195,22 @@ final public class INPUT {
 			super(document, pc);
 		}
 
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-maxlength">The maxlength attribute</a>.
+		 */
+		public INPUT.Email<PC> maxlength(int maxlength) throws IOException {
+			document.writeAttribute(" maxlength=\"", maxlength);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-size">The size attribute</a>.
+		 */
+		public INPUT.Email<PC> size(int size) throws IOException {
+			document.writeAttribute(" size=\"", size);
+			return this;
+		}
+
 		// Expose to this package, avoiding public to keep a clean API for optimal code assist
 		@Override
 		protected INPUT.Email<PC> writeOpen(Writer out) throws IOException {
@@ -307,6 +323,78 @@ final public class INPUT {
 			super(document, pc);
 		}
 
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-value">The value attribute</a>.
+		 */
+		public INPUT.Number<PC> value(long value) throws IOException {
+			document.writeAttribute(" value=\"", value);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-value">The value attribute</a>.
+		 */
+		public INPUT.Number<PC> value(double value) throws IOException {
+			document.writeAttribute(" value=\"", value);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-value">The value attribute</a>.
+		 */
+		public INPUT.Number<PC> value(float value) throws IOException {
+			document.writeAttribute(" value=\"", value);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-min">The min attribute</a>.
+		 */
+		public INPUT.Number<PC> min(long min) throws IOException {
+			document.writeAttribute(" min=\"", min);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-min">The min attribute</a>.
+		 */
+		public INPUT.Number<PC> min(double min) throws IOException {
+			document.writeAttribute(" min=\"", min);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-min">The min attribute</a>.
+		 */
+		public INPUT.Number<PC> min(float min) throws IOException {
+			document.writeAttribute(" min=\"", min);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-max">The max attribute</a>.
+		 */
+		public INPUT.Number<PC> max(long max) throws IOException {
+			document.writeAttribute(" max=\"", max);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-max">The max attribute</a>.
+		 */
+		public INPUT.Number<PC> max(double max) throws IOException {
+			document.writeAttribute(" max=\"", max);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-max">The max attribute</a>.
+		 */
+		public INPUT.Number<PC> max(float max) throws IOException {
+			document.writeAttribute(" max=\"", max);
+			return this;
+		}
+
 		// Expose to this package, avoiding public to keep a clean API for optimal code assist
 		@Override
 		protected INPUT.Number<PC> writeOpen(Writer out) throws IOException {
@@ -328,6 +416,22 @@ final public class INPUT {
 			super(document, pc);
 		}
 
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-maxlength">The maxlength attribute</a>.
+		 */
+		public INPUT.Password<PC> maxlength(int maxlength) throws IOException {
+			document.writeAttribute(" maxlength=\"", maxlength);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-size">The size attribute</a>.
+		 */
+		public INPUT.Password<PC> size(int size) throws IOException {
+			document.writeAttribute(" size=\"", size);
+			return this;
+		}
+
 		// Expose to this package, avoiding public to keep a clean API for optimal code assist
 		@Override
 		protected INPUT.Password<PC> writeOpen(Writer out) throws IOException {
@@ -370,6 +474,78 @@ final public class INPUT {
 			super(document, pc);
 		}
 
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-value">The value attribute</a>.
+		 */
+		public INPUT.Range<PC> value(long value) throws IOException {
+			document.writeAttribute(" value=\"", value);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-value">The value attribute</a>.
+		 */
+		public INPUT.Range<PC> value(double value) throws IOException {
+			document.writeAttribute(" value=\"", value);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-value">The value attribute</a>.
+		 */
+		public INPUT.Range<PC> value(float value) throws IOException {
+			document.writeAttribute(" value=\"", value);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-min">The min attribute</a>.
+		 */
+		public INPUT.Range<PC> min(long min) throws IOException {
+			document.writeAttribute(" min=\"", min);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-min">The min attribute</a>.
+		 */
+		public INPUT.Range<PC> min(double min) throws IOException {
+			document.writeAttribute(" min=\"", min);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-min">The min attribute</a>.
+		 */
+		public INPUT.Range<PC> min(float min) throws IOException {
+			document.writeAttribute(" min=\"", min);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-max">The max attribute</a>.
+		 */
+		public INPUT.Range<PC> max(long max) throws IOException {
+			document.writeAttribute(" max=\"", max);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-max">The max attribute</a>.
+		 */
+		public INPUT.Range<PC> max(double max) throws IOException {
+			document.writeAttribute(" max=\"", max);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-max">The max attribute</a>.
+		 */
+		public INPUT.Range<PC> max(float max) throws IOException {
+			document.writeAttribute(" max=\"", max);
+			return this;
+		}
+
 		// Expose to this package, avoiding public to keep a clean API for optimal code assist
 		@Override
 		protected INPUT.Range<PC> writeOpen(Writer out) throws IOException {
@@ -412,6 +588,22 @@ final public class INPUT {
 			super(document, pc);
 		}
 
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-maxlength">The maxlength attribute</a>.
+		 */
+		public INPUT.Search<PC> maxlength(int maxlength) throws IOException {
+			document.writeAttribute(" maxlength=\"", maxlength);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-size">The size attribute</a>.
+		 */
+		public INPUT.Search<PC> size(int size) throws IOException {
+			document.writeAttribute(" size=\"", size);
+			return this;
+		}
+
 		// Expose to this package, avoiding public to keep a clean API for optimal code assist
 		@Override
 		protected INPUT.Search<PC> writeOpen(Writer out) throws IOException {
@@ -457,6 +649,22 @@ final public class INPUT {
 			super(document, pc);
 		}
 
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-maxlength">The maxlength attribute</a>.
+		 */
+		public INPUT.Tel<PC> maxlength(int maxlength) throws IOException {
+			document.writeAttribute(" maxlength=\"", maxlength);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-size">The size attribute</a>.
+		 */
+		public INPUT.Tel<PC> size(int size) throws IOException {
+			document.writeAttribute(" size=\"", size);
+			return this;
+		}
+
 		// Expose to this package, avoiding public to keep a clean API for optimal code assist
 		@Override
 		protected INPUT.Tel<PC> writeOpen(Writer out) throws IOException {
@@ -478,6 +686,22 @@ final public class INPUT {
 			super(document, pc);
 		}
 
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-maxlength">The maxlength attribute</a>.
+		 */
+		public INPUT.Text<PC> maxlength(int maxlength) throws IOException {
+			document.writeAttribute(" maxlength=\"", maxlength);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-size">The size attribute</a>.
+		 */
+		public INPUT.Text<PC> size(int size) throws IOException {
+			document.writeAttribute(" size=\"", size);
+			return this;
+		}
+
 		// Expose to this package, avoiding public to keep a clean API for optimal code assist
 		@Override
 		protected INPUT.Text<PC> writeOpen(Writer out) throws IOException {
@@ -520,6 +744,22 @@ final public class INPUT {
 			super(document, pc);
 		}
 
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-maxlength">The maxlength attribute</a>.
+		 */
+		public INPUT.Url<PC> maxlength(int maxlength) throws IOException {
+			document.writeAttribute(" maxlength=\"", maxlength);
+			return this;
+		}
+
+		/**
+		 * See <a href="https://html.spec.whatwg.org/multipage/input.html#attr-input-size">The size attribute</a>.
+		 */
+		public INPUT.Url<PC> size(int size) throws IOException {
+			document.writeAttribute(" size=\"", size);
+			return this;
+		}
+
 		// Expose to this package, avoiding public to keep a clean API for optimal code assist
 		@Override
 		protected INPUT.Url<PC> writeOpen(Writer out) throws IOException {
@@ -38,6 +38,9 @@ final public class INS<
 > extends
 	AnyINS<Document, PC, INS<PC>, INS_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private INS_c<PC> flyweight_c;
+
 	INS(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,6 +53,7 @@ final public class INS<
 
 	@Override
 	protected INS_c<PC> new_c() {
-		return new INS_c<>(this);
+		if(flyweight_c == null) flyweight_c = new INS_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -69,7 +69,9 @@ public interface InteractiveContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new MENU<>(document, pc).writeOpen(document.getUnsafe(null));
+		MENU<__> menu = document.getFlyweight(MENU.class, pc);
+		if(menu == null) menu = document.putFlyweight(new MENU<>(document, pc));
+		return menu.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -86,6 +88,21 @@ public interface InteractiveContent<
 		return menu().__(menu);
 	}
 
+	/**
+	 * Creates a menu element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/grouping-content.html#the-menu-element">4.4.7 The menu element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ menu__(C context, ContextConsumerE<? super MENU__<__>, ? super C, Ex> menu) throws IOException, Ex {
+		return menu().__(getDocument().withContext(menu, context));
+	}
+
 	@Override
 	default MENU_c<__> menu_c() throws IOException {
 		return menu()._c();
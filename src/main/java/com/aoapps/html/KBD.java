@@ -38,6 +38,10 @@ final public class KBD<
 > extends
 	AnyKBD<Document, PC, KBD<PC>, KBD__<PC>, KBD_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private KBD__<PC> flyweight__;
+	private KBD_c<PC> flyweight_c;
+
 	KBD(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class KBD<
 
 	@Override
 	protected KBD__<PC> new__() {
-		return new KBD__<>(this);
+		if(flyweight__ == null) flyweight__ = new KBD__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected KBD_c<PC> new_c() {
-		return new KBD_c<>(this);
+		if(flyweight_c == null) flyweight_c = new KBD_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,6 +38,10 @@ final public class LABEL<
 > extends
 	AnyLABEL<Document, PC, LABEL<PC>, LABEL__<PC>, LABEL_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private LABEL__<PC> flyweight__;
+	private LABEL_c<PC> flyweight_c;
+
 	LABEL(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class LABEL<
 
 	@Override
 	protected LABEL__<PC> new__() {
-		return new LABEL__<>(this);
+		if(flyweight__ == null) flyweight__ = new LABEL__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected LABEL_c<PC> new_c() {
-		return new LABEL_c<>(this);
+		if(flyweight_c == null) flyweight_c = new LABEL_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,23 +38,47 @@ final public class LI<
 > extends
 	AnyLI<Document, PC, LI<PC>, LI__<PC>, LI_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private LI__<PC> flyweight__;
+	private LI_c<PC> flyweight_c;
+
 	LI(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public LI<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public LI<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected LI<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.LI, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected LI__<PC> new__() {
-		return new LI__<>(this);
+		if(flyweight__ == null) flyweight__ = new LI__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected LI_c<PC> new_c() {
-		return new LI_c<>(this);
+		if(flyweight_c == null) flyweight_c = new LI_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
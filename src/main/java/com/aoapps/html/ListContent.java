@@ -56,7 +56,19 @@ public interface ListContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new LI<>(document, pc).writeOpen(document.getUnsafe(null));
+		LI<__> li = document.getFlyweight(LI.class, pc);
+		if(li == null) li = document.putFlyweight(new LI<>(document, pc));
+		return li.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ li__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.LI, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return li().__(text);
 	}
 
 	/**
@@ -73,6 +85,21 @@ public interface ListContent<
 		return li().__(li);
 	}
 
+	/**
+	 * Creates a li element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/grouping-content.html#the-li-element">4.4.8 The li element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ li__(C context, ContextConsumerE<? super LI__<__>, ? super C, Ex> li) throws IOException, Ex {
+		return li().__(getDocument().withContext(li, context));
+	}
+
 	@Override
 	default LI_c<__> li_c() throws IOException {
 		return li()._c();
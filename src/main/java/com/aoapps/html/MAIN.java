@@ -38,6 +38,10 @@ final public class MAIN<
 > extends
 	AnyMAIN<Document, PC, MAIN<PC>, MAIN__<PC>, MAIN_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private MAIN__<PC> flyweight__;
+	private MAIN_c<PC> flyweight_c;
+
 	MAIN(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class MAIN<
 
 	@Override
 	protected MAIN__<PC> new__() {
-		return new MAIN__<>(this);
+		if(flyweight__ == null) flyweight__ = new MAIN__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected MAIN_c<PC> new_c() {
-		return new MAIN_c<>(this);
+		if(flyweight_c == null) flyweight_c = new MAIN_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,6 +38,9 @@ final public class MAP<
 > extends
 	AnyMAP<Document, PC, MAP<PC>, MAP_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private MAP_c<PC> flyweight_c;
+
 	MAP(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,6 +53,7 @@ final public class MAP<
 
 	@Override
 	protected MAP_c<PC> new_c() {
-		return new MAP_c<>(this);
+		if(flyweight_c == null) flyweight_c = new MAP_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
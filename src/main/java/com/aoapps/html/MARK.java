@@ -38,6 +38,10 @@ final public class MARK<
 > extends
 	AnyMARK<Document, PC, MARK<PC>, MARK__<PC>, MARK_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private MARK__<PC> flyweight__;
+	private MARK_c<PC> flyweight_c;
+
 	MARK(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class MARK<
 
 	@Override
 	protected MARK__<PC> new__() {
-		return new MARK__<>(this);
+		if(flyweight__ == null) flyweight__ = new MARK__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected MARK_c<PC> new_c() {
-		return new MARK_c<>(this);
+		if(flyweight_c == null) flyweight_c = new MARK_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,6 +38,10 @@ final public class MENU<
 > extends
 	AnyMENU<Document, PC, MENU<PC>, MENU__<PC>, MENU_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private MENU__<PC> flyweight__;
+	private MENU_c<PC> flyweight_c;
+
 	MENU(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class MENU<
 
 	@Override
 	protected MENU__<PC> new__() {
-		return new MENU__<>(this);
+		if(flyweight__ == null) flyweight__ = new MENU__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected MENU_c<PC> new_c() {
-		return new MENU_c<>(this);
+		if(flyweight_c == null) flyweight_c = new MENU_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,10 +38,86 @@ final public class METER<
 > extends
 	AnyMETER<Document, PC, METER<PC>, METER__<PC>, METER_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private METER__<PC> flyweight__;
+	private METER_c<PC> flyweight_c;
+
 	METER(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#attr-meter-value">The value attribute</a>.
+	 */
+	public METER<PC> value(long value) throws IOException {
+		document.writeAttribute(" value=\"", value);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#attr-meter-value">The value attribute</a>.
+	 */
+	public METER<PC> value(double value) throws IOException {
+		document.writeAttribute(" value=\"", value);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#attr-meter-value">The value attribute</a>.
+	 */
+	public METER<PC> value(float value) throws IOException {
+		document.writeAttribute(" value=\"", value);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#attr-meter-min">The min attribute</a>.
+	 */
+	public METER<PC> min(long min) throws IOException {
+		document.writeAttribute(" min=\"", min);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#attr-meter-min">The min attribute</a>.
+	 */
+	public METER<PC> min(double min) throws IOException {
+		document.writeAttribute(" min=\"", min);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#attr-meter-min">The min attribute</a>.
+	 */
+	public METER<PC> min(float min) throws IOException {
+		document.writeAttribute(" min=\"", min);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#attr-meter-max">The max attribute</a>.
+	 */
+	public METER<PC> max(long max) throws IOException {
+		document.writeAttribute(" max=\"", max);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#attr-meter-max">The max attribute</a>.
+	 */
+	public METER<PC> max(double max) throws IOException {
+		document.writeAttribute(" max=\"", max);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#attr-meter-max">The max attribute</a>.
+	 */
+	public METER<PC> max(float max) throws IOException {
+		document.writeAttribute(" max=\"", max);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected METER<PC> writeOpen(Writer out) throws IOException {
@@ -50,11 +126,13 @@ final public class METER<
 
 	@Override
 	protected METER__<PC> new__() {
-		return new METER__<>(this);
+		if(flyweight__ == null) flyweight__ = new METER__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected METER_c<PC> new_c() {
-		return new METER_c<>(this);
+		if(flyweight_c == null) flyweight_c = new METER_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
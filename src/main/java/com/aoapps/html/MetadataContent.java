@@ -62,7 +62,9 @@ public interface MetadataContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new BASE<>(document, pc).writeOpen(document.getUnsafe(null));
+		BASE<__> base = document.getFlyweight(BASE.class, pc);
+		if(base == null) base = document.putFlyweight(new BASE<>(document, pc));
+		return base.writeOpen(document.getUnsafe(null));
 	}
 	// </editor-fold>
 	// Inherited: LINK
@@ -117,7 +119,9 @@ public interface MetadataContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new TITLE<>(document, pc).writeOpen(document.getUnsafe(null));
+		TITLE<__> title = document.getFlyweight(TITLE.class, pc);
+		if(title == null) title = document.putFlyweight(new TITLE<>(document, pc));
+		return title.writeOpen(document.getUnsafe(null));
 	}
 	// </editor-fold>
 }
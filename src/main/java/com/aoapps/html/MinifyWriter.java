@@ -0,0 +1,487 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Minifies SGML-serialized HTML as it is written, applying only omissions permitted by the
+ * <a href="https://html.spec.whatwg.org/multipage/syntax.html">HTML syntax</a>:
+ * <ul>
+ * <li>Optional end tags of <code>body</code>, <code>li</code>, <code>dt</code>, <code>dd</code>, <code>p</code>,
+ *     <code>optgroup</code>, <code>option</code>, <code>thead</code>, <code>tbody</code>, <code>tfoot</code>, <code>tr</code>, <code>td</code>, and
+ *     <code>th</code>, when immediately followed by a start tag or end tag that
+ *     <a href="https://html.spec.whatwg.org/multipage/syntax.html#optional-tags">allows their omission</a>.</li>
+ * <li>Quotes around attribute values that are not empty and contain no whitespace, quotes, {@code =}, {@code <},
+ *     {@code >}, or {@code `}.</li>
+ * <li>The value of boolean attributes written as <code>name="name"</code>.</li>
+ * </ul>
+ * <p>
+ * The markup written to this writer must be well-formed, with every element closed, as written by
+ * {@link Document}.  An end tag that may be omitted is held until the next start tag, end tag, or text is written,
+ * or until flushed.  The contents of <code>script</code> and <code>style</code>, comments, and text are passed through
+ * unchanged.
+ * </p>
+ *
+ * @see  Document#setMinify(boolean)
+ *
+ * @author  AO Industries, Inc.
+ */
+final class MinifyWriter extends Writer {
+
+	private static Set<String> setOf(String ... values) {
+		return Collections.unmodifiableSet(new HashSet<>(Arrays.asList(values)));
+	}
+
+	/**
+	 * Start tags that allow the end tag of a preceding <code>p</code> to be omitted.
+	 */
+	private static final Set<String> P_CLOSERS = setOf(
+		"address", "article", "aside", "blockquote", "details", "dialog", "div", "dl", "fieldset", "figcaption",
+		"figure", "footer", "form", "h1", "h2", "h3", "h4", "h5", "h6", "header", "hgroup", "hr", "main", "menu", "nav",
+		"ol", "p", "pre", "search", "section", "table", "ul"
+	);
+
+	/**
+	 * Parents that do not allow the end tag of a last <code>p</code> to be omitted, along with all autonomous custom
+	 * elements.
+	 */
+	private static final Set<String> P_KEEPERS = setOf("a", "audio", "del", "ins", "map", "noscript", "video");
+
+	private static final Set<String> BOOLEAN_ATTRIBUTES = setOf(
+		"allowfullscreen", "async", "autofocus", "autoplay", "checked", "controls", "default", "defer", "disabled",
+		"formnovalidate", "hidden", "inert", "ismap", "itemscope", "loop", "multiple", "muted", "nomodule",
+		"novalidate", "open", "playsinline", "readonly", "required", "reversed", "selected"
+	);
+
+	/**
+	 * Can the end tag of the given element be omitted when immediately followed by the given start tag?
+	 */
+	private static boolean omitBeforeStart(String pending, String next) {
+		switch(pending) {
+			case "li" :
+				return next.equals("li");
+			case "dt" :
+			case "dd" :
+				return next.equals("dt") || next.equals("dd");
+			case "p" :
+				return P_CLOSERS.contains(next);
+			case "optgroup" :
+				return next.equals("optgroup") || next.equals("hr");
+			case "option" :
+				return next.equals("option") || next.equals("optgroup") || next.equals("hr");
+			case "thead" :
+			case "tbody" :
+				return next.equals("tbody") || next.equals("tfoot");
+			case "tr" :
+				return next.equals("tr");
+			case "td" :
+			case "th" :
+				return next.equals("td") || next.equals("th");
+			default :
+				return false;
+		}
+	}
+
+	/**
+	 * Can the end tag of the given element be omitted when immediately followed by the end tag of its parent?
+	 */
+	private static boolean omitBeforeEnd(String pending, String parent) {
+		switch(pending) {
+			case "body" :
+			case "li" :
+			case "dd" :
+			case "optgroup" :
+			case "option" :
+			case "tbody" :
+			case "tfoot" :
+			case "tr" :
+			case "td" :
+			case "th" :
+				return true;
+			case "p" :
+				// Autonomous custom element names always contain a hyphen
+				return !P_KEEPERS.contains(parent) && parent.indexOf('-') == -1;
+			default :
+				return false;
+		}
+	}
+
+	private static boolean isOptional(String name) {
+		switch(name) {
+			case "body" :
+			case "li" :
+			case "dt" :
+			case "dd" :
+			case "p" :
+			case "optgroup" :
+			case "option" :
+			case "thead" :
+			case "tbody" :
+			case "tfoot" :
+			case "tr" :
+			case "td" :
+			case "th" :
+				return true;
+			default :
+				return false;
+		}
+	}
+
+	/**
+	 * Is the attribute value safe to write without quotes?
+	 */
+	private static boolean isUnquotable(CharSequence value) {
+		int len = value.length();
+		if(len == 0) return false;
+		for(int i = 0; i < len; i++) {
+			char c = value.charAt(i);
+			switch(c) {
+				case ' ' :
+				case '\t' :
+				case '\n' :
+				case '\f' :
+				case '\r' :
+				case '"' :
+				case '\'' :
+				case '=' :
+				case '<' :
+				case '>' :
+				case '`' :
+					return false;
+				default :
+					// Continue
+			}
+		}
+		return true;
+	}
+
+	private enum State {
+		TEXT,
+		/** After {@code <} */
+		TAG_OPEN,
+		START_TAG_NAME,
+		END_TAG_NAME,
+		/** Within a start tag, after its name */
+		IN_TAG,
+		/** After {@code =} within a start tag */
+		AFTER_EQUALS,
+		/** Within a quoted attribute value */
+		ATTRIBUTE_VALUE,
+		/** Within <code>&lt;!...&gt;</code> or <code>&lt;?...&gt;</code>, other than a comment */
+		DECLARATION,
+		COMMENT,
+		/** Within <code>script</code> or <code>style</code> */
+		RAW_TEXT
+	}
+
+	private final Writer out;
+
+	private State state = State.TEXT;
+
+	/**
+	 * The tag or comment beginning being parsed.
+	 */
+	private final StringBuilder token = new StringBuilder();
+
+	/**
+	 * The name of the current attribute.
+	 */
+	private final StringBuilder attributeName = new StringBuilder();
+
+	/**
+	 * The value of the current attribute.
+	 */
+	private final StringBuilder attributeValue = new StringBuilder();
+
+	/**
+	 * The name of the current start tag.
+	 */
+	private String tagName;
+
+	/**
+	 * The end tag that may be omitted, not yet written, or {@code null} when none.
+	 */
+	private String pending;
+
+	/**
+	 * The end of the raw text element, such as {@code "</script"}, and how much has been matched.  Once fully
+	 * matched, it only ends the raw text when followed by whitespace, {@code '/'}, or {@code '>'}.
+	 */
+	private String rawTextEnd;
+	private int rawTextMatched;
+
+	/**
+	 * How many dashes of {@code "<!--"} have been matched, or {@code -1} when not a comment.
+	 */
+	private int commentStartMatched;
+
+	/**
+	 * How many dashes of {@code "-->"} have been matched.
+	 */
+	private int commentEndMatched;
+
+	MinifyWriter(Writer out) {
+		this.out = out;
+	}
+
+	/**
+	 * Gets the wrapped writer.
+	 */
+	Writer getOut() {
+		return out;
+	}
+
+	private void writePending() throws IOException {
+		if(pending != null) {
+			out.write("</");
+			out.write(pending);
+			out.write('>');
+			pending = null;
+		}
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		process((char)c);
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		int end = off + len;
+		int i = off;
+		while(i < end) {
+			if(state == State.TEXT && pending == null) {
+				// Pass text through in bulk
+				int start = i;
+				while(i < end && cbuf[i] != '<') i++;
+				if(i > start) out.write(cbuf, start, i - start);
+				if(i == end) break;
+			}
+			process(cbuf[i++]);
+		}
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		int end = off + len;
+		int i = off;
+		while(i < end) {
+			if(state == State.TEXT && pending == null) {
+				// Pass text through in bulk
+				int start = i;
+				while(i < end && str.charAt(i) != '<') i++;
+				if(i > start) out.write(str, start, i - start);
+				if(i == end) break;
+			}
+			process(str.charAt(i++));
+		}
+	}
+
+	private void process(char c) throws IOException {
+		switch(state) {
+			case TEXT :
+				if(c == '<') {
+					token.setLength(0);
+					token.append(c);
+					state = State.TAG_OPEN;
+				} else {
+					writePending();
+					out.write(c);
+				}
+				break;
+			case TAG_OPEN :
+				token.append(c);
+				if(c == '/') {
+					state = State.END_TAG_NAME;
+				} else if(c == '!' || c == '?') {
+					writePending();
+					out.append(token);
+					commentStartMatched = (c == '!') ? 0 : -1;
+					commentEndMatched = 0;
+					state = State.DECLARATION;
+				} else {
+					state = State.START_TAG_NAME;
+				}
+				break;
+			case START_TAG_NAME :
+				if(c == '>' || c == '/' || Character.isWhitespace(c)) {
+					tagName = token.substring(1).toLowerCase(Locale.ROOT);
+					if(pending != null && omitBeforeStart(pending, tagName)) {
+						pending = null;
+					} else {
+						writePending();
+					}
+					out.append(token);
+					state = State.IN_TAG;
+					process(c);
+				} else {
+					token.append(c);
+				}
+				break;
+			case END_TAG_NAME :
+				if(c == '>') {
+					String name = token.substring(2).toLowerCase(Locale.ROOT);
+					if(pending != null && omitBeforeEnd(pending, name)) {
+						pending = null;
+					} else {
+						writePending();
+					}
+					if(isOptional(name)) {
+						pending = name;
+					} else {
+						out.append(token);
+						out.write('>');
+					}
+					state = State.TEXT;
+				} else {
+					token.append(c);
+				}
+				break;
+			case IN_TAG :
+				if(c == '=') {
+					attributeValue.setLength(0);
+					state = State.AFTER_EQUALS;
+				} else {
+					if(c == '>') {
+						out.write(c);
+						if(tagName.equals("script") || tagName.equals("style")) {
+							rawTextEnd = "</" + tagName;
+							rawTextMatched = 0;
+							state = State.RAW_TEXT;
+						} else {
+							state = State.TEXT;
+						}
+					} else {
+						if(Character.isWhitespace(c) || c == '/') {
+							attributeName.setLength(0);
+						} else {
+							attributeName.append(c);
+						}
+						out.write(c);
+					}
+				}
+				break;
+			case AFTER_EQUALS :
+				if(c == '"') {
+					state = State.ATTRIBUTE_VALUE;
+				} else {
+					// Unquoted already
+					out.write('=');
+					out.write(c);
+					state = State.IN_TAG;
+				}
+				break;
+			case ATTRIBUTE_VALUE :
+				if(c == '"') {
+					String name = attributeName.toString().toLowerCase(Locale.ROOT);
+					if(BOOLEAN_ATTRIBUTES.contains(name) && name.contentEquals(attributeValue)) {
+						// Boolean attribute: name only
+					} else if(isUnquotable(attributeValue)) {
+						out.write('=');
+						out.append(attributeValue);
+					} else {
+						out.write("=\"");
+						out.append(attributeValue);
+						out.write('"');
+					}
+					attributeName.setLength(0);
+					state = State.IN_TAG;
+				} else {
+					attributeValue.append(c);
+				}
+				break;
+			case DECLARATION :
+				out.write(c);
+				if(c == '-' && commentStartMatched != -1) {
+					if(++commentStartMatched == 2) {
+						// "<!--"
+						state = State.COMMENT;
+					}
+				} else if(c == '>') {
+					state = State.TEXT;
+				} else {
+					commentStartMatched = -1;
+				}
+				break;
+			case COMMENT :
+				out.write(c);
+				if(c == '-') {
+					if(commentEndMatched < 2) commentEndMatched++;
+				} else if(c == '>' && commentEndMatched == 2) {
+					state = State.TEXT;
+				} else {
+					commentEndMatched = 0;
+				}
+				break;
+			case RAW_TEXT :
+				out.write(c);
+				if(rawTextMatched == rawTextEnd.length()) {
+					if(c == '>') {
+						// The end tag, passed through as-is
+						state = State.TEXT;
+						break;
+					}
+					if(c == '/' || Character.isWhitespace(c)) {
+						// The end tag, with the rest passed through as-is
+						tagName = "";
+						state = State.IN_TAG;
+						break;
+					}
+					// Such as "</scriptx": still raw text
+					rawTextMatched = 0;
+				}
+				if(Character.toLowerCase(c) == rawTextEnd.charAt(rawTextMatched)) {
+					rawTextMatched++;
+				} else {
+					rawTextMatched = (c == '<') ? 1 : 0;
+				}
+				break;
+			default :
+				throw new AssertionError();
+		}
+	}
+
+	/**
+	 * Writes any end tag being held, since what follows is not known, then flushes the wrapped writer.
+	 */
+	@Override
+	public void flush() throws IOException {
+		writePending();
+		out.flush();
+	}
+
+	/**
+	 * Writes any end tag being held, then flushes.  The wrapped writer is not closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		flush();
+	}
+}
@@ -38,6 +38,10 @@ final public class NAV<
 > extends
 	AnyNAV<Document, PC, NAV<PC>, NAV__<PC>, NAV_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private NAV__<PC> flyweight__;
+	private NAV_c<PC> flyweight_c;
+
 	NAV(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class NAV<
 
 	@Override
 	protected NAV__<PC> new__() {
-		return new NAV__<>(this);
+		if(flyweight__ == null) flyweight__ = new NAV__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected NAV_c<PC> new_c() {
-		return new NAV_c<>(this);
+		if(flyweight_c == null) flyweight_c = new NAV_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -0,0 +1,103 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes numbers as characters directly, without boxing or an intermediate {@link String}.
+ * Output is identical to {@link Long#toString(long)} and {@link Double#toString(double)}.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class Numbers {
+
+	private Numbers() {}
+
+	/**
+	 * The most characters written for any number, from {@link Double#toString(double)}.
+	 */
+	static final int MAX_CHARS = 24;
+
+	/**
+	 * {@link Double#toString(double)} uses scientific notation starting at this magnitude.
+	 */
+	private static final long DOUBLE_PLAIN_LIMIT = 10_000_000;
+
+	/**
+	 * Formats a number into the characters ending at the given position.
+	 *
+	 * @return  The position of the first character
+	 */
+	static int getChars(long value, char[] buf, int end) {
+		int pos = end;
+		// Work in negative numbers to support Long.MIN_VALUE
+		boolean negative = value < 0;
+		if(!negative) value = -value;
+		while(value <= -100) {
+			long q = value / 100;
+			int r = (int)(q * 100 - value);
+			buf[--pos] = (char)('0' + (r % 10));
+			buf[--pos] = (char)('0' + (r / 10));
+			value = q;
+		}
+		buf[--pos] = (char)('0' - (int)(value % 10));
+		if(value <= -10) buf[--pos] = (char)('0' - (int)(value / 10));
+		if(negative) buf[--pos] = '-';
+		return pos;
+	}
+
+	/**
+	 * @param  buf  At least {@link #MAX_CHARS} long
+	 */
+	static void write(long value, char[] buf, Writer out) throws IOException {
+		int end = buf.length;
+		int start = getChars(value, buf, end);
+		out.write(buf, start, end - start);
+	}
+
+	/**
+	 * Integral values below 10<sup>7</sup> are formatted directly, others by {@link Double#toString(double)}.
+	 *
+	 * @param  buf  At least {@link #MAX_CHARS} long
+	 */
+	static void write(double value, char[] buf, Writer out) throws IOException {
+		long l = (long)value;
+		if(
+			l == value
+			&& l > -DOUBLE_PLAIN_LIMIT
+			&& l < DOUBLE_PLAIN_LIMIT
+			// Not negative zero
+			&& (l != 0 || Double.doubleToRawLongBits(value) == 0)
+		) {
+			int end = buf.length;
+			buf[end - 2] = '.';
+			buf[end - 1] = '0';
+			int start = getChars(l, buf, end - 2);
+			out.write(buf, start, end - start);
+		} else {
+			out.write(Double.toString(value));
+		}
+	}
+}
@@ -38,6 +38,10 @@ final public class OBJECT<
 > extends
 	AnyOBJECT<Document, PC, OBJECT<PC>, OBJECT__<PC>, OBJECT_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private OBJECT__<PC> flyweight__;
+	private OBJECT_c<PC> flyweight_c;
+
 	OBJECT(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class OBJECT<
 
 	@Override
 	protected OBJECT__<PC> new__() {
-		return new OBJECT__<>(this);
+		if(flyweight__ == null) flyweight__ = new OBJECT__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected OBJECT_c<PC> new_c() {
-		return new OBJECT_c<>(this);
+		if(flyweight_c == null) flyweight_c = new OBJECT_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -59,7 +59,9 @@ public interface OBJECT_content<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new PARAM<>(document, pc).writeOpen(document.getUnsafe(null));
+		PARAM<__> param = document.getFlyweight(PARAM.class, pc);
+		if(param == null) param = document.putFlyweight(new PARAM<>(document, pc));
+		return param.writeOpen(document.getUnsafe(null));
 	}
 	// </editor-fold>
 	// Inherited: VIDEO
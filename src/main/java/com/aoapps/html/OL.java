@@ -38,23 +38,47 @@ final public class OL<
 > extends
 	AnyOL<Document, PC, OL<PC>, OL__<PC>, OL_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private OL__<PC> flyweight__;
+	private OL_c<PC> flyweight_c;
+
 	OL(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public OL<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public OL<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected OL<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.OL, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected OL__<PC> new__() {
-		return new OL__<>(this);
+		if(flyweight__ == null) flyweight__ = new OL__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected OL_c<PC> new_c() {
-		return new OL_c<>(this);
+		if(flyweight_c == null) flyweight_c = new OL_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,6 +38,10 @@ final public class OPTGROUP<
 > extends
 	AnyOPTGROUP<Document, PC, OPTGROUP<PC>, OPTGROUP__<PC>, OPTGROUP_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private OPTGROUP__<PC> flyweight__;
+	private OPTGROUP_c<PC> flyweight_c;
+
 	OPTGROUP(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class OPTGROUP<
 
 	@Override
 	protected OPTGROUP__<PC> new__() {
-		return new OPTGROUP__<>(this);
+		if(flyweight__ == null) flyweight__ = new OPTGROUP__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected OPTGROUP_c<PC> new_c() {
-		return new OPTGROUP_c<>(this);
+		if(flyweight_c == null) flyweight_c = new OPTGROUP_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
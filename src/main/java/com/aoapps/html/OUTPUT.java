@@ -38,6 +38,10 @@ final public class OUTPUT<
 > extends
 	AnyOUTPUT<Document, PC, OUTPUT<PC>, OUTPUT__<PC>, OUTPUT_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private OUTPUT__<PC> flyweight__;
+	private OUTPUT_c<PC> flyweight_c;
+
 	OUTPUT(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class OUTPUT<
 
 	@Override
 	protected OUTPUT__<PC> new__() {
-		return new OUTPUT__<>(this);
+		if(flyweight__ == null) flyweight__ = new OUTPUT__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected OUTPUT_c<PC> new_c() {
-		return new OUTPUT_c<>(this);
+		if(flyweight_c == null) flyweight_c = new OUTPUT_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
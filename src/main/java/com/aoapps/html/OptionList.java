@@ -0,0 +1,267 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import com.aoapps.encoding.Serialization;
+import com.aoapps.encoding.TextInXhtmlAttributeEncoder;
+import com.aoapps.encoding.TextInXhtmlEncoder;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A reusable list of options, with all markup pre-encoded once, for large drop-downs such as countries, currencies,
+ * and time zones.
+ * <p>
+ * All options and option groups are encoded into a single block of markup, along with the position of each option
+ * where its <code>selected</code> attribute goes.  Rendering looks up the index of each selected value, then writes
+ * the markup in as many bulk writes as there are selected options, plus one.
+ * </p>
+ * <p>
+ * When indenting, options are written through the regular element factories instead.
+ * </p>
+ * <p>
+ * This class is immutable and thread-safe, and is intended to be created once and reused.
+ * </p>
+ *
+ * @see  SELECT_content#options__(com.aoapps.html.OptionList, java.util.Collection)
+ *
+ * @author  AO Industries, Inc.
+ */
+final public class OptionList {
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Defines options, in order.
+	 */
+	final public static class Builder {
+
+		private final List<Option> options = new ArrayList<>();
+
+		private String optgroup;
+
+		private Builder() {
+		}
+
+		/**
+		 * Adds an option.
+		 */
+		public Builder option(String value, String label) {
+			options.add(new Option(Objects.requireNonNull(value), Objects.requireNonNull(label), optgroup));
+			return this;
+		}
+
+		/**
+		 * Adds an option with the value as its label.
+		 */
+		public Builder option(String value) {
+			return option(value, value);
+		}
+
+		/**
+		 * Starts an option group.  Options added until the next option group or {@link #endOptgroup()} are within this
+		 * group.
+		 */
+		public Builder optgroup(String label) {
+			optgroup = Objects.requireNonNull(label);
+			return this;
+		}
+
+		/**
+		 * Ends the current option group.
+		 */
+		public Builder endOptgroup() {
+			optgroup = null;
+			return this;
+		}
+
+		public OptionList build() {
+			return new OptionList(options);
+		}
+	}
+
+	private static final class Option {
+
+		private final String value;
+
+		private final String label;
+
+		private final String optgroup;
+
+		private Option(String value, String label, String optgroup) {
+			this.value = value;
+			this.label = label;
+			this.optgroup = optgroup;
+		}
+	}
+
+	private static final int[] EMPTY = {};
+
+	private final List<Option> options;
+
+	/**
+	 * The indexes of options for each value.
+	 */
+	private final Map<String, int[]> indexesByValue;
+
+	/**
+	 * All markup, without any selected attribute.
+	 */
+	private final char[] markup;
+
+	/**
+	 * The position in the markup of the selected attribute of each option.
+	 */
+	private final int[] selectedPositions;
+
+	private OptionList(List<Option> options) {
+		this.options = Collections.unmodifiableList(new ArrayList<>(options));
+		int size = options.size();
+		indexesByValue = new HashMap<>(size * 4 / 3 + 1);
+		selectedPositions = new int[size];
+		StringBuilder sb = new StringBuilder();
+		try {
+			String currentGroup = null;
+			for(int i = 0; i < size; i++) {
+				Option option = options.get(i);
+				if(!Objects.equals(option.optgroup, currentGroup)) {
+					if(currentGroup != null) sb.append("</optgroup>");
+					currentGroup = option.optgroup;
+					if(currentGroup != null) {
+						sb.append("<optgroup label=\"");
+						TextInXhtmlAttributeEncoder.encodeTextInXhtmlAttribute(currentGroup, sb);
+						sb.append("\">");
+					}
+				}
+				sb.append("<option value=\"");
+				TextInXhtmlAttributeEncoder.encodeTextInXhtmlAttribute(option.value, sb);
+				sb.append('"');
+				selectedPositions[i] = sb.length();
+				sb.append('>');
+				TextInXhtmlEncoder.encodeTextInXhtml(option.label, sb);
+				sb.append("</option>");
+				int[] indexes = indexesByValue.get(option.value);
+				if(indexes == null) {
+					indexes = new int[] {i};
+				} else {
+					indexes = Arrays.copyOf(indexes, indexes.length + 1);
+					indexes[indexes.length - 1] = i;
+				}
+				indexesByValue.put(option.value, indexes);
+			}
+			if(currentGroup != null) sb.append("</optgroup>");
+		} catch(IOException e) {
+			throw new IllegalArgumentException(e);
+		}
+		markup = new char[sb.length()];
+		sb.getChars(0, markup.length, markup, 0);
+	}
+
+	/**
+	 * Gets the sorted, distinct indexes of the selected options.
+	 */
+	private int[] getSelectedIndexes(Collection<String> selected) {
+		if(selected.isEmpty()) return EMPTY;
+		int[] result = EMPTY;
+		int count = 0;
+		for(String value : selected) {
+			int[] indexes = indexesByValue.get(value);
+			if(indexes != null) {
+				if(count + indexes.length > result.length) {
+					result = Arrays.copyOf(result, Math.max(count + indexes.length, result.length * 2));
+				}
+				System.arraycopy(indexes, 0, result, count, indexes.length);
+				count += indexes.length;
+			}
+		}
+		if(count > 1) {
+			Arrays.sort(result, 0, count);
+			// Values selected more than once
+			int distinct = 1;
+			for(int i = 1; i < count; i++) {
+				if(result[i] != result[distinct - 1]) result[distinct++] = result[i];
+			}
+			count = distinct;
+		}
+		return (count == result.length) ? result : Arrays.copyOf(result, count);
+	}
+
+	/**
+	 * Writes all options.
+	 *
+	 * @param  selected  The values of the selected options
+	 */
+	<__ extends SELECT_content<__>> void write(__ pc, Collection<String> selected) throws IOException {
+		Document document = pc.getDocument();
+		if(document.getIndent()) {
+			writeElements(pc, selected);
+			return;
+		}
+		int[] selectedIndexes = getSelectedIndexes(selected);
+		Writer out = document.getUnsafe(false);
+		String selectedAttribute = (document.serialization == Serialization.XML) ? " selected=\"selected\"" : " selected";
+		int pos = 0;
+		for(int index : selectedIndexes) {
+			int selectedPos = selectedPositions[index];
+			if(selectedPos > pos) out.write(markup, pos, selectedPos - pos);
+			out.write(selectedAttribute);
+			pos = selectedPos;
+		}
+		if(pos < markup.length) out.write(markup, pos, markup.length - pos);
+	}
+
+	/**
+	 * Writes all options through the element factories.
+	 */
+	private <__ extends SELECT_content<__>> void writeElements(__ pc, Collection<String> selected) throws IOException {
+		int size = options.size();
+		int i = 0;
+		while(i < size) {
+			String group = options.get(i).optgroup;
+			if(group == null) {
+				Option option = options.get(i++);
+				pc.option().value(option.value).selected(selected.contains(option.value)).__(option.label);
+			} else {
+				int start = i;
+				while(i < size && group.equals(options.get(i).optgroup)) i++;
+				int end = i;
+				pc.optgroup().label(group).__(optgroup -> {
+					for(int j = start; j < end; j++) {
+						Option option = options.get(j);
+						optgroup.option().value(option.value).selected(selected.contains(option.value)).__(option.label);
+					}
+				});
+			}
+		}
+	}
+}
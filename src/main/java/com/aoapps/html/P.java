@@ -38,23 +38,47 @@ final public class P<
 > extends
 	AnyP<Document, PC, P<PC>, P__<PC>, P_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private P__<PC> flyweight__;
+	private P_c<PC> flyweight_c;
+
 	P(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public P<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public P<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected P<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.P, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected P__<PC> new__() {
-		return new P__<>(this);
+		if(flyweight__ == null) flyweight__ = new P__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected P_c<PC> new_c() {
-		return new P_c<>(this);
+		if(flyweight_c == null) flyweight_c = new P_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
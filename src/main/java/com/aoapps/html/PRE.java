@@ -38,6 +38,10 @@ final public class PRE<
 > extends
 	AnyPRE<Document, PC, PRE<PC>, PRE__<PC>, PRE_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private PRE__<PC> flyweight__;
+	private PRE_c<PC> flyweight_c;
+
 	PRE(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class PRE<
 
 	@Override
 	protected PRE__<PC> new__() {
-		return new PRE__<>(this);
+		if(flyweight__ == null) flyweight__ = new PRE__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected PRE_c<PC> new_c() {
-		return new PRE_c<>(this);
+		if(flyweight_c == null) flyweight_c = new PRE_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,10 +38,62 @@ final public class PROGRESS<
 > extends
 	AnyPROGRESS<Document, PC, PROGRESS<PC>, PROGRESS__<PC>, PROGRESS_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private PROGRESS__<PC> flyweight__;
+	private PROGRESS_c<PC> flyweight_c;
+
 	PROGRESS(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#attr-progress-value">The value attribute</a>.
+	 */
+	public PROGRESS<PC> value(long value) throws IOException {
+		document.writeAttribute(" value=\"", value);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#attr-progress-value">The value attribute</a>.
+	 */
+	public PROGRESS<PC> value(double value) throws IOException {
+		document.writeAttribute(" value=\"", value);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#attr-progress-value">The value attribute</a>.
+	 */
+	public PROGRESS<PC> value(float value) throws IOException {
+		document.writeAttribute(" value=\"", value);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#attr-progress-max">The max attribute</a>.
+	 */
+	public PROGRESS<PC> max(long max) throws IOException {
+		document.writeAttribute(" max=\"", max);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#attr-progress-max">The max attribute</a>.
+	 */
+	public PROGRESS<PC> max(double max) throws IOException {
+		document.writeAttribute(" max=\"", max);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#attr-progress-max">The max attribute</a>.
+	 */
+	public PROGRESS<PC> max(float max) throws IOException {
+		document.writeAttribute(" max=\"", max);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected PROGRESS<PC> writeOpen(Writer out) throws IOException {
@@ -50,11 +102,13 @@ final public class PROGRESS<
 
 	@Override
 	protected PROGRESS__<PC> new__() {
-		return new PROGRESS__<>(this);
+		if(flyweight__ == null) flyweight__ = new PROGRESS__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected PROGRESS_c<PC> new_c() {
-		return new PROGRESS_c<>(this);
+		if(flyweight_c == null) flyweight_c = new PROGRESS_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -69,7 +69,9 @@ public interface PalpableContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new ADDRESS<>(document, pc).writeOpen(document.getUnsafe(null));
+		ADDRESS<__> address = document.getFlyweight(ADDRESS.class, pc);
+		if(address == null) address = document.putFlyweight(new ADDRESS<>(document, pc));
+		return address.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -86,6 +88,21 @@ public interface PalpableContent<
 		return address().__(address);
 	}
 
+	/**
+	 * Creates an address element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/sections.html#the-address-element">4.3.10 The address element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ address__(C context, ContextConsumerE<? super ADDRESS__<__>, ? super C, Ex> address) throws IOException, Ex {
+		return address().__(getDocument().withContext(address, context));
+	}
+
 	@Override
 	default ADDRESS_c<__> address_c() throws IOException {
 		return address()._c();
@@ -103,7 +120,9 @@ public interface PalpableContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new BLOCKQUOTE<>(document, pc).writeOpen(document.getUnsafe(null));
+		BLOCKQUOTE<__> blockquote = document.getFlyweight(BLOCKQUOTE.class, pc);
+		if(blockquote == null) blockquote = document.putFlyweight(new BLOCKQUOTE<>(document, pc));
+		return blockquote.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -121,6 +140,22 @@ public interface PalpableContent<
 		return blockquote().__(blockquote);
 	}
 
+	/**
+	 * Creates a blockquote element with no attributes and the given body, which is given the context.
+	 * <ul>
+	 * <li>See <a href="https://html.spec.whatwg.org/multipage/grouping-content.html#the-blockquote-element">4.4.4 The blockquote element</a>.</li>
+	 * <li>See <a href="https://developer.mozilla.org/en-US/docs/Web/HTML/Element/blockquote">&lt;blockquote&gt;: The Block Quotation element</a>.</li>
+	 * </ul>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ blockquote__(C context, ContextConsumerE<? super BLOCKQUOTE__<__>, ? super C, Ex> blockquote) throws IOException, Ex {
+		return blockquote().__(getDocument().withContext(blockquote, context));
+	}
+
 	@Override
 	default BLOCKQUOTE_c<__> blockquote_c() throws IOException {
 		return blockquote()._c();
@@ -140,7 +175,9 @@ public interface PalpableContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new DL<>(document, pc).writeOpen(document.getUnsafe(null));
+		DL<__> dl = document.getFlyweight(DL.class, pc);
+		if(dl == null) dl = document.putFlyweight(new DL<>(document, pc));
+		return dl.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -157,6 +194,21 @@ public interface PalpableContent<
 		return dl().__(dl);
 	}
 
+	/**
+	 * Creates a dl element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/grouping-content.html#the-dl-element">4.4.9 The dl element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ dl__(C context, ContextConsumerE<? super DL__<__>, ? super C, Ex> dl) throws IOException, Ex {
+		return dl().__(getDocument().withContext(dl, context));
+	}
+
 	@Override
 	default DL_c<__> dl_c() throws IOException {
 		return dl()._c();
@@ -174,7 +226,9 @@ public interface PalpableContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new FOOTER<>(document, pc).writeOpen(document.getUnsafe(null));
+		FOOTER<__> footer = document.getFlyweight(FOOTER.class, pc);
+		if(footer == null) footer = document.putFlyweight(new FOOTER<>(document, pc));
+		return footer.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -191,6 +245,21 @@ public interface PalpableContent<
 		return footer().__(footer);
 	}
 
+	/**
+	 * Creates a footer element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/sections.html#the-footer-element">4.3.9 The footer element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ footer__(C context, ContextConsumerE<? super FOOTER__<__>, ? super C, Ex> footer) throws IOException, Ex {
+		return footer().__(getDocument().withContext(footer, context));
+	}
+
 	@Override
 	default FOOTER_c<__> footer_c() throws IOException {
 		return footer()._c();
@@ -202,7 +271,9 @@ public interface PalpableContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new FORM<>(document, pc).writeOpen(document.getUnsafe(null));
+		FORM<__> form = document.getFlyweight(FORM.class, pc);
+		if(form == null) form = document.putFlyweight(new FORM<>(document, pc));
+		return form.writeOpen(document.getUnsafe(null));
 	}
 
 	@Override
@@ -233,6 +304,22 @@ public interface PalpableContent<
 		return form().__(form);
 	}
 
+	/**
+	 * Creates a form element with no attributes and the given body, which is given the context.
+	 * <ul>
+	 * <li>See <a href="https://html.spec.whatwg.org/multipage/forms.html#the-form-element">4.10.3 The form element</a>.</li>
+	 * <li>See <a href="https://developer.mozilla.org/en-US/docs/Web/HTML/Element/form">&lt;form&gt;</a>.</li>
+	 * </ul>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ form__(C context, ContextConsumerE<? super FORM__<__>, ? super C, Ex> form) throws IOException, Ex {
+		return form().__(getDocument().withContext(form, context));
+	}
+
 	@Override
 	default FORM_c<__> form_c() throws IOException {
 		return form()._c();
@@ -250,7 +337,9 @@ public interface PalpableContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new HEADER<>(document, pc).writeOpen(document.getUnsafe(null));
+		HEADER<__> header = document.getFlyweight(HEADER.class, pc);
+		if(header == null) header = document.putFlyweight(new HEADER<>(document, pc));
+		return header.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -267,6 +356,21 @@ public interface PalpableContent<
 		return header().__(header);
 	}
 
+	/**
+	 * Creates a header element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/sections.html#the-header-element">4.3.8 The header element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ header__(C context, ContextConsumerE<? super HEADER__<__>, ? super C, Ex> header) throws IOException, Ex {
+		return header().__(getDocument().withContext(header, context));
+	}
+
 	@Override
 	default HEADER_c<__> header_c() throws IOException {
 		return header()._c();
@@ -286,7 +390,9 @@ public interface PalpableContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new MAIN<>(document, pc).writeOpen(document.getUnsafe(null));
+		MAIN<__> main = document.getFlyweight(MAIN.class, pc);
+		if(main == null) main = document.putFlyweight(new MAIN<>(document, pc));
+		return main.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -303,6 +409,21 @@ public interface PalpableContent<
 		return main().__(main);
 	}
 
+	/**
+	 * Creates a main element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/grouping-content.html#the-main-element">4.4.14 The main element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ main__(C context, ContextConsumerE<? super MAIN__<__>, ? super C, Ex> main) throws IOException, Ex {
+		return main().__(getDocument().withContext(main, context));
+	}
+
 	@Override
 	default MAIN_c<__> main_c() throws IOException {
 		return main()._c();
@@ -321,7 +442,9 @@ public interface PalpableContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new OL<>(document, pc).writeOpen(document.getUnsafe(null));
+		OL<__> ol = document.getFlyweight(OL.class, pc);
+		if(ol == null) ol = document.putFlyweight(new OL<>(document, pc));
+		return ol.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -338,6 +461,21 @@ public interface PalpableContent<
 		return ol().__(ol);
 	}
 
+	/**
+	 * Creates an ol element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/grouping-content.html#the-ol-element">4.4.5 The ol element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ ol__(C context, ContextConsumerE<? super OL__<__>, ? super C, Ex> ol) throws IOException, Ex {
+		return ol().__(getDocument().withContext(ol, context));
+	}
+
 	@Override
 	default OL_c<__> ol_c() throws IOException {
 		return ol()._c();
@@ -350,7 +488,19 @@ public interface PalpableContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new P<>(document, pc).writeOpen(document.getUnsafe(null));
+		P<__> p = document.getFlyweight(P.class, pc);
+		if(p == null) p = document.putFlyweight(new P<>(document, pc));
+		return p.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ p__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.P, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return p().__(text);
 	}
 
 	/**
@@ -367,6 +517,21 @@ public interface PalpableContent<
 		return p().__(p);
 	}
 
+	/**
+	 * Creates a p element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/grouping-content.html#the-p-element">4.4.1 The p element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ p__(C context, ContextConsumerE<? super P__<__>, ? super C, Ex> p) throws IOException, Ex {
+		return p().__(getDocument().withContext(p, context));
+	}
+
 	@Override
 	default P_c<__> p_c() throws IOException {
 		return p()._c();
@@ -378,7 +543,9 @@ public interface PalpableContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new PRE<>(document, pc).writeOpen(document.getUnsafe(null));
+		PRE<__> pre = document.getFlyweight(PRE.class, pc);
+		if(pre == null) pre = document.putFlyweight(new PRE<>(document, pc));
+		return pre.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -395,6 +562,21 @@ public interface PalpableContent<
 		return pre().__(pre);
 	}
 
+	/**
+	 * Creates a pre element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/grouping-content.html#the-pre-element">4.4.3 The pre element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ pre__(C context, ContextConsumerE<? super PRE__<__>, ? super C, Ex> pre) throws IOException, Ex {
+		return pre().__(getDocument().withContext(pre, context));
+	}
+
 	@Override
 	default PRE_c<__> pre_c() throws IOException {
 		return pre()._c();
@@ -419,7 +601,9 @@ public interface PalpableContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new TABLE<>(document, pc).writeOpen(document.getUnsafe(null));
+		TABLE<__> table = document.getFlyweight(TABLE.class, pc);
+		if(table == null) table = document.putFlyweight(new TABLE<>(document, pc));
+		return table.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -438,6 +622,23 @@ public interface PalpableContent<
 		return table().__(table);
 	}
 
+	/**
+	 * Creates a table element with no attributes and the given body, which is given the context.
+	 * <ul>
+	 * <li>See <a href="https://html.spec.whatwg.org/multipage/tables.html#the-table-element">4.9.1 The table element</a>.</li>
+	 * <li>See <a href="https://developer.mozilla.org/en-US/docs/Web/HTML/Element/table">&lt;table&gt;: The Table element</a>.</li>
+	 * <li>See <a href="https://www.w3schools.com/tags/tag_table.asp">HTML table tag</a>.</li>
+	 * </ul>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ table__(C context, ContextConsumerE<? super TABLE__<__>, ? super C, Ex> table) throws IOException, Ex {
+		return table().__(getDocument().withContext(table, context));
+	}
+
 	@Override
 	default TABLE_c<__> table_c() throws IOException {
 		return table()._c();
@@ -452,7 +653,9 @@ public interface PalpableContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new UL<>(document, pc).writeOpen(document.getUnsafe(null));
+		UL<__> ul = document.getFlyweight(UL.class, pc);
+		if(ul == null) ul = document.putFlyweight(new UL<>(document, pc));
+		return ul.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -469,6 +672,21 @@ public interface PalpableContent<
 		return ul().__(ul);
 	}
 
+	/**
+	 * Creates a ul element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/grouping-content.html#the-ul-element">4.4.6 The ul element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ ul__(C context, ContextConsumerE<? super UL__<__>, ? super C, Ex> ul) throws IOException, Ex {
+		return ul().__(getDocument().withContext(ul, context));
+	}
+
 	@Override
 	default UL_c<__> ul_c() throws IOException {
 		return ul()._c();
@@ -73,7 +73,9 @@ public interface PhrasingContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new AREA<>(document, pc).writeOpen(document.getUnsafe(null));
+		AREA<__> area = document.getFlyweight(AREA.class, pc);
+		if(area == null) area = document.putFlyweight(new AREA<>(document, pc));
+		return area.writeOpen(document.getUnsafe(null));
 	}
 
 	@Override
@@ -152,7 +154,9 @@ public interface PhrasingContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new BR<>(document, pc).writeOpen(document.getUnsafe(null));
+		BR<__> br = document.getFlyweight(BR.class, pc);
+		if(br == null) br = document.putFlyweight(new BR<>(document, pc));
+		return br.writeOpen(document.getUnsafe(null));
 	}
 	// </editor-fold>
 	// Inherited: BUTTON
@@ -166,7 +170,9 @@ public interface PhrasingContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new DATALIST<>(document, pc).writeOpen(document.getUnsafe(null));
+		DATALIST<__> datalist = document.getFlyweight(DATALIST.class, pc);
+		if(datalist == null) datalist = document.putFlyweight(new DATALIST<>(document, pc));
+		return datalist.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -183,6 +189,21 @@ public interface PhrasingContent<
 		return datalist().__(datalist);
 	}
 
+	/**
+	 * Creates a datalist element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#the-datalist-element">4.10.8 The datalist element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ datalist__(C context, ContextConsumerE<? super DATALIST__<__>, ? super C, Ex> datalist) throws IOException, Ex {
+		return datalist().__(getDocument().withContext(datalist, context));
+	}
+
 	@Override
 	default DATALIST_c<__> datalist_c() throws IOException {
 		return datalist()._c();
@@ -194,7 +215,9 @@ public interface PhrasingContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new DEL<>(document, pc).writeOpen(document.getUnsafe(null));
+		DEL<__> del = document.getFlyweight(DEL.class, pc);
+		if(del == null) del = document.putFlyweight(new DEL<>(document, pc));
+		return del.writeOpen(document.getUnsafe(null));
 	}
 
 	@Override
@@ -41,6 +41,10 @@ final public class Q<
 > extends
 	AnyQ<Document, PC, Q<PC>, Q__<PC>, Q_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private Q__<PC> flyweight__;
+	private Q_c<PC> flyweight_c;
+
 	Q(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -53,11 +57,13 @@ final public class Q<
 
 	@Override
 	protected Q__<PC> new__() {
-		return new Q__<>(this);
+		if(flyweight__ == null) flyweight__ = new Q__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected Q_c<PC> new_c() {
-		return new Q_c<>(this);
+		if(flyweight_c == null) flyweight_c = new Q_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
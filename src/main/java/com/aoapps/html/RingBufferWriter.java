@@ -0,0 +1,341 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands characters from a rendering thread to a separate writing thread through a bounded ring buffer, so rendering
+ * continues while the wrapped writer blocks on the network.
+ * <p>
+ * This is a single-producer, single-consumer buffer: only one thread may write, flush, and close this writer.  The
+ * wrapped writer is only used by the writing thread.  Both sides are lock-free, only parking when the ring is full or
+ * empty.  The renderer blocks only when the ring is full.
+ * </p>
+ * <p>
+ * {@link #flush()} waits until all characters have been written, then flushes the wrapped writer.  {@link #close()}
+ * must be called once done writing, which flushes and ends the writing thread, but does not close the wrapped writer.
+ * A failure of the wrapped writer is thrown from the next write, flush, or close.
+ * </p>
+ * <pre>try (RingBufferWriter out = new RingBufferWriter(response.getWriter())) {
+ *   Document document = new Document(out);
+ *   ...
+ * }</pre>
+ *
+ * @see  Document#Document(com.aoapps.encoding.EncodingContext, com.aoapps.html.RingBufferWriter)
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class RingBufferWriter extends Writer {
+
+	/**
+	 * The default capacity, in characters.
+	 */
+	public static final int DEFAULT_CAPACITY = 64 * 1024;
+
+	private final Writer out;
+
+	private final char[] ring;
+
+	private final int mask;
+
+	/**
+	 * The total number of characters taken by the writing thread.
+	 */
+	private final AtomicLong head = new AtomicLong();
+
+	/**
+	 * The total number of characters added by the rendering thread.
+	 */
+	private final AtomicLong tail = new AtomicLong();
+
+	/**
+	 * The last value of {@link #head} seen by the rendering thread, avoiding a volatile read per write.
+	 */
+	private long cachedHead;
+
+	/**
+	 * The position up to which a flush is requested.
+	 */
+	private volatile long flushRequested;
+
+	/**
+	 * The position up to which the wrapped writer has been flushed.
+	 */
+	private volatile long flushed;
+
+	private volatile boolean closed;
+
+	private volatile Thread producer;
+
+	private volatile boolean producerWaiting;
+
+	private volatile Thread consumer;
+
+	private volatile boolean consumerWaiting;
+
+	private volatile Throwable failure;
+
+	private final CountDownLatch finished = new CountDownLatch(1);
+
+	/**
+	 * @param  capacity  The number of characters buffered, rounded up to a power of two
+	 * @param  executor  Runs the writing thread until closed
+	 */
+	public RingBufferWriter(Writer out, int capacity, Executor executor) {
+		if(capacity < 1 || capacity > (1 << 30)) throw new IllegalArgumentException("capacity out of range: " + capacity);
+		this.out = Objects.requireNonNull(out);
+		int size = Integer.highestOneBit(capacity);
+		if(size < capacity) size <<= 1;
+		this.ring = new char[size];
+		this.mask = size - 1;
+		executor.execute(this::drain);
+	}
+
+	/**
+	 * Writes on a new virtual thread when available (Java 21+), otherwise a daemon thread.
+	 */
+	public RingBufferWriter(Writer out, int capacity) {
+		this(out, capacity, StitchingWriter.DEFAULT_EXECUTOR);
+	}
+
+	/**
+	 * Writes on a new virtual thread when available (Java 21+), otherwise a daemon thread.
+	 *
+	 * @see  #DEFAULT_CAPACITY
+	 */
+	public RingBufferWriter(Writer out) {
+		this(out, DEFAULT_CAPACITY);
+	}
+
+	private void checkFailure() throws IOException {
+		Throwable t = failure;
+		if(t != null) throw new IOException(t);
+	}
+
+	private void checkOpen() throws IOException {
+		if(closed) throw new IOException("Writer closed");
+		checkFailure();
+	}
+
+	private void wakeConsumer() {
+		if(consumerWaiting) {
+			Thread t = consumer;
+			if(t != null) LockSupport.unpark(t);
+		}
+	}
+
+	private void wakeProducer() {
+		if(producerWaiting) {
+			Thread t = producer;
+			if(t != null) LockSupport.unpark(t);
+		}
+	}
+
+	/**
+	 * Registers the rendering thread as waiting.  The caller must check its condition again before parking, since the
+	 * writing thread may have made progress before seeing the registration, and then would not wake it.
+	 */
+	private void startWaiting() {
+		producer = Thread.currentThread();
+		producerWaiting = true;
+	}
+
+	/**
+	 * Ends waiting, once woken or no longer needing to wait.
+	 */
+	private void stopWaiting() throws IOException {
+		producerWaiting = false;
+		if(Thread.interrupted()) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		checkFailure();
+	}
+
+	/**
+	 * Gets the free space, waiting for at least one character of space.
+	 */
+	private int awaitFree(long t) throws IOException {
+		int capacity = ring.length;
+		int free = capacity - (int)(t - cachedHead);
+		while(free == 0) {
+			cachedHead = head.get();
+			free = capacity - (int)(t - cachedHead);
+			if(free == 0) {
+				startWaiting();
+				if(head.get() == cachedHead && finished.getCount() != 0) LockSupport.park(this);
+				stopWaiting();
+			}
+		}
+		return free;
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		checkOpen();
+		long t = tail.get();
+		awaitFree(t);
+		ring[(int)t & mask] = (char)c;
+		tail.set(t + 1);
+		wakeConsumer();
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, cbuf.length);
+		checkOpen();
+		while(len > 0) {
+			long t = tail.get();
+			int n = Math.min(len, awaitFree(t));
+			int index = (int)t & mask;
+			int first = Math.min(n, ring.length - index);
+			System.arraycopy(cbuf, off, ring, index, first);
+			if(n > first) System.arraycopy(cbuf, off + first, ring, 0, n - first);
+			tail.set(t + n);
+			wakeConsumer();
+			off += n;
+			len -= n;
+		}
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, str.length());
+		checkOpen();
+		while(len > 0) {
+			long t = tail.get();
+			int n = Math.min(len, awaitFree(t));
+			int index = (int)t & mask;
+			int first = Math.min(n, ring.length - index);
+			str.getChars(off, off + first, ring, index);
+			if(n > first) str.getChars(off + first, off + n, ring, 0);
+			tail.set(t + n);
+			wakeConsumer();
+			off += n;
+			len -= n;
+		}
+	}
+
+	/**
+	 * Waits until everything written so far has been written and flushed by the writing thread.
+	 */
+	private void awaitFlushed() throws IOException {
+		long target = tail.get();
+		if(flushed < target) {
+			flushRequested = target;
+			wakeConsumer();
+			while(flushed < target) {
+				if(finished.getCount() == 0) {
+					checkFailure();
+					break;
+				}
+				startWaiting();
+				if(flushed < target && finished.getCount() != 0) LockSupport.park(this);
+				stopWaiting();
+			}
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		checkOpen();
+		awaitFlushed();
+	}
+
+	/**
+	 * Writes and flushes everything, then ends the writing thread.  The wrapped writer is not closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		if(!closed) {
+			closed = true;
+			Thread t = consumer;
+			if(t != null) LockSupport.unpark(t);
+			try {
+				finished.await();
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+				InterruptedIOException ioErr = new InterruptedIOException();
+				ioErr.initCause(e);
+				throw ioErr;
+			}
+			checkFailure();
+		}
+	}
+
+	/**
+	 * The writing thread.
+	 */
+	private void drain() {
+		consumer = Thread.currentThread();
+		try {
+			while(true) {
+				long h = head.get();
+				long t = tail.get();
+				if(t != h) {
+					int index = (int)h & mask;
+					int n = (int)(t - h);
+					int first = Math.min(n, ring.length - index);
+					out.write(ring, index, first);
+					if(n > first) out.write(ring, 0, n - first);
+					head.set(t);
+					wakeProducer();
+				} else {
+					long requested = flushRequested;
+					if(requested > flushed && h >= requested) {
+						out.flush();
+						flushed = requested;
+						wakeProducer();
+					} else if(closed) {
+						// Check once more for anything written before closing
+						if(tail.get() == h) break;
+					} else {
+						consumerWaiting = true;
+						try {
+							if(tail.get() == h && flushRequested <= flushed && !closed) {
+								LockSupport.park(this);
+							}
+						} finally {
+							consumerWaiting = false;
+						}
+					}
+				}
+			}
+			out.flush();
+		} catch(Throwable t) {
+			failure = t;
+		} finally {
+			finished.countDown();
+			Thread p = producer;
+			if(p != null) LockSupport.unpark(p);
+		}
+	}
+}
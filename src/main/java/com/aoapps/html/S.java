@@ -38,6 +38,10 @@ final public class S<
 > extends
 	AnyS<Document, PC, S<PC>, S__<PC>, S_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private S__<PC> flyweight__;
+	private S_c<PC> flyweight_c;
+
 	S(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class S<
 
 	@Override
 	protected S__<PC> new__() {
-		return new S__<>(this);
+		if(flyweight__ == null) flyweight__ = new S__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected S_c<PC> new_c() {
-		return new S_c<>(this);
+		if(flyweight_c == null) flyweight_c = new S_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
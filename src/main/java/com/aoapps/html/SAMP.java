@@ -38,6 +38,10 @@ final public class SAMP<
 > extends
 	AnySAMP<Document, PC, SAMP<PC>, SAMP__<PC>, SAMP_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private SAMP__<PC> flyweight__;
+	private SAMP_c<PC> flyweight_c;
+
 	SAMP(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class SAMP<
 
 	@Override
 	protected SAMP__<PC> new__() {
-		return new SAMP__<>(this);
+		if(flyweight__ == null) flyweight__ = new SAMP__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected SAMP_c<PC> new_c() {
-		return new SAMP_c<>(this);
+		if(flyweight_c == null) flyweight_c = new SAMP_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,6 +38,10 @@ final public class SECTION<
 > extends
 	AnySECTION<Document, PC, SECTION<PC>, SECTION__<PC>, SECTION_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private SECTION__<PC> flyweight__;
+	private SECTION_c<PC> flyweight_c;
+
 	SECTION(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class SECTION<
 
 	@Override
 	protected SECTION__<PC> new__() {
-		return new SECTION__<>(this);
+		if(flyweight__ == null) flyweight__ = new SECTION__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected SECTION_c<PC> new_c() {
-		return new SECTION_c<>(this);
+		if(flyweight_c == null) flyweight_c = new SECTION_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
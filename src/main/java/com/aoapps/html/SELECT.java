@@ -38,6 +38,10 @@ final public class SELECT<
 > extends
 	AnySELECT<Document, PC, SELECT<PC>, SELECT__<PC>, SELECT_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private SELECT__<PC> flyweight__;
+	private SELECT_c<PC> flyweight_c;
+
 	SELECT(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class SELECT<
 
 	@Override
 	protected SELECT__<PC> new__() {
-		return new SELECT__<>(this);
+		if(flyweight__ == null) flyweight__ = new SELECT__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected SELECT_c<PC> new_c() {
-		return new SELECT_c<>(this);
+		if(flyweight_c == null) flyweight_c = new SELECT_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -25,6 +25,8 @@ package com.aoapps.html;
 import com.aoapps.html.any.AnySELECT_content;
 import com.aoapps.lang.io.function.IOConsumerE;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
 
 /**
  * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#the-select-element">4.10.7 The select element</a>.
@@ -62,7 +64,9 @@ public interface SELECT_content<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new OPTGROUP<>(document, pc).writeOpen(document.getUnsafe(null));
+		OPTGROUP<__> optgroup = document.getFlyweight(OPTGROUP.class, pc);
+		if(optgroup == null) optgroup = document.putFlyweight(new OPTGROUP<>(document, pc));
+		return optgroup.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -79,12 +83,59 @@ public interface SELECT_content<
 		return optgroup().__(optgroup);
 	}
 
+	/**
+	 * Creates an optgroup element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#the-optgroup-element">4.10.9 The optgroup element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ optgroup__(C context, ContextConsumerE<? super OPTGROUP__<__>, ? super C, Ex> optgroup) throws IOException, Ex {
+		return optgroup().__(getDocument().withContext(optgroup, context));
+	}
+
 	@Override
 	default OPTGROUP_c<__> optgroup_c() throws IOException {
 		return optgroup()._c();
 	}
 	// </editor-fold>
 	// Inherited: OPTION
+	// <editor-fold defaultstate="collapsed" desc="OPTION (list)">
+	/**
+	 * Writes all options of a pre-encoded list, with the given values selected.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#the-option-element">4.10.10 The option element</a>.
+	 * </p>
+	 *
+	 * @param  selected  The values of the selected options, where a value given more than once is selected once
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default __ options__(OptionList options, Collection<String> selected) throws IOException {
+		@SuppressWarnings("unchecked")
+		__ pc = (__)this;
+		options.write(pc, selected);
+		return pc;
+	}
+
+	/**
+	 * Writes all options of a pre-encoded list, with the given value selected.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#the-option-element">4.10.10 The option element</a>.
+	 * </p>
+	 *
+	 * @param  selected  The value of the selected option or {@code null} for none
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default __ options__(OptionList options, String selected) throws IOException {
+		return options__(options, (selected == null) ? Collections.emptySet() : Collections.singleton(selected));
+	}
+	// </editor-fold>
 	// Inherited: SCRIPT
 	// Inherited: TEMPLATE
 }
@@ -38,6 +38,10 @@ final public class SMALL<
 > extends
 	AnySMALL<Document, PC, SMALL<PC>, SMALL__<PC>, SMALL_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private SMALL__<PC> flyweight__;
+	private SMALL_c<PC> flyweight_c;
+
 	SMALL(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class SMALL<
 
 	@Override
 	protected SMALL__<PC> new__() {
-		return new SMALL__<>(this);
+		if(flyweight__ == null) flyweight__ = new SMALL__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected SMALL_c<PC> new_c() {
-		return new SMALL_c<>(this);
+		if(flyweight_c == null) flyweight_c = new SMALL_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,23 +38,47 @@ final public class SPAN<
 > extends
 	AnySPAN<Document, PC, SPAN<PC>, SPAN__<PC>, SPAN_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private SPAN__<PC> flyweight__;
+	private SPAN_c<PC> flyweight_c;
+
 	SPAN(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public SPAN<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public SPAN<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected SPAN<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.SPAN, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected SPAN__<PC> new__() {
-		return new SPAN__<>(this);
+		if(flyweight__ == null) flyweight__ = new SPAN__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected SPAN_c<PC> new_c() {
-		return new SPAN_c<>(this);
+		if(flyweight_c == null) flyweight_c = new SPAN_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
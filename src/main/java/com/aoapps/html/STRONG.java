@@ -38,6 +38,10 @@ final public class STRONG<
 > extends
 	AnySTRONG<Document, PC, STRONG<PC>, STRONG__<PC>, STRONG_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private STRONG__<PC> flyweight__;
+	private STRONG_c<PC> flyweight_c;
+
 	STRONG(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class STRONG<
 
 	@Override
 	protected STRONG__<PC> new__() {
-		return new STRONG__<>(this);
+		if(flyweight__ == null) flyweight__ = new STRONG__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected STRONG_c<PC> new_c() {
-		return new STRONG_c<>(this);
+		if(flyweight_c == null) flyweight_c = new STRONG_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
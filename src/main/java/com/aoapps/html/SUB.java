@@ -38,6 +38,10 @@ final public class SUB<
 > extends
 	AnySUB<Document, PC, SUB<PC>, SUB__<PC>, SUB_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private SUB__<PC> flyweight__;
+	private SUB_c<PC> flyweight_c;
+
 	SUB(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class SUB<
 
 	@Override
 	protected SUB__<PC> new__() {
-		return new SUB__<>(this);
+		if(flyweight__ == null) flyweight__ = new SUB__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected SUB_c<PC> new_c() {
-		return new SUB_c<>(this);
+		if(flyweight_c == null) flyweight_c = new SUB_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,6 +38,10 @@ final public class SUP<
 > extends
 	AnySUP<Document, PC, SUP<PC>, SUP__<PC>, SUP_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private SUP__<PC> flyweight__;
+	private SUP_c<PC> flyweight_c;
+
 	SUP(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class SUP<
 
 	@Override
 	protected SUP__<PC> new__() {
-		return new SUP__<>(this);
+		if(flyweight__ == null) flyweight__ = new SUP__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected SUP_c<PC> new_c() {
-		return new SUP_c<>(this);
+		if(flyweight_c == null) flyweight_c = new SUP_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -53,7 +53,9 @@ public interface SectioningContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new ARTICLE<>(document, pc).writeOpen(document.getUnsafe(null));
+		ARTICLE<__> article = document.getFlyweight(ARTICLE.class, pc);
+		if(article == null) article = document.putFlyweight(new ARTICLE<>(document, pc));
+		return article.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -70,6 +72,21 @@ public interface SectioningContent<
 		return article().__(article);
 	}
 
+	/**
+	 * Creates an article element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/sections.html#the-article-element">4.3.2 The article element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ article__(C context, ContextConsumerE<? super ARTICLE__<__>, ? super C, Ex> article) throws IOException, Ex {
+		return article().__(getDocument().withContext(article, context));
+	}
+
 	@Override
 	default ARTICLE_c<__> article_c() throws IOException {
 		return article()._c();
@@ -81,7 +98,9 @@ public interface SectioningContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new ASIDE<>(document, pc).writeOpen(document.getUnsafe(null));
+		ASIDE<__> aside = document.getFlyweight(ASIDE.class, pc);
+		if(aside == null) aside = document.putFlyweight(new ASIDE<>(document, pc));
+		return aside.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -98,6 +117,21 @@ public interface SectioningContent<
 		return aside().__(aside);
 	}
 
+	/**
+	 * Creates an aside element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/sections.html#the-aside-element">4.3.5 The aside element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ aside__(C context, ContextConsumerE<? super ASIDE__<__>, ? super C, Ex> aside) throws IOException, Ex {
+		return aside().__(getDocument().withContext(aside, context));
+	}
+
 	@Override
 	default ASIDE_c<__> aside_c() throws IOException {
 		return aside()._c();
@@ -109,7 +143,9 @@ public interface SectioningContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new NAV<>(document, pc).writeOpen(document.getUnsafe(null));
+		NAV<__> nav = document.getFlyweight(NAV.class, pc);
+		if(nav == null) nav = document.putFlyweight(new NAV<>(document, pc));
+		return nav.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -126,6 +162,21 @@ public interface SectioningContent<
 		return nav().__(nav);
 	}
 
+	/**
+	 * Creates a nav element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/sections.html#the-nav-element">4.3.4 The nav element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ nav__(C context, ContextConsumerE<? super NAV__<__>, ? super C, Ex> nav) throws IOException, Ex {
+		return nav().__(getDocument().withContext(nav, context));
+	}
+
 	@Override
 	default NAV_c<__> nav_c() throws IOException {
 		return nav()._c();
@@ -137,7 +188,9 @@ public interface SectioningContent<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new SECTION<>(document, pc).writeOpen(document.getUnsafe(null));
+		SECTION<__> section = document.getFlyweight(SECTION.class, pc);
+		if(section == null) section = document.putFlyweight(new SECTION<>(document, pc));
+		return section.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -154,6 +207,21 @@ public interface SectioningContent<
 		return section().__(section);
 	}
 
+	/**
+	 * Creates a section element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/sections.html#the-section-element">4.3.3 The section element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ section__(C context, ContextConsumerE<? super SECTION__<__>, ? super C, Ex> section) throws IOException, Ex {
+		return section().__(getDocument().withContext(section, context));
+	}
+
 	@Override
 	default SECTION_c<__> section_c() throws IOException {
 		return section()._c();
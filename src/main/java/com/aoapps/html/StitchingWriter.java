@@ -0,0 +1,340 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Splices the output of asynchronously rendered regions into a writer in document order.
+ * <p>
+ * While any region is pending, writes from the document are buffered in segments between the regions.  As each
+ * region completes, every completed segment at the head is written through, so each region is sent as soon as all
+ * earlier output is done.  Once nothing is pending, writes go directly to the wrapped writer.
+ * </p>
+ * <p>
+ * The wrapped writer is only written and flushed while holding a lock, either by the thread of the document or by
+ * the thread completing a region.
+ * </p>
+ * <p>
+ * Once any region fails, all further writes and flushes throw {@link IOException}, so the document stops rendering
+ * instead of having its output discarded until {@link #await()}.
+ * </p>
+ *
+ * @see  Document#awaitAsync()
+ *
+ * @author  AO Industries, Inc.
+ */
+final class StitchingWriter extends Writer {
+
+	/**
+	 * Runs each region on a new virtual thread when available (Java 21+), otherwise on a cached pool of daemon threads.
+	 */
+	static final Executor DEFAULT_EXECUTOR;
+	static {
+		Executor executor;
+		try {
+			executor = (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch(ReflectiveOperationException e) {
+			executor = Executors.newCachedThreadPool(r -> {
+				Thread thread = new Thread(r, StitchingWriter.class.getName());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		DEFAULT_EXECUTOR = executor;
+	}
+
+	/**
+	 * Output that is either buffered from the document or rendered by a region.
+	 */
+	static final class Segment {
+
+		/**
+		 * The output buffered from the document, or {@code null} for a region.
+		 */
+		private final StringBuilder buffer;
+
+		private String result;
+
+		private boolean done;
+
+		private Segment(boolean buffered) {
+			this.buffer = buffered ? new StringBuilder() : null;
+		}
+	}
+
+	private final Writer out;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * Signalled when nothing is pending.
+	 */
+	private final Condition drained = lock.newCondition();
+
+	private final ArrayDeque<Segment> pending = new ArrayDeque<>();
+
+	/**
+	 * The segment currently buffering writes from the document, always last when not {@code null}.
+	 */
+	private Segment tail;
+
+	/**
+	 * The first failure of any region or write, thrown from {@link #await()}.
+	 */
+	private Throwable failure;
+
+	/**
+	 * Set once cancelled, after which regions are discarded.
+	 */
+	private boolean cancelled;
+
+	StitchingWriter(Writer out) {
+		this.out = out;
+	}
+
+	/**
+	 * Gets the wrapped writer.
+	 */
+	Writer getOut() {
+		return out;
+	}
+
+	/**
+	 * Throws once any region has failed, while holding the lock.
+	 */
+	private void checkFailure() throws IOException {
+		Throwable t = failure;
+		if(t != null) throw new IOException("Asynchronous region failed", t);
+	}
+
+	/**
+	 * Gets where the document should currently write, while holding the lock.
+	 */
+	private Appendable target() throws IOException {
+		checkFailure();
+		if(pending.isEmpty()) return out;
+		if(tail == null) {
+			tail = new Segment(true);
+			pending.add(tail);
+		}
+		return tail.buffer;
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		lock.lock();
+		try {
+			target().append((char)c);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		lock.lock();
+		try {
+			checkFailure();
+			if(pending.isEmpty()) {
+				out.write(cbuf, off, len);
+			} else {
+				((StringBuilder)target()).append(cbuf, off, len);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		lock.lock();
+		try {
+			target().append(str, off, off + len);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public Writer append(CharSequence csq) throws IOException {
+		lock.lock();
+		try {
+			target().append(csq);
+		} finally {
+			lock.unlock();
+		}
+		return this;
+	}
+
+	@Override
+	public Writer append(CharSequence csq, int start, int end) throws IOException {
+		lock.lock();
+		try {
+			target().append(csq, start, end);
+		} finally {
+			lock.unlock();
+		}
+		return this;
+	}
+
+	@Override
+	public Writer append(char c) throws IOException {
+		write(c);
+		return this;
+	}
+
+	/**
+	 * Starts a new region at the current position.  Subsequent writes are buffered after the region.
+	 *
+	 * @throws  IOException  when an earlier region has failed
+	 */
+	Segment start() throws IOException {
+		lock.lock();
+		try {
+			checkFailure();
+			Segment region = new Segment(false);
+			pending.add(region);
+			tail = null;
+			return region;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Discards all pending regions and buffered output.  Regions completed afterwards write nothing.
+	 */
+	void cancel() {
+		lock.lock();
+		try {
+			cancelled = true;
+			pending.clear();
+			tail = null;
+			drained.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Completes a region, writing through all completed segments at the head.
+	 *
+	 * @param  result   The output of the region
+	 * @param  failure  The failure of the region or {@code null} when successful
+	 */
+	void complete(Segment region, String result, Throwable failure) {
+		lock.lock();
+		try {
+			if(cancelled) return;
+			region.result = result;
+			region.done = true;
+			if(failure != null && this.failure == null) this.failure = failure;
+			Segment head;
+			while((head = pending.peek()) != null) {
+				String output;
+				if(head.buffer != null) {
+					output = head.buffer.toString();
+					if(head == tail) tail = null;
+				} else if(head.done) {
+					output = head.result;
+				} else {
+					break;
+				}
+				pending.remove();
+				if(this.failure == null) {
+					try {
+						out.write(output);
+					} catch(IOException e) {
+						this.failure = e;
+					}
+				}
+			}
+			if(pending.isEmpty()) drained.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Waits for all regions to be completed and written.
+	 *
+	 * @throws  IOException  when a region failed with an {@link IOException} or the thread is interrupted
+	 */
+	void await() throws IOException {
+		lock.lock();
+		try {
+			while(!pending.isEmpty()) {
+				drained.await();
+			}
+			Throwable t = failure;
+			if(t != null) {
+				failure = null;
+				if(t instanceof IOException) throw (IOException)t;
+				if(t instanceof RuntimeException) throw (RuntimeException)t;
+				if(t instanceof Error) throw (Error)t;
+				throw new IOException(t);
+			}
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			InterruptedIOException ioErr = new InterruptedIOException();
+			ioErr.initCause(e);
+			throw ioErr;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Flushes the wrapped writer, including all output written through so far.  Output buffered after a pending
+	 * region is written once the region completes.
+	 *
+	 * @throws  IOException  when any region has failed
+	 */
+	@Override
+	public void flush() throws IOException {
+		lock.lock();
+		try {
+			checkFailure();
+			out.flush();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Flushes only, since the wrapped writer is not owned by this writer.
+	 */
+	@Override
+	public void close() throws IOException {
+		flush();
+	}
+}
@@ -43,23 +43,47 @@ final public class TABLE<
 > extends
 	AnyTABLE<Document, PC, TABLE<PC>, TABLE__<PC>, TABLE_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private TABLE__<PC> flyweight__;
+	private TABLE_c<PC> flyweight_c;
+
 	TABLE(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public TABLE<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public TABLE<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected TABLE<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.TABLE, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected TABLE__<PC> new__() {
-		return new TABLE__<>(this);
+		if(flyweight__ == null) flyweight__ = new TABLE__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected TABLE_c<PC> new_c() {
-		return new TABLE_c<>(this);
+		if(flyweight_c == null) flyweight_c = new TABLE_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
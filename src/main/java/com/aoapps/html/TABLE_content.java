@@ -26,6 +26,7 @@ import com.aoapps.encoding.Serialization;
 import com.aoapps.html.any.AnyTABLE_content;
 import com.aoapps.lang.io.function.IOConsumerE;
 import java.io.IOException;
+import java.util.stream.Stream;
 
 /**
  * <ul>
@@ -62,7 +63,9 @@ public interface TABLE_content<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new CAPTION<>(document, pc).writeOpen(document.getUnsafe(null));
+		CAPTION<__> caption = document.getFlyweight(CAPTION.class, pc);
+		if(caption == null) caption = document.putFlyweight(new CAPTION<>(document, pc));
+		return caption.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -79,6 +82,21 @@ public interface TABLE_content<
 		return caption().__(caption);
 	}
 
+	/**
+	 * Creates a caption element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/tables.html#the-caption-element">4.9.2 The caption element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ caption__(C context, ContextConsumerE<? super CAPTION__<__>, ? super C, Ex> caption) throws IOException, Ex {
+		return caption().__(getDocument().withContext(caption, context));
+	}
+
 	@Override
 	default CAPTION_c<__> caption_c() throws IOException {
 		return caption()._c();
@@ -90,7 +108,9 @@ public interface TABLE_content<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new COLGROUP<>(document, pc).writeOpen(document.getUnsafe(null));
+		COLGROUP<__> colgroup = document.getFlyweight(COLGROUP.class, pc);
+		if(colgroup == null) colgroup = document.putFlyweight(new COLGROUP<>(document, pc));
+		return colgroup.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -107,6 +127,21 @@ public interface TABLE_content<
 		return colgroup().__(colgroup);
 	}
 
+	/**
+	 * Creates a colgroup element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/tables.html#the-colgroup-element">4.9.3 The colgroup element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ colgroup__(C context, ContextConsumerE<? super COLGROUP__<__>, ? super C, Ex> colgroup) throws IOException, Ex {
+		return colgroup().__(getDocument().withContext(colgroup, context));
+	}
+
 	@Override
 	default COLGROUP_c<__> colgroup_c() throws IOException {
 		return colgroup()._c();
@@ -118,7 +153,9 @@ public interface TABLE_content<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new THEAD<>(document, pc).writeOpen(document.getUnsafe(null));
+		THEAD<__> thead = document.getFlyweight(THEAD.class, pc);
+		if(thead == null) thead = document.putFlyweight(new THEAD<>(document, pc));
+		return thead.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -135,6 +172,21 @@ public interface TABLE_content<
 		return thead().__(thead);
 	}
 
+	/**
+	 * Creates a thead element with no attributes and the given head, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/tables.html#the-thead-element">4.9.6 The thead element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ thead__(C context, ContextConsumerE<? super THEAD__<__>, ? super C, Ex> thead) throws IOException, Ex {
+		return thead().__(getDocument().withContext(thead, context));
+	}
+
 	@Override
 	default THEAD_c<__> thead_c() throws IOException {
 		return thead()._c();
@@ -146,7 +198,9 @@ public interface TABLE_content<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new TBODY<>(document, pc).writeOpen(document.getUnsafe(null));
+		TBODY<__> tbody = document.getFlyweight(TBODY.class, pc);
+		if(tbody == null) tbody = document.putFlyweight(new TBODY<>(document, pc));
+		return tbody.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -163,6 +217,55 @@ public interface TABLE_content<
 		return tbody().__(tbody);
 	}
 
+	/**
+	 * Creates a tbody element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/tables.html#the-tbody-element">4.9.5 The tbody element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ tbody__(C context, ContextConsumerE<? super TBODY__<__>, ? super C, Ex> tbody) throws IOException, Ex {
+		return tbody().__(getDocument().withContext(tbody, context));
+	}
+
+	/**
+	 * Creates a tbody element with no attributes, containing a tr element for each row.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/tables.html#the-tbody-element">4.9.5 The tbody element</a>.
+	 * </p>
+	 *
+	 * @param  <R>  The type of row
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 *
+	 * @see  Columns
+	 */
+	default <R> __ tbody__(Iterable<? extends R> rows, Columns<R> columns) throws IOException {
+		return tbody().__(tbody -> tbody.rows__(rows, columns));
+	}
+
+	/**
+	 * Creates a tbody element with no attributes, containing a tr element for each row, then closes the stream.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/tables.html#the-tbody-element">4.9.5 The tbody element</a>.
+	 * </p>
+	 *
+	 * @param  <R>  The type of row
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 *
+	 * @see  Columns
+	 */
+	default <R> __ tbody__(Stream<? extends R> rows, Columns<R> columns) throws IOException {
+		try(Stream<? extends R> stream = rows) {
+			return tbody().__(tbody -> tbody.rows__(stream, columns));
+		}
+	}
+
 	@Override
 	default TBODY_c<__> tbody_c() throws IOException {
 		return tbody()._c();
@@ -207,7 +310,9 @@ public interface TABLE_content<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new TFOOT<>(document, pc).writeOpen(document.getUnsafe(null));
+		TFOOT<__> tfoot = document.getFlyweight(TFOOT.class, pc);
+		if(tfoot == null) tfoot = document.putFlyweight(new TFOOT<>(document, pc));
+		return tfoot.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -224,6 +329,21 @@ public interface TABLE_content<
 		return tfoot().__(tfoot);
 	}
 
+	/**
+	 * Creates a tfoot element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/tables.html#the-tfoot-element">4.9.7 The tfoot element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ tfoot__(C context, ContextConsumerE<? super TFOOT__<__>, ? super C, Ex> tfoot) throws IOException, Ex {
+		return tfoot().__(getDocument().withContext(tfoot, context));
+	}
+
 	@Override
 	default TFOOT_c<__> tfoot_c() throws IOException {
 		return tfoot()._c();
@@ -38,23 +38,47 @@ final public class TBODY<
 > extends
 	AnyTBODY<Document, PC, TBODY<PC>, TBODY__<PC>, TBODY_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private TBODY__<PC> flyweight__;
+	private TBODY_c<PC> flyweight_c;
+
 	TBODY(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public TBODY<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public TBODY<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected TBODY<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.TBODY, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected TBODY__<PC> new__() {
-		return new TBODY__<>(this);
+		if(flyweight__ == null) flyweight__ = new TBODY__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected TBODY_c<PC> new_c() {
-		return new TBODY_c<>(this);
+		if(flyweight_c == null) flyweight_c = new TBODY_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
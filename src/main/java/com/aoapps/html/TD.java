@@ -38,23 +38,63 @@ final public class TD<
 > extends
 	AnyTD<Document, PC, TD<PC>, TD__<PC>, TD_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private TD__<PC> flyweight__;
+	private TD_c<PC> flyweight_c;
+
 	TD(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public TD<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public TD<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/tables.html#attr-tdth-colspan">The colspan attribute</a>.
+	 */
+	public TD<PC> colspan(int colspan) throws IOException {
+		document.writeAttribute(" colspan=\"", colspan);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/tables.html#attr-tdth-rowspan">The rowspan attribute</a>.
+	 */
+	public TD<PC> rowspan(int rowspan) throws IOException {
+		document.writeAttribute(" rowspan=\"", rowspan);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected TD<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.TD, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected TD__<PC> new__() {
-		return new TD__<>(this);
+		if(flyweight__ == null) flyweight__ = new TD__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected TD_c<PC> new_c() {
-		return new TD_c<>(this);
+		if(flyweight_c == null) flyweight_c = new TD_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
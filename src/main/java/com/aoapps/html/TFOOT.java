@@ -38,23 +38,47 @@ final public class TFOOT<
 > extends
 	AnyTFOOT<Document, PC, TFOOT<PC>, TFOOT__<PC>, TFOOT_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private TFOOT__<PC> flyweight__;
+	private TFOOT_c<PC> flyweight_c;
+
 	TFOOT(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public TFOOT<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public TFOOT<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected TFOOT<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.TFOOT, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected TFOOT__<PC> new__() {
-		return new TFOOT__<>(this);
+		if(flyweight__ == null) flyweight__ = new TFOOT__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected TFOOT_c<PC> new_c() {
-		return new TFOOT_c<>(this);
+		if(flyweight_c == null) flyweight_c = new TFOOT_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
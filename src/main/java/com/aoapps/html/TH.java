@@ -38,23 +38,63 @@ final public class TH<
 > extends
 	AnyTH<Document, PC, TH<PC>, TH__<PC>, TH_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private TH__<PC> flyweight__;
+	private TH_c<PC> flyweight_c;
+
 	TH(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public TH<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public TH<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/tables.html#attr-tdth-colspan">The colspan attribute</a>.
+	 */
+	public TH<PC> colspan(int colspan) throws IOException {
+		document.writeAttribute(" colspan=\"", colspan);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/tables.html#attr-tdth-rowspan">The rowspan attribute</a>.
+	 */
+	public TH<PC> rowspan(int rowspan) throws IOException {
+		document.writeAttribute(" rowspan=\"", rowspan);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected TH<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.TH, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected TH__<PC> new__() {
-		return new TH__<>(this);
+		if(flyweight__ == null) flyweight__ = new TH__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected TH_c<PC> new_c() {
-		return new TH_c<>(this);
+		if(flyweight_c == null) flyweight_c = new TH_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -38,23 +38,47 @@ final public class THEAD<
 > extends
 	AnyTHEAD<Document, PC, THEAD<PC>, THEAD__<PC>, THEAD_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private THEAD__<PC> flyweight__;
+	private THEAD_c<PC> flyweight_c;
+
 	THEAD(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public THEAD<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public THEAD<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected THEAD<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.THEAD, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected THEAD__<PC> new__() {
-		return new THEAD__<>(this);
+		if(flyweight__ == null) flyweight__ = new THEAD__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected THEAD_c<PC> new_c() {
-		return new THEAD_c<>(this);
+		if(flyweight_c == null) flyweight_c = new THEAD_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
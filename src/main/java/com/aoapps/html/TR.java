@@ -38,23 +38,47 @@ final public class TR<
 > extends
 	AnyTR<Document, PC, TR<PC>, TR__<PC>, TR_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private TR__<PC> flyweight__;
+	private TR_c<PC> flyweight_c;
+
 	TR(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public TR<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public TR<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected TR<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.TR, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected TR__<PC> new__() {
-		return new TR__<>(this);
+		if(flyweight__ == null) flyweight__ = new TR__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected TR_c<PC> new_c() {
-		return new TR_c<>(this);
+		if(flyweight_c == null) flyweight_c = new TR_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
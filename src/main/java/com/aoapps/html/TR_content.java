@@ -56,7 +56,19 @@ public interface TR_content<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new TD<>(document, pc).writeOpen(document.getUnsafe(null));
+		TD<__> td = document.getFlyweight(TD.class, pc);
+		if(td == null) td = document.putFlyweight(new TD<>(document, pc));
+		return td.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ td__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.TD, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return td().__(text);
 	}
 
 	/**
@@ -73,6 +85,21 @@ public interface TR_content<
 		return td().__(td);
 	}
 
+	/**
+	 * Creates a td element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/tables.html#the-td-element">4.9.9 The td element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ td__(C context, ContextConsumerE<? super TD__<__>, ? super C, Ex> td) throws IOException, Ex {
+		return td().__(getDocument().withContext(td, context));
+	}
+
 	@Override
 	default TD_c<__> td_c() throws IOException {
 		return td()._c();
@@ -84,7 +111,19 @@ public interface TR_content<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new TH<>(document, pc).writeOpen(document.getUnsafe(null));
+		TH<__> th = document.getFlyweight(TH.class, pc);
+		if(th == null) th = document.putFlyweight(new TH<>(document, pc));
+		return th.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ th__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.TH, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return th().__(text);
 	}
 
 	/**
@@ -101,6 +140,21 @@ public interface TR_content<
 		return th().__(th);
 	}
 
+	/**
+	 * Creates a th element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/tables.html#the-th-element">4.9.10 The th element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ th__(C context, ContextConsumerE<? super TH__<__>, ? super C, Ex> th) throws IOException, Ex {
+		return th().__(getDocument().withContext(th, context));
+	}
+
 	@Override
 	default TH_c<__> th_c() throws IOException {
 		return th()._c();
@@ -0,0 +1,143 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import java.util.Locale;
+
+/**
+ * The elements supported by {@link Document}, used to index the pre-encoded markup of {@link Fragments}.
+ *
+ * @author  AO Industries, Inc.
+ */
+enum Tag {
+	A(false),
+	ABBR(false),
+	ADDRESS(false),
+	AREA(true),
+	ARTICLE(false),
+	ASIDE(false),
+	B(false),
+	BASE(true),
+	BDI(false),
+	BDO(false),
+	BLOCKQUOTE(false),
+	BODY(false),
+	BR(true),
+	CAPTION(false),
+	CITE(false),
+	CODE(false),
+	COL(true),
+	COLGROUP(false),
+	DATA(false),
+	DATALIST(false),
+	DD(false),
+	DEL(false),
+	DFN(false),
+	DIV(false),
+	DL(false),
+	DT(false),
+	EM(false),
+	FOOTER(false),
+	FORM(false),
+	H1(false),
+	H2(false),
+	H3(false),
+	H4(false),
+	H5(false),
+	H6(false),
+	HEAD(false),
+	HEADER(false),
+	HR(true),
+	HTML(false),
+	I(false),
+	IMG(true),
+	INPUT(true),
+	INS(false),
+	KBD(false),
+	LABEL(false),
+	LI(false),
+	LINK(true),
+	MAIN(false),
+	MAP(false),
+	MARK(false),
+	MENU(false),
+	META(true),
+	METER(false),
+	NAV(false),
+	OBJECT(false),
+	OL(false),
+	OPTGROUP(false),
+	OPTION(false),
+	OUTPUT(false),
+	P(false),
+	PARAM(true),
+	PRE(false),
+	PROGRESS(false),
+	Q(false),
+	S(false),
+	SAMP(false),
+	SCRIPT(false),
+	SECTION(false),
+	SELECT(false),
+	SMALL(false),
+	SPAN(false),
+	STRONG(false),
+	STYLE(false),
+	SUB(false),
+	SUP(false),
+	TABLE(false),
+	TBODY(false),
+	TD(false),
+	TEMPLATE(false),
+	TFOOT(false),
+	TH(false),
+	THEAD(false),
+	TITLE(false),
+	TR(false),
+	U(false),
+	UL(false),
+	VAR(false);
+
+	private final String tagName;
+
+	private final boolean isVoid;
+
+	private Tag(boolean isVoid) {
+		this.tagName = name().toLowerCase(Locale.ROOT);
+		this.isVoid = isVoid;
+	}
+
+	/**
+	 * Gets the lower-case tag name, such as {@code "div"}.
+	 */
+	String getTagName() {
+		return tagName;
+	}
+
+	/**
+	 * Is this a void element, which has no content and no end tag?
+	 */
+	boolean isVoid() {
+		return isVoid;
+	}
+}
@@ -0,0 +1,422 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.TextInXhtmlAttributeEncoder;
+import com.aoapps.encoding.TextInXhtmlEncoder;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * A render body compiled into static, pre-encoded chunks with holes for dynamic values.
+ * <p>
+ * The body is first run once against a recording {@link Document}, with each hole given a unique marker value.  The
+ * recorded output becomes a program of pre-encoded chunks, each written with a single bulk write, between holes
+ * that are filled from the model on each render.  Rendering the program skips the element factories, the
+ * content-model dispatch, and the escaping of all constant markup.
+ * </p>
+ * <p>
+ * <b>Contract:</b> the output of {@link #render(com.aoapps.html.Document, java.lang.Object)} is always identical to
+ * running the body directly, with each hole returning its value from the model.  This is guaranteed by:
+ * </p>
+ * <ol>
+ * <li>Text holes are written through {@link Document#text(java.lang.Object)}, exactly as when run directly.</li>
+ * <li>Markers contain characters that are escaped, and markers for attribute holes also have leading and trailing
+ *     space.  When compiling, each marker must be found exactly as it would be encoded for its type of hole, which
+ *     also catches a text hole given to an attribute or the reverse.  An attribute whose setter trims, normalizes,
+ *     or encodes its value differently, such as a URL, cannot be a hole and compilation fails with
+ *     {@link IllegalArgumentException}.</li>
+ * <li>An attribute hole value that is {@code null} or empty may cause its attribute to be omitted, so the body is
+ *     run directly instead.</li>
+ * <li>When indenting, the output depends on the state of the document, so the body is run directly instead.</li>
+ * <li>Programs are compiled separately for each {@link EncodingContext}, since a context may change the output, such
+ *     as {@link EncodingContext#encodeURL(java.lang.String)} adding a session id.  Only the first
+ *     {@link #MAX_PROGRAMS} combinations are compiled; any further are run directly instead.</li>
+ * <li>The character U+E000 marks holes, so static content containing it fails compilation with
+ *     {@link IllegalArgumentException}.  Hole values may contain it.</li>
+ * </ol>
+ * <p>
+ * The body must produce the same structure for every model: the model is only available through holes, and hole
+ * values must only be passed to the document, not otherwise inspected.  Hole functions must be free of side effects,
+ * since they may be called more than once.
+ * </p>
+ * <p>
+ * This class is thread-safe.  Programs are compiled on first use for each {@link com.aoapps.encoding.Serialization},
+ * {@link com.aoapps.encoding.Doctype}, and encoding context.  A context created per request should not be given to
+ * templates, since each would be compiled, up to the limit, and retained.
+ * </p>
+ *
+ * @param  <M>   The model providing the values of holes
+ * @param  <Ex>  An arbitrary exception type that may be thrown
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class Template<M, Ex extends Throwable> {
+
+	/**
+	 * The render body of a template.
+	 *
+	 * @param  <M>   The model providing the values of holes
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 */
+	@FunctionalInterface
+	public static interface Body<M, Ex extends Throwable> {
+		void render(Document document, Holes<M> holes) throws IOException, Ex;
+	}
+
+	/**
+	 * Provides the values of holes.  When compiling, each call returns a unique marker.  When running the body
+	 * directly, each call returns the value from the model.
+	 *
+	 * @param  <M>  The model providing the values of holes
+	 */
+	public static final class Holes<M> {
+
+		private final M model;
+
+		/**
+		 * The holes defined while compiling, or {@code null} when running directly.
+		 */
+		private final List<Hole<M>> holes;
+
+		private final String nonce;
+
+		private Holes(M model) {
+			this.model = model;
+			this.holes = null;
+			this.nonce = null;
+		}
+
+		private Holes(List<Hole<M>> holes) {
+			this.model = null;
+			this.holes = holes;
+			this.nonce = Long.toHexString(ThreadLocalRandom.current().nextLong());
+		}
+
+		private String hole(boolean attribute, Function<? super M, ? extends CharSequence> value) {
+			if(holes == null) {
+				return Hole.toString(value.apply(model));
+			} else {
+				int index = holes.size();
+				holes.add(new Hole<>(attribute, value));
+				return Hole.marker(attribute, index, nonce);
+			}
+		}
+
+		/**
+		 * A hole for text, to be given to {@link Document#text(java.lang.Object)} or the text of any element.
+		 * An {@link EncodedText} value is written without escaping again.
+		 *
+		 * @return  The value for the model, or a marker when compiling
+		 */
+		public String text(Function<? super M, ? extends CharSequence> value) {
+			return hole(false, value);
+		}
+
+		/**
+		 * A hole for an attribute value, to be given to an attribute that is written as-is.
+		 * An {@link EncodedAttributeValue} is written without escaping again.
+		 *
+		 * @return  The value for the model, or a marker when compiling
+		 */
+		public String attribute(Function<? super M, ? extends CharSequence> value) {
+			return hole(true, value);
+		}
+	}
+
+	private static final class Hole<M> {
+
+		private static final char MARK = '\uE000';
+
+		/**
+		 * Characters included in markers to verify escaping, which also distinguishes text from attribute values.
+		 */
+		private static final String ESCAPED = "&<>\"'";
+
+		private static String marker(boolean attribute, int index, String nonce) {
+			return attribute
+				? " " + MARK + 'a' + index + ':' + nonce + ESCAPED + MARK + ' '
+				: MARK + "t" + index + ':' + nonce + ESCAPED + MARK;
+		}
+
+		/**
+		 * Parses the index from the content of a marker, without the surrounding {@link #MARK}.
+		 *
+		 * @return  The index or {@code -1} when not a marker of this compilation
+		 */
+		private static int parseIndex(String marker, String nonce) {
+			int colon = marker.indexOf(':');
+			if(
+				colon < 2
+				|| (marker.charAt(0) != 'a' && marker.charAt(0) != 't')
+				|| !marker.startsWith(nonce, colon + 1)
+			) return -1;
+			int index = 0;
+			for(int i = 1; i < colon; i++) {
+				char ch = marker.charAt(i);
+				if(ch < '0' || ch > '9' || index > (Integer.MAX_VALUE - 9) / 10) return -1;
+				index = index * 10 + (ch - '0');
+			}
+			return index;
+		}
+
+		private static String toString(CharSequence value) {
+			return (value == null) ? null : value.toString();
+		}
+
+		private final boolean attribute;
+
+		private final Function<? super M, ? extends CharSequence> value;
+
+		private Hole(boolean attribute, Function<? super M, ? extends CharSequence> value) {
+			this.attribute = attribute;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * Identifies a program by the serialization, doctype, and encoding context it was compiled for.
+	 */
+	private static final class ProgramKey {
+
+		private final Fragments fragments;
+
+		private final EncodingContext encodingContext;
+
+		private ProgramKey(Fragments fragments, EncodingContext encodingContext) {
+			this.fragments = fragments;
+			this.encodingContext = encodingContext;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if(!(obj instanceof ProgramKey)) return false;
+			ProgramKey other = (ProgramKey)obj;
+			return fragments == other.fragments && encodingContext.equals(other.encodingContext);
+		}
+
+		@Override
+		public int hashCode() {
+			return fragments.hashCode() * 31 + encodingContext.hashCode();
+		}
+	}
+
+	/**
+	 * A compiled program for one serialization, doctype, and encoding context.
+	 */
+	private static final class Program<M> {
+
+		/**
+		 * The static chunks, one more than the number of holes.
+		 */
+		private final Fragment[] chunks;
+
+		/**
+		 * The holes between chunks.
+		 */
+		private final Hole<M>[] holes;
+
+		/**
+		 * The number of distinct holes, for evaluating each only once per render.
+		 */
+		private final int numHoles;
+
+		/**
+		 * The index of each hole into the values.
+		 */
+		private final int[] indexes;
+
+		private Program(Fragment[] chunks, Hole<M>[] holes, int[] indexes, int numHoles) {
+			this.chunks = chunks;
+			this.holes = holes;
+			this.indexes = indexes;
+			this.numHoles = numHoles;
+		}
+	}
+
+	private final Body<M, Ex> body;
+
+	/**
+	 * The maximum number of programs compiled per template.
+	 */
+	public static final int MAX_PROGRAMS = 16;
+
+	private final ConcurrentMap<ProgramKey, Program<M>> programs = new ConcurrentHashMap<>();
+
+	public Template(Body<M, Ex> body) {
+		this.body = body;
+	}
+
+	/**
+	 * Runs the body directly.
+	 */
+	private void renderDirect(Document document, M model) throws IOException, Ex {
+		body.render(document, new Holes<>(model));
+	}
+
+	/**
+	 * Compiles the program by recording the body.
+	 *
+	 * @throws  IllegalArgumentException  when a marker is not found as expected
+	 */
+	@SuppressWarnings("unchecked")
+	private Program<M> compile(Document document) throws IOException, Ex {
+		StringWriter recorder = new StringWriter();
+		Document recording = new Document(document.encodingContext, document.serialization, document.doctype, recorder);
+		List<Hole<M>> defined = new ArrayList<>();
+		Holes<M> markers = new Holes<>(defined);
+		body.render(recording, markers);
+		String out = recorder.toString();
+		// Expected escaping
+		StringBuilder escaped = new StringBuilder();
+		TextInXhtmlEncoder.encodeTextInXhtml(Hole.ESCAPED, escaped);
+		String textSuffix = markers.nonce + escaped;
+		escaped.setLength(0);
+		TextInXhtmlAttributeEncoder.encodeTextInXhtmlAttribute(Hole.ESCAPED, escaped);
+		String attributeSuffix = markers.nonce + escaped;
+		List<Fragment> chunks = new ArrayList<>();
+		List<Hole<M>> holes = new ArrayList<>();
+		List<Integer> indexes = new ArrayList<>();
+		int chunkStart = 0;
+		int pos = 0;
+		while(true) {
+			int start = out.indexOf(Hole.MARK, pos);
+			if(start == -1) break;
+			int end = out.indexOf(Hole.MARK, start + 1);
+			int index = (end == -1) ? -1 : Hole.parseIndex(out.substring(start + 1, end), markers.nonce);
+			if(index < 0 || index >= defined.size()) {
+				throw new IllegalArgumentException("Static content contains U+E000 at " + start + ", which is reserved for hole markers");
+			}
+			String marker = out.substring(start + 1, end);
+			char type = marker.charAt(0);
+			Hole<M> hole = defined.get(index);
+			int holeStart, holeEnd;
+			if(hole.attribute) {
+				if(
+					type != 'a'
+					|| start == 0 || out.charAt(start - 1) != ' '
+					|| end + 1 >= out.length() || out.charAt(end + 1) != ' '
+					|| !marker.endsWith(attributeSuffix)
+				) {
+					throw new IllegalArgumentException("Attribute hole #" + index + " was not written as-is; its attribute may trim, normalize, or encode values");
+				}
+				holeStart = start - 1;
+				holeEnd = end + 2;
+			} else {
+				if(type != 't' || !marker.endsWith(textSuffix)) {
+					throw new IllegalArgumentException("Text hole #" + index + " was not written as-is");
+				}
+				holeStart = start;
+				holeEnd = end + 1;
+			}
+			chunks.add(new Fragment(out.substring(chunkStart, holeStart)));
+			holes.add(hole);
+			indexes.add(index);
+			chunkStart = holeEnd;
+			pos = holeEnd;
+		}
+		chunks.add(new Fragment(out.substring(chunkStart)));
+		int[] indexArray = new int[indexes.size()];
+		for(int i = 0; i < indexArray.length; i++) indexArray[i] = indexes.get(i);
+		return new Program<>(
+			chunks.toArray(new Fragment[chunks.size()]),
+			holes.toArray(new Hole[holes.size()]),
+			indexArray,
+			defined.size()
+		);
+	}
+
+	private static void write(Document document, Fragment chunk) throws IOException {
+		if(!chunk.isEmpty()) {
+			char[] chars = chunk.getChars();
+			document.write(chunk, chars[chars.length - 1] == '\n');
+		}
+	}
+
+	/**
+	 * Renders the template for the given model.
+	 *
+	 * @return  The document
+	 *
+	 * @throws  IllegalArgumentException  when an attribute hole is on an attribute that does not write its value as-is
+	 */
+	public Document render(Document document, M model) throws IOException, Ex {
+		if(document.getIndent()) {
+			renderDirect(document, model);
+			return document;
+		}
+		ProgramKey key = new ProgramKey(document.fragments, document.encodingContext);
+		Program<M> program = programs.get(key);
+		if(program == null) {
+			if(programs.size() >= MAX_PROGRAMS) {
+				renderDirect(document, model);
+				return document;
+			}
+			program = compile(document);
+			programs.putIfAbsent(key, program);
+		}
+		// Evaluate each hole once
+		CharSequence[] values = new CharSequence[program.numHoles];
+		boolean[] evaluated = new boolean[program.numHoles];
+		Hole<M>[] holes = program.holes;
+		int[] indexes = program.indexes;
+		for(int i = 0; i < holes.length; i++) {
+			int index = indexes[i];
+			if(!evaluated[index]) {
+				Hole<M> hole = holes[i];
+				CharSequence value = hole.value.apply(model);
+				if(!(value instanceof EncodedText) && !(value instanceof EncodedAttributeValue)) value = Hole.toString(value);
+				if(hole.attribute && (value == null || value.length() == 0)) {
+					// Attribute may be omitted
+					renderDirect(document, model);
+					return document;
+				}
+				values[index] = value;
+				evaluated[index] = true;
+			}
+		}
+		Fragment[] chunks = program.chunks;
+		write(document, chunks[0]);
+		for(int i = 0; i < holes.length; i++) {
+			CharSequence value = values[indexes[i]];
+			if(holes[i].attribute) {
+				if(value instanceof EncodedAttributeValue) {
+					document.encodeAttribute((EncodedAttributeValue)value);
+				} else {
+					document.encodeAttribute(value.toString());
+				}
+			} else {
+				document.text(value);
+			}
+			write(document, chunks[i + 1]);
+		}
+		return document;
+	}
+}
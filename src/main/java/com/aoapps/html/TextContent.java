@@ -23,6 +23,9 @@
 package com.aoapps.html;
 
 import com.aoapps.html.any.AnyTextContent;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
 
 /**
  * See <a href="https://html.spec.whatwg.org/multipage/dom.html#text-content">3.2.5.2.5 Phrasing content / Text</a>.
@@ -37,4 +40,79 @@ public interface TextContent<
 > extends AnyTextContent<Document, __>,
 	Content<__> {
 
+	/**
+	 * Writes a number as text, formatting the digits directly into the output.  Digits never need escaping, so the
+	 * escaping scan is skipped.  When indenting, this is the same as {@link #text(java.lang.Object)}.
+	 *
+	 * @return  This content model
+	 */
+	default __ text(int number) throws IOException {
+		return text((long)number);
+	}
+
+	/**
+	 * Writes a number as text, formatting the digits directly into the output.  Digits never need escaping, so the
+	 * escaping scan is skipped.  When indenting, this is the same as {@link #text(java.lang.Object)}.
+	 *
+	 * @return  This content model
+	 */
+	default __ text(long number) throws IOException {
+		Document document = getDocument();
+		if(document.getIndent()) return text((Object)number);
+		Numbers.write(number, document.getNumberChars(), document.getUnsafe(false));
+		@SuppressWarnings("unchecked")
+		__ pc = (__)this;
+		return pc;
+	}
+
+	/**
+	 * Writes a number as text, formatting the digits directly into the output when possible, with the same output as
+	 * {@link Double#toString(double)}.  Numbers never need escaping, so the escaping scan is skipped.  When indenting,
+	 * this is the same as {@link #text(java.lang.Object)}.
+	 *
+	 * @return  This content model
+	 */
+	default __ text(double number) throws IOException {
+		Document document = getDocument();
+		if(document.getIndent()) return text((Object)number);
+		Numbers.write(number, document.getNumberChars(), document.getUnsafe(false));
+		@SuppressWarnings("unchecked")
+		__ pc = (__)this;
+		return pc;
+	}
+
+	/**
+	 * Writes a number as text, with the same output as {@link Float#toString(float)}.  Numbers never need escaping,
+	 * so the escaping scan is skipped.  When indenting, this is the same as {@link #text(java.lang.Object)}.
+	 * <p>
+	 * This overload keeps a {@code float} from widening to {@link #text(double)}, which would write the digits of the
+	 * nearest {@code double}.
+	 * </p>
+	 *
+	 * @return  This content model
+	 */
+	default __ text(float number) throws IOException {
+		Document document = getDocument();
+		if(document.getIndent()) return text((Object)number);
+		document.getUnsafe(false).write(Float.toString(number));
+		@SuppressWarnings("unchecked")
+		__ pc = (__)this;
+		return pc;
+	}
+
+	/**
+	 * Writes a number as text, with the same output as {@link BigDecimal#toString()}.  Numbers never need escaping,
+	 * so the escaping scan is skipped.  When indenting, this is the same as {@link #text(java.lang.Object)}.
+	 *
+	 * @return  This content model
+	 */
+	default __ text(BigDecimal number) throws IOException {
+		Document document = getDocument();
+		if(number == null || document.getIndent()) return text((Object)number);
+		Writer out = document.getUnsafe(false);
+		out.write(number.toString());
+		@SuppressWarnings("unchecked")
+		__ pc = (__)this;
+		return pc;
+	}
 }
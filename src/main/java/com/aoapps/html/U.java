@@ -38,6 +38,10 @@ final public class U<
 > extends
 	AnyU<Document, PC, U<PC>, U__<PC>, U_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private U__<PC> flyweight__;
+	private U_c<PC> flyweight_c;
+
 	U(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class U<
 
 	@Override
 	protected U__<PC> new__() {
-		return new U__<>(this);
+		if(flyweight__ == null) flyweight__ = new U__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected U_c<PC> new_c() {
-		return new U_c<>(this);
+		if(flyweight_c == null) flyweight_c = new U_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
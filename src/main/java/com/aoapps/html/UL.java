@@ -38,23 +38,47 @@ final public class UL<
 > extends
 	AnyUL<Document, PC, UL<PC>, UL__<PC>, UL_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private UL__<PC> flyweight__;
+	private UL_c<PC> flyweight_c;
+
 	UL(Document document, PC pc) {
 		super(document, pc);
 	}
 
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 *
+	 * @see  Document#setEncodingCache(com.aoapps.html.EncodingCache)
+	 */
+	public UL<PC> clazz(String clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
+	/**
+	 * See <a href="https://html.spec.whatwg.org/multipage/dom.html#classes">3.2.6 Global attributes: class</a>.
+	 */
+	public UL<PC> clazz(EncodedAttributeValue clazz) throws IOException {
+		document.writeAttribute(" class=\"", clazz);
+		return this;
+	}
+
 	// Expose to this package, avoiding public to keep a clean API for optimal code assist
 	@Override
 	protected UL<PC> writeOpen(Writer out) throws IOException {
-		return super.writeOpen(out);
+		return document.writeOpen(Tag.UL, out) ? this : super.writeOpen(out);
 	}
 
 	@Override
 	protected UL__<PC> new__() {
-		return new UL__<>(this);
+		if(flyweight__ == null) flyweight__ = new UL__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected UL_c<PC> new_c() {
-		return new UL_c<>(this);
+		if(flyweight_c == null) flyweight_c = new UL_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
@@ -49,7 +49,19 @@ public interface Union_DATALIST_OPTGROUP<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new OPTION<>(document, pc).writeOpen(document.getUnsafe(null));
+		OPTION<__> option = document.getFlyweight(OPTION.class, pc);
+		if(option == null) option = document.putFlyweight(new OPTION<>(document, pc));
+		return option.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ option__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.OPTION, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return option().__(text);
 	}
 	// </editor-fold>
 }
@@ -50,7 +50,19 @@ public interface Union_DIV_DL<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new DD<>(document, pc).writeOpen(document.getUnsafe(null));
+		DD<__> dd = document.getFlyweight(DD.class, pc);
+		if(dd == null) dd = document.putFlyweight(new DD<>(document, pc));
+		return dd.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ dd__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.DD, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return dd().__(text);
 	}
 
 	/**
@@ -67,6 +79,21 @@ public interface Union_DIV_DL<
 		return dd().__(dd);
 	}
 
+	/**
+	 * Creates a dd element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/grouping-content.html#the-dd-element">4.4.11 The dd element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ dd__(C context, ContextConsumerE<? super DD__<__>, ? super C, Ex> dd) throws IOException, Ex {
+		return dd().__(getDocument().withContext(dd, context));
+	}
+
 	@Override
 	default DD_c<__> dd_c() throws IOException {
 		return dd()._c();
@@ -78,7 +105,19 @@ public interface Union_DIV_DL<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new DT<>(document, pc).writeOpen(document.getUnsafe(null));
+		DT<__> dt = document.getFlyweight(DT.class, pc);
+		if(dt == null) dt = document.putFlyweight(new DT<>(document, pc));
+		return dt.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ dt__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.DT, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return dt().__(text);
 	}
 
 	/**
@@ -95,6 +134,21 @@ public interface Union_DIV_DL<
 		return dt().__(dt);
 	}
 
+	/**
+	 * Creates a dt element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/grouping-content.html#the-dt-element">4.4.10 The dt element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ dt__(C context, ContextConsumerE<? super DT__<__>, ? super C, Ex> dt) throws IOException, Ex {
+		return dt().__(getDocument().withContext(dt, context));
+	}
+
 	@Override
 	default DT_c<__> dt_c() throws IOException {
 		return dt()._c();
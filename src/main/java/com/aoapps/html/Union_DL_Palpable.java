@@ -50,7 +50,19 @@ public interface Union_DL_Palpable<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new DIV<>(document, pc).writeOpen(document.getUnsafe(null));
+		DIV<__> div = document.getFlyweight(DIV.class, pc);
+		if(div == null) div = document.putFlyweight(new DIV<>(document, pc));
+		return div.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ div__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.DIV, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return div().__(text);
 	}
 
 	/**
@@ -67,6 +79,21 @@ public interface Union_DL_Palpable<
 		return div().__(div);
 	}
 
+	/**
+	 * Creates a div element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/grouping-content.html#the-div-element">4.4.15 The div element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ div__(C context, ContextConsumerE<? super DIV__<__>, ? super C, Ex> div) throws IOException, Ex {
+		return div().__(getDocument().withContext(div, context));
+	}
+
 	@Override
 	default DIV_c<__> div_c() throws IOException {
 		return div()._c();
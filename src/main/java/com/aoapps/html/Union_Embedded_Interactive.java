@@ -58,7 +58,9 @@ public interface Union_Embedded_Interactive<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new IMG<>(document, pc).writeOpen(document.getUnsafe(null));
+		IMG<__> img = document.getFlyweight(IMG.class, pc);
+		if(img == null) img = document.putFlyweight(new IMG<>(document, pc));
+		return img.writeOpen(document.getUnsafe(null));
 	}
 
 	@Override
@@ -80,7 +82,9 @@ public interface Union_Embedded_Interactive<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new OBJECT<>(document, pc).writeOpen(document.getUnsafe(null));
+		OBJECT<__> object = document.getFlyweight(OBJECT.class, pc);
+		if(object == null) object = document.putFlyweight(new OBJECT<>(document, pc));
+		return object.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -109,6 +113,33 @@ public interface Union_Embedded_Interactive<
 		return object().__(object);
 	}
 
+	/**
+	 * Creates an object element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/iframe-embed-object.html#the-object-element">4.8.7 The object element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 * @param  object  The content model of this element, which will be the parent content model of child elements.
+	 *                 <p>
+	 *                 Due to limitations in Java generics, this content model does not directly reflect the parent content
+	 *                 model, despite this being a transparent content model.  Rather, it includes only the content model that
+	 *                 always applies to this element type.
+	 *                 </p>
+	 *                 <p><em>
+	 *                 For the full, context-aware content model, which will likely include more elements,
+	 *                 {@linkplain AnyOBJECT__#pc() use the parent content model directly}.
+	 *                 </em></p>
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 *
+	 * @see  AnyOBJECT__#pc()
+	 */
+	default <C, Ex extends Throwable> __ object__(C context, ContextConsumerE<? super OBJECT__<__>, ? super C, Ex> object) throws IOException, Ex {
+		return object().__(getDocument().withContext(object, context));
+	}
+
 	@Override
 	default OBJECT_c<__> object_c() throws IOException {
 		return object()._c();
@@ -57,7 +57,9 @@ public interface Union_Interactive_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new A<>(document, pc).writeOpen(document.getUnsafe(null));
+		A<__> a = document.getFlyweight(A.class, pc);
+		if(a == null) a = document.putFlyweight(new A<>(document, pc));
+		return a.writeOpen(document.getUnsafe(null));
 	}
 
 	@Override
@@ -102,6 +104,17 @@ public interface Union_Interactive_Phrasing<
 			super(document, pc);
 		}
 
+		/**
+		 * Is this the factory for the given document and parent content model?
+		 */
+		boolean isFor(Document document, Object pc) {
+			return this.document == document && this.pc == pc;
+		}
+
+		/**
+		 * Unlike the inputs of a specific type, dynamic inputs are not reused, since the type is given to each
+		 * instance when created and may differ between consecutive inputs.
+		 */
 		@Override
 		public INPUT.Dynamic<__> dynamic() throws IOException {
 			return new INPUT.Dynamic<>(document, pc).writeOpen(document.getUnsafe(null));
@@ -135,112 +148,156 @@ public interface Union_Interactive_Phrasing<
 
 		@Override
 		public INPUT.Button<__> button() throws IOException {
-			return new INPUT.Button<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.Button<__> input = document.getFlyweight(INPUT.Button.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.Button<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.Checkbox<__> checkbox() throws IOException {
-			return new INPUT.Checkbox<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.Checkbox<__> input = document.getFlyweight(INPUT.Checkbox.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.Checkbox<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.Color<__> color() throws IOException {
-			return new INPUT.Color<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.Color<__> input = document.getFlyweight(INPUT.Color.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.Color<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.Date<__> date() throws IOException {
-			return new INPUT.Date<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.Date<__> input = document.getFlyweight(INPUT.Date.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.Date<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.DatetimeLocal<__> datetimeLocal() throws IOException {
-			return new INPUT.DatetimeLocal<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.DatetimeLocal<__> input = document.getFlyweight(INPUT.DatetimeLocal.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.DatetimeLocal<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.Email<__> email() throws IOException {
-			return new INPUT.Email<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.Email<__> input = document.getFlyweight(INPUT.Email.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.Email<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.File<__> file() throws IOException {
-			return new INPUT.File<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.File<__> input = document.getFlyweight(INPUT.File.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.File<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.Hidden<__> hidden() throws IOException {
-			return new INPUT.Hidden<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.Hidden<__> input = document.getFlyweight(INPUT.Hidden.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.Hidden<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.Image<__> image() throws IOException {
-			return new INPUT.Image<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.Image<__> input = document.getFlyweight(INPUT.Image.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.Image<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.Month<__> month() throws IOException {
-			return new INPUT.Month<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.Month<__> input = document.getFlyweight(INPUT.Month.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.Month<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.Number<__> number() throws IOException {
-			return new INPUT.Number<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.Number<__> input = document.getFlyweight(INPUT.Number.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.Number<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.Password<__> password() throws IOException {
-			return new INPUT.Password<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.Password<__> input = document.getFlyweight(INPUT.Password.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.Password<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.Radio<__> radio() throws IOException {
-			return new INPUT.Radio<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.Radio<__> input = document.getFlyweight(INPUT.Radio.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.Radio<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.Range<__> range() throws IOException {
-			return new INPUT.Range<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.Range<__> input = document.getFlyweight(INPUT.Range.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.Range<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.Reset<__> reset() throws IOException {
-			return new INPUT.Reset<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.Reset<__> input = document.getFlyweight(INPUT.Reset.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.Reset<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.Search<__> search() throws IOException {
-			return new INPUT.Search<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.Search<__> input = document.getFlyweight(INPUT.Search.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.Search<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.Submit<__> submit() throws IOException {
-			return new INPUT.Submit<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.Submit<__> input = document.getFlyweight(INPUT.Submit.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.Submit<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.Tel<__> tel() throws IOException {
-			return new INPUT.Tel<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.Tel<__> input = document.getFlyweight(INPUT.Tel.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.Tel<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.Text<__> text() throws IOException {
-			return new INPUT.Text<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.Text<__> input = document.getFlyweight(INPUT.Text.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.Text<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.Time<__> time() throws IOException {
-			return new INPUT.Time<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.Time<__> input = document.getFlyweight(INPUT.Time.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.Time<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.Url<__> url() throws IOException {
-			return new INPUT.Url<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.Url<__> input = document.getFlyweight(INPUT.Url.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.Url<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 
 		@Override
 		public INPUT.Week<__> week() throws IOException {
-			return new INPUT.Week<>(document, pc).writeOpen(document.getUnsafe(null));
+			INPUT.Week<__> input = document.getFlyweight(INPUT.Week.class, pc);
+			if(input == null) input = document.putFlyweight(new INPUT.Week<>(document, pc));
+			return input.writeOpen(document.getUnsafe(null));
 		}
 	}
 
@@ -248,7 +305,7 @@ public interface Union_Interactive_Phrasing<
 	default InputFactory<__> input() {
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
-		return new InputFactory<>(getDocument(), pc);
+		return getDocument().getInputFactory(pc);
 	}
 	// </editor-fold>
 	// Inherited: IFRAME
@@ -259,7 +316,9 @@ public interface Union_Interactive_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new LABEL<>(document, pc).writeOpen(document.getUnsafe(null));
+		LABEL<__> label = document.getFlyweight(LABEL.class, pc);
+		if(label == null) label = document.putFlyweight(new LABEL<>(document, pc));
+		return label.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -276,6 +335,21 @@ public interface Union_Interactive_Phrasing<
 		return label().__(label);
 	}
 
+	/**
+	 * Creates a label element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/forms.html#the-label-element">4.10.4 The label element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ label__(C context, ContextConsumerE<? super LABEL__<__>, ? super C, Ex> label) throws IOException, Ex {
+		return label().__(getDocument().withContext(label, context));
+	}
+
 	@Override
 	default LABEL_c<__> label_c() throws IOException {
 		return label()._c();
@@ -288,7 +362,9 @@ public interface Union_Interactive_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new SELECT<>(document, pc).writeOpen(document.getUnsafe(null));
+		SELECT<__> select = document.getFlyweight(SELECT.class, pc);
+		if(select == null) select = document.putFlyweight(new SELECT<>(document, pc));
+		return select.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -305,6 +381,21 @@ public interface Union_Interactive_Phrasing<
 		return select().__(select);
 	}
 
+	/**
+	 * Creates a select element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#the-select-element">4.10.7 The select element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ select__(C context, ContextConsumerE<? super SELECT__<__>, ? super C, Ex> select) throws IOException, Ex {
+		return select().__(getDocument().withContext(select, context));
+	}
+
 	@Override
 	default SELECT_c<__> select_c() throws IOException {
 		return select()._c();
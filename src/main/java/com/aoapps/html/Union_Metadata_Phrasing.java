@@ -57,7 +57,9 @@ public interface Union_Metadata_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new LINK<>(document, pc).writeOpen(document.getUnsafe(null));
+		LINK<__> link = document.getFlyweight(LINK.class, pc);
+		if(link == null) link = document.putFlyweight(new LINK<>(document, pc));
+		return link.writeOpen(document.getUnsafe(null));
 	}
 
 	@Override
@@ -72,7 +74,9 @@ public interface Union_Metadata_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new META<>(document, pc).writeOpen(document.getUnsafe(null));
+		META<__> meta = document.getFlyweight(META.class, pc);
+		if(meta == null) meta = document.putFlyweight(new META<>(document, pc));
+		return meta.writeOpen(document.getUnsafe(null));
 	}
 
 	@Override
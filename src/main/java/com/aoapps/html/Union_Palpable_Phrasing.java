@@ -62,7 +62,19 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new ABBR<>(document, pc).writeOpen(document.getUnsafe(null));
+		ABBR<__> abbr = document.getFlyweight(ABBR.class, pc);
+		if(abbr == null) abbr = document.putFlyweight(new ABBR<>(document, pc));
+		return abbr.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ abbr__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.ABBR, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return abbr().__(text);
 	}
 
 	/**
@@ -79,6 +91,21 @@ public interface Union_Palpable_Phrasing<
 		return abbr().__(abbr);
 	}
 
+	/**
+	 * Creates an abbr element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-abbr-element">4.5.9 The abbr element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ abbr__(C context, ContextConsumerE<? super ABBR__<__>, ? super C, Ex> abbr) throws IOException, Ex {
+		return abbr().__(getDocument().withContext(abbr, context));
+	}
+
 	@Override
 	default ABBR_c<__> abbr_c() throws IOException {
 		return abbr()._c();
@@ -91,7 +118,19 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new B<>(document, pc).writeOpen(document.getUnsafe(null));
+		B<__> b = document.getFlyweight(B.class, pc);
+		if(b == null) b = document.putFlyweight(new B<>(document, pc));
+		return b.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ b__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.B, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return b().__(text);
 	}
 
 	/**
@@ -108,6 +147,21 @@ public interface Union_Palpable_Phrasing<
 		return b().__(b);
 	}
 
+	/**
+	 * Creates a b element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-b-element">4.5.21 The b element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ b__(C context, ContextConsumerE<? super B__<__>, ? super C, Ex> b) throws IOException, Ex {
+		return b().__(getDocument().withContext(b, context));
+	}
+
 	@Override
 	default B_c<__> b_c() throws IOException {
 		return b()._c();
@@ -119,7 +173,19 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new BDI<>(document, pc).writeOpen(document.getUnsafe(null));
+		BDI<__> bdi = document.getFlyweight(BDI.class, pc);
+		if(bdi == null) bdi = document.putFlyweight(new BDI<>(document, pc));
+		return bdi.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ bdi__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.BDI, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return bdi().__(text);
 	}
 
 	/**
@@ -136,6 +202,21 @@ public interface Union_Palpable_Phrasing<
 		return bdi().__(bdi);
 	}
 
+	/**
+	 * Creates a bdi element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-bdi-element">4.5.24 The bdi element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ bdi__(C context, ContextConsumerE<? super BDI__<__>, ? super C, Ex> bdi) throws IOException, Ex {
+		return bdi().__(getDocument().withContext(bdi, context));
+	}
+
 	@Override
 	default BDI_c<__> bdi_c() throws IOException {
 		return bdi()._c();
@@ -147,7 +228,9 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new BDO<>(document, pc).writeOpen(document.getUnsafe(null));
+		BDO<__> bdo = document.getFlyweight(BDO.class, pc);
+		if(bdo == null) bdo = document.putFlyweight(new BDO<>(document, pc));
+		return bdo.writeOpen(document.getUnsafe(null));
 	}
 
 	@Override
@@ -191,6 +274,22 @@ public interface Union_Palpable_Phrasing<
 		return bdo(dir).__(bdo);
 	}
 
+	/**
+	 * Creates a bdo element with the given dir attribute and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-bdo-element">4.5.25 The bdo element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 * @param  dir  <em>The <code>auto</code> value must not be specified.</em>
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ bdo__(Dir.Value dir, C context, ContextConsumerE<? super BDO__<__>, ? super C, Ex> bdo) throws IOException, Ex {
+		return bdo(dir).__(getDocument().withContext(bdo, context));
+	}
+
 	@Override
 	default BDO_c<__> bdo_c(Dir.Value dir) throws IOException {
 		return bdo(dir)._c();
@@ -204,7 +303,19 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new CITE<>(document, pc).writeOpen(document.getUnsafe(null));
+		CITE<__> cite = document.getFlyweight(CITE.class, pc);
+		if(cite == null) cite = document.putFlyweight(new CITE<>(document, pc));
+		return cite.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ cite__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.CITE, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return cite().__(text);
 	}
 
 	/**
@@ -221,6 +332,21 @@ public interface Union_Palpable_Phrasing<
 		return cite().__(cite);
 	}
 
+	/**
+	 * Creates a cite element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-cite-element">4.5.6 The cite element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ cite__(C context, ContextConsumerE<? super CITE__<__>, ? super C, Ex> cite) throws IOException, Ex {
+		return cite().__(getDocument().withContext(cite, context));
+	}
+
 	@Override
 	default CITE_c<__> cite_c() throws IOException {
 		return cite()._c();
@@ -232,7 +358,19 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new CODE<>(document, pc).writeOpen(document.getUnsafe(null));
+		CODE<__> code = document.getFlyweight(CODE.class, pc);
+		if(code == null) code = document.putFlyweight(new CODE<>(document, pc));
+		return code.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ code__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.CODE, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return code().__(text);
 	}
 
 	/**
@@ -249,6 +387,21 @@ public interface Union_Palpable_Phrasing<
 		return code().__(code);
 	}
 
+	/**
+	 * Creates a code element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-code-element">4.5.15 The code element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ code__(C context, ContextConsumerE<? super CODE__<__>, ? super C, Ex> code) throws IOException, Ex {
+		return code().__(getDocument().withContext(code, context));
+	}
+
 	@Override
 	default CODE_c<__> code_c() throws IOException {
 		return code()._c();
@@ -260,7 +413,9 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new DATA<>(document, pc).writeOpen(document.getUnsafe(null));
+		DATA<__> data = document.getFlyweight(DATA.class, pc);
+		if(data == null) data = document.putFlyweight(new DATA<>(document, pc));
+		return data.writeOpen(document.getUnsafe(null));
 	}
 
 	@Override
@@ -290,6 +445,21 @@ public interface Union_Palpable_Phrasing<
 		return data(value).__(data);
 	}
 
+	/**
+	 * Creates a data element with the given value and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-data-element">4.5.13 The data element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ data__(Object value, C context, ContextConsumerE<? super DATA__<__>, ? super C, Ex> data) throws IOException, Ex {
+		return data(value).__(getDocument().withContext(data, context));
+	}
+
 	@Override
 	default DATA_c<__> data_c(Object value) throws IOException {
 		return data(value)._c();
@@ -301,7 +471,19 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new DFN<>(document, pc).writeOpen(document.getUnsafe(null));
+		DFN<__> dfn = document.getFlyweight(DFN.class, pc);
+		if(dfn == null) dfn = document.putFlyweight(new DFN<>(document, pc));
+		return dfn.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ dfn__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.DFN, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return dfn().__(text);
 	}
 
 	/**
@@ -318,6 +500,21 @@ public interface Union_Palpable_Phrasing<
 		return dfn().__(dfn);
 	}
 
+	/**
+	 * Creates a dfn element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-dfn-element">4.5.8 The dfn element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ dfn__(C context, ContextConsumerE<? super DFN__<__>, ? super C, Ex> dfn) throws IOException, Ex {
+		return dfn().__(getDocument().withContext(dfn, context));
+	}
+
 	@Override
 	default DFN_c<__> dfn_c() throws IOException {
 		return dfn()._c();
@@ -329,7 +526,19 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new EM<>(document, pc).writeOpen(document.getUnsafe(null));
+		EM<__> em = document.getFlyweight(EM.class, pc);
+		if(em == null) em = document.putFlyweight(new EM<>(document, pc));
+		return em.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ em__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.EM, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return em().__(text);
 	}
 
 	/**
@@ -346,6 +555,21 @@ public interface Union_Palpable_Phrasing<
 		return em().__(em);
 	}
 
+	/**
+	 * Creates an em element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-em-element">4.5.2 The em element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ em__(C context, ContextConsumerE<? super EM__<__>, ? super C, Ex> em) throws IOException, Ex {
+		return em().__(getDocument().withContext(em, context));
+	}
+
 	@Override
 	default EM_c<__> em_c() throws IOException {
 		return em()._c();
@@ -358,7 +582,19 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new I<>(document, pc).writeOpen(document.getUnsafe(null));
+		I<__> i = document.getFlyweight(I.class, pc);
+		if(i == null) i = document.putFlyweight(new I<>(document, pc));
+		return i.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ i__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.I, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return i().__(text);
 	}
 
 	/**
@@ -375,6 +611,21 @@ public interface Union_Palpable_Phrasing<
 		return i().__(i);
 	}
 
+	/**
+	 * Creates an i element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-i-element">4.5.20 The i element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ i__(C context, ContextConsumerE<? super I__<__>, ? super C, Ex> i) throws IOException, Ex {
+		return i().__(getDocument().withContext(i, context));
+	}
+
 	@Override
 	default I_c<__> i_c() throws IOException {
 		return i()._c();
@@ -389,7 +640,9 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new INS<>(document, pc).writeOpen(document.getUnsafe(null));
+		INS<__> ins = document.getFlyweight(INS.class, pc);
+		if(ins == null) ins = document.putFlyweight(new INS<>(document, pc));
+		return ins.writeOpen(document.getUnsafe(null));
 	}
 
 	@Override
@@ -403,7 +656,19 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new KBD<>(document, pc).writeOpen(document.getUnsafe(null));
+		KBD<__> kbd = document.getFlyweight(KBD.class, pc);
+		if(kbd == null) kbd = document.putFlyweight(new KBD<>(document, pc));
+		return kbd.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ kbd__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.KBD, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return kbd().__(text);
 	}
 
 	/**
@@ -420,6 +685,21 @@ public interface Union_Palpable_Phrasing<
 		return kbd().__(kbd);
 	}
 
+	/**
+	 * Creates a kbd element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-kbd-element">4.5.18 The kbd element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ kbd__(C context, ContextConsumerE<? super KBD__<__>, ? super C, Ex> kbd) throws IOException, Ex {
+		return kbd().__(getDocument().withContext(kbd, context));
+	}
+
 	@Override
 	default KBD_c<__> kbd_c() throws IOException {
 		return kbd()._c();
@@ -432,7 +712,9 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new MAP<>(document, pc).writeOpen(document.getUnsafe(null));
+		MAP<__> map = document.getFlyweight(MAP.class, pc);
+		if(map == null) map = document.putFlyweight(new MAP<>(document, pc));
+		return map.writeOpen(document.getUnsafe(null));
 	}
 
 	@Override
@@ -459,7 +741,19 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new MARK<>(document, pc).writeOpen(document.getUnsafe(null));
+		MARK<__> mark = document.getFlyweight(MARK.class, pc);
+		if(mark == null) mark = document.putFlyweight(new MARK<>(document, pc));
+		return mark.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ mark__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.MARK, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return mark().__(text);
 	}
 
 	/**
@@ -476,6 +770,21 @@ public interface Union_Palpable_Phrasing<
 		return mark().__(mark);
 	}
 
+	/**
+	 * Creates a mark element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-mark-element">4.5.23 The mark element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ mark__(C context, ContextConsumerE<? super MARK__<__>, ? super C, Ex> mark) throws IOException, Ex {
+		return mark().__(getDocument().withContext(mark, context));
+	}
+
 	@Override
 	default MARK_c<__> mark_c() throws IOException {
 		return mark()._c();
@@ -488,7 +797,9 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new METER<>(document, pc).writeOpen(document.getUnsafe(null));
+		METER<__> meter = document.getFlyweight(METER.class, pc);
+		if(meter == null) meter = document.putFlyweight(new METER<>(document, pc));
+		return meter.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -505,6 +816,21 @@ public interface Union_Palpable_Phrasing<
 		return meter().__(meter);
 	}
 
+	/**
+	 * Creates a meter element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#the-meter-element">4.10.14 The meter element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ meter__(C context, ContextConsumerE<? super METER__<__>, ? super C, Ex> meter) throws IOException, Ex {
+		return meter().__(getDocument().withContext(meter, context));
+	}
+
 	@Override
 	default METER_c<__> meter_c() throws IOException {
 		return meter()._c();
@@ -517,7 +843,9 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new OUTPUT<>(document, pc).writeOpen(document.getUnsafe(null));
+		OUTPUT<__> output = document.getFlyweight(OUTPUT.class, pc);
+		if(output == null) output = document.putFlyweight(new OUTPUT<>(document, pc));
+		return output.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -534,6 +862,21 @@ public interface Union_Palpable_Phrasing<
 		return output().__(output);
 	}
 
+	/**
+	 * Creates an output element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#the-output-element">4.10.12 The output element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ output__(C context, ContextConsumerE<? super OUTPUT__<__>, ? super C, Ex> output) throws IOException, Ex {
+		return output().__(getDocument().withContext(output, context));
+	}
+
 	@Override
 	default OUTPUT_c<__> output_c() throws IOException {
 		return output()._c();
@@ -545,7 +888,9 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new PROGRESS<>(document, pc).writeOpen(document.getUnsafe(null));
+		PROGRESS<__> progress = document.getFlyweight(PROGRESS.class, pc);
+		if(progress == null) progress = document.putFlyweight(new PROGRESS<>(document, pc));
+		return progress.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -562,6 +907,21 @@ public interface Union_Palpable_Phrasing<
 		return progress().__(progress);
 	}
 
+	/**
+	 * Creates a progress element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/form-elements.html#the-progress-element">4.10.13 The progress element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ progress__(C context, ContextConsumerE<? super PROGRESS__<__>, ? super C, Ex> progress) throws IOException, Ex {
+		return progress().__(getDocument().withContext(progress, context));
+	}
+
 	@Override
 	default PROGRESS_c<__> progress_c() throws IOException {
 		return progress()._c();
@@ -573,7 +933,19 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new Q<>(document, pc).writeOpen(document.getUnsafe(null));
+		Q<__> q = document.getFlyweight(Q.class, pc);
+		if(q == null) q = document.putFlyweight(new Q<>(document, pc));
+		return q.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ q__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.Q, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return q().__(text);
 	}
 
 	/**
@@ -591,6 +963,22 @@ public interface Union_Palpable_Phrasing<
 		return q().__(q);
 	}
 
+	/**
+	 * Creates a q element with no attributes and the given body, which is given the context.
+	 * <ul>
+	 * <li>See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-q-element">4.5.7 The q element</a>.</li>
+	 * <li>See <a href="https://developer.mozilla.org/en-US/docs/Web/HTML/Element/q">&lt;q&gt;: The Inline Quotation element</a>.</li>
+	 * </ul>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ q__(C context, ContextConsumerE<? super Q__<__>, ? super C, Ex> q) throws IOException, Ex {
+		return q().__(getDocument().withContext(q, context));
+	}
+
 	@Override
 	default Q_c<__> q_c() throws IOException {
 		return q()._c();
@@ -604,7 +992,19 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new S<>(document, pc).writeOpen(document.getUnsafe(null));
+		S<__> s = document.getFlyweight(S.class, pc);
+		if(s == null) s = document.putFlyweight(new S<>(document, pc));
+		return s.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ s__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.S, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return s().__(text);
 	}
 
 	/**
@@ -621,6 +1021,21 @@ public interface Union_Palpable_Phrasing<
 		return s().__(s);
 	}
 
+	/**
+	 * Creates a s element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-s-element">4.5.5 The s element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ s__(C context, ContextConsumerE<? super S__<__>, ? super C, Ex> s) throws IOException, Ex {
+		return s().__(getDocument().withContext(s, context));
+	}
+
 	@Override
 	default S_c<__> s_c() throws IOException {
 		return s()._c();
@@ -632,7 +1047,19 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new SAMP<>(document, pc).writeOpen(document.getUnsafe(null));
+		SAMP<__> samp = document.getFlyweight(SAMP.class, pc);
+		if(samp == null) samp = document.putFlyweight(new SAMP<>(document, pc));
+		return samp.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ samp__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.SAMP, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return samp().__(text);
 	}
 
 	/**
@@ -649,6 +1076,21 @@ public interface Union_Palpable_Phrasing<
 		return samp().__(samp);
 	}
 
+	/**
+	 * Creates a samp element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-samp-element">4.5.17 The samp element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ samp__(C context, ContextConsumerE<? super SAMP__<__>, ? super C, Ex> samp) throws IOException, Ex {
+		return samp().__(getDocument().withContext(samp, context));
+	}
+
 	@Override
 	default SAMP_c<__> samp_c() throws IOException {
 		return samp()._c();
@@ -661,7 +1103,19 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new SMALL<>(document, pc).writeOpen(document.getUnsafe(null));
+		SMALL<__> small = document.getFlyweight(SMALL.class, pc);
+		if(small == null) small = document.putFlyweight(new SMALL<>(document, pc));
+		return small.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ small__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.SMALL, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return small().__(text);
 	}
 
 	/**
@@ -678,6 +1132,21 @@ public interface Union_Palpable_Phrasing<
 		return small().__(small);
 	}
 
+	/**
+	 * Creates a small element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-small-element">4.5.4 The small element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ small__(C context, ContextConsumerE<? super SMALL__<__>, ? super C, Ex> small) throws IOException, Ex {
+		return small().__(getDocument().withContext(small, context));
+	}
+
 	@Override
 	default SMALL_c<__> small_c() throws IOException {
 		return small()._c();
@@ -689,7 +1158,19 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new SPAN<>(document, pc).writeOpen(document.getUnsafe(null));
+		SPAN<__> span = document.getFlyweight(SPAN.class, pc);
+		if(span == null) span = document.putFlyweight(new SPAN<>(document, pc));
+		return span.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ span__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.SPAN, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return span().__(text);
 	}
 
 	/**
@@ -706,6 +1187,21 @@ public interface Union_Palpable_Phrasing<
 		return span().__(span);
 	}
 
+	/**
+	 * Creates a span element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-span-element">4.5.26 The span element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ span__(C context, ContextConsumerE<? super SPAN__<__>, ? super C, Ex> span) throws IOException, Ex {
+		return span().__(getDocument().withContext(span, context));
+	}
+
 	@Override
 	default SPAN_c<__> span_c() throws IOException {
 		return span()._c();
@@ -717,7 +1213,19 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new STRONG<>(document, pc).writeOpen(document.getUnsafe(null));
+		STRONG<__> strong = document.getFlyweight(STRONG.class, pc);
+		if(strong == null) strong = document.putFlyweight(new STRONG<>(document, pc));
+		return strong.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ strong__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.STRONG, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return strong().__(text);
 	}
 
 	/**
@@ -734,6 +1242,21 @@ public interface Union_Palpable_Phrasing<
 		return strong().__(strong);
 	}
 
+	/**
+	 * Creates a strong element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-strong-element">4.5.3 The strong element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ strong__(C context, ContextConsumerE<? super STRONG__<__>, ? super C, Ex> strong) throws IOException, Ex {
+		return strong().__(getDocument().withContext(strong, context));
+	}
+
 	@Override
 	default STRONG_c<__> strong_c() throws IOException {
 		return strong()._c();
@@ -745,7 +1268,19 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new SUB<>(document, pc).writeOpen(document.getUnsafe(null));
+		SUB<__> sub = document.getFlyweight(SUB.class, pc);
+		if(sub == null) sub = document.putFlyweight(new SUB<>(document, pc));
+		return sub.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ sub__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.SUB, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return sub().__(text);
 	}
 
 	/**
@@ -762,6 +1297,21 @@ public interface Union_Palpable_Phrasing<
 		return sub().__(sub);
 	}
 
+	/**
+	 * Creates a sub element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-sub-and-sup-elements">4.5.19 The sub and sup elements</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ sub__(C context, ContextConsumerE<? super SUB__<__>, ? super C, Ex> sub) throws IOException, Ex {
+		return sub().__(getDocument().withContext(sub, context));
+	}
+
 	@Override
 	default SUB_c<__> sub_c() throws IOException {
 		return sub()._c();
@@ -773,7 +1323,19 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new SUP<>(document, pc).writeOpen(document.getUnsafe(null));
+		SUP<__> sup = document.getFlyweight(SUP.class, pc);
+		if(sup == null) sup = document.putFlyweight(new SUP<>(document, pc));
+		return sup.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ sup__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.SUP, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return sup().__(text);
 	}
 
 	/**
@@ -790,6 +1352,21 @@ public interface Union_Palpable_Phrasing<
 		return sup().__(sup);
 	}
 
+	/**
+	 * Creates a sup element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-sub-and-sup-elements">4.5.19 The sub and sup elements</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ sup__(C context, ContextConsumerE<? super SUP__<__>, ? super C, Ex> sup) throws IOException, Ex {
+		return sup().__(getDocument().withContext(sup, context));
+	}
+
 	@Override
 	default SUP_c<__> sup_c() throws IOException {
 		return sup()._c();
@@ -805,7 +1382,19 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new U<>(document, pc).writeOpen(document.getUnsafe(null));
+		U<__> u = document.getFlyweight(U.class, pc);
+		if(u == null) u = document.putFlyweight(new U<>(document, pc));
+		return u.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ u__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.U, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return u().__(text);
 	}
 
 	/**
@@ -822,6 +1411,21 @@ public interface Union_Palpable_Phrasing<
 		return u().__(u);
 	}
 
+	/**
+	 * Creates a u element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-u-element">4.5.22 The u element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ u__(C context, ContextConsumerE<? super U__<__>, ? super C, Ex> u) throws IOException, Ex {
+		return u().__(getDocument().withContext(u, context));
+	}
+
 	@Override
 	default U_c<__> u_c() throws IOException {
 		return u()._c();
@@ -833,7 +1437,19 @@ public interface Union_Palpable_Phrasing<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new VAR<>(document, pc).writeOpen(document.getUnsafe(null));
+		VAR<__> var = document.getFlyweight(VAR.class, pc);
+		if(var == null) var = document.putFlyweight(new VAR<>(document, pc));
+		return var.writeOpen(document.getUnsafe(null));
+	}
+
+	@Override
+	default __ var__(Object text) throws IOException {
+		if(getDocument().writeLeaf(Tag.VAR, text)) {
+			@SuppressWarnings("unchecked")
+			__ pc = (__)this;
+			return pc;
+		}
+		return var().__(text);
 	}
 
 	/**
@@ -850,6 +1466,21 @@ public interface Union_Palpable_Phrasing<
 		return var().__(var);
 	}
 
+	/**
+	 * Creates a var element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/text-level-semantics.html#the-var-element">4.5.16 The var element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ var__(C context, ContextConsumerE<? super VAR__<__>, ? super C, Ex> var) throws IOException, Ex {
+		return var().__(getDocument().withContext(var, context));
+	}
+
 	@Override
 	default VAR_c<__> var_c() throws IOException {
 		return var()._c();
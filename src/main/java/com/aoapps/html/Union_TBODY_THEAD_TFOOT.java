@@ -25,6 +25,7 @@ package com.aoapps.html;
 import com.aoapps.html.any.AnyUnion_TBODY_THEAD_TFOOT;
 import com.aoapps.lang.io.function.IOConsumerE;
 import java.io.IOException;
+import java.util.stream.Stream;
 
 /**
  * Elements that are common to all three of {@link TBODY}, {@link THEAD}, and {@link TFOOT}.
@@ -61,7 +62,9 @@ public interface Union_TBODY_THEAD_TFOOT<
 		@SuppressWarnings("unchecked")
 		__ pc = (__)this;
 		Document document = getDocument();
-		return new TR<>(document, pc).writeOpen(document.getUnsafe(null));
+		TR<__> tr = document.getFlyweight(TR.class, pc);
+		if(tr == null) tr = document.putFlyweight(new TR<>(document, pc));
+		return tr.writeOpen(document.getUnsafe(null));
 	}
 
 	/**
@@ -78,11 +81,67 @@ public interface Union_TBODY_THEAD_TFOOT<
 		return tr().__(tr);
 	}
 
+	/**
+	 * Creates a tr element with no attributes and the given body, which is given the context.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/tables.html#the-tr-element">4.9.8 The tr element</a>.
+	 * </p>
+	 *
+	 * @param  <C>   The type of context
+	 * @param  <Ex>  An arbitrary exception type that may be thrown
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 */
+	default <C, Ex extends Throwable> __ tr__(C context, ContextConsumerE<? super TR__<__>, ? super C, Ex> tr) throws IOException, Ex {
+		return tr().__(getDocument().withContext(tr, context));
+	}
+
 	@Override
 	default TR_c<__> tr_c() throws IOException {
 		return tr()._c();
 	}
 	// </editor-fold>
+	// <editor-fold defaultstate="collapsed" desc="TR (bulk)">
+	/**
+	 * Writes a tr element for each row, with a td element for each column.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/tables.html#the-tr-element">4.9.8 The tr element</a>.
+	 * </p>
+	 *
+	 * @param  <R>  The type of row
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 *
+	 * @see  Columns
+	 */
+	default <R> __ rows__(Iterable<? extends R> rows, Columns<R> columns) throws IOException {
+		@SuppressWarnings("unchecked")
+		__ pc = (__)this;
+		columns.write(pc, rows.iterator());
+		return pc;
+	}
+
+	/**
+	 * Writes a tr element for each row, with a td element for each column, then closes the stream.
+	 * <p>
+	 * See <a href="https://html.spec.whatwg.org/multipage/tables.html#the-tr-element">4.9.8 The tr element</a>.
+	 * </p>
+	 *
+	 * @param  <R>  The type of row
+	 *
+	 * @return  This content model, which will be the parent content model of child elements
+	 *
+	 * @see  Columns
+	 */
+	default <R> __ rows__(Stream<? extends R> rows, Columns<R> columns) throws IOException {
+		@SuppressWarnings("unchecked")
+		__ pc = (__)this;
+		try(Stream<? extends R> stream = rows) {
+			columns.write(pc, stream.iterator());
+		}
+		return pc;
+	}
+	// </editor-fold>
 	// Inherited: SCRIPT
 	// Inherited: TEMPLATE
 }
@@ -0,0 +1,387 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Encodes characters directly to UTF-8 into a reusable byte buffer, writing to an {@link OutputStream} or
+ * {@link WritableByteChannel} only when the buffer is full or flushed.  Alternatively, the buffer itself may be
+ * handed off to a {@link Handoff} without copying.
+ * <p>
+ * Strings are bulk copied in blocks, which for compact strings is an intrinsic inflation from Latin-1.  Runs of ASCII,
+ * which includes all tag and attribute names, are then narrowed directly into the byte buffer in a tight loop.  Only
+ * the characters beyond ASCII are encoded individually.
+ * </p>
+ * <p>
+ * Malformed surrogates are replaced with {@code '?'}, matching {@link java.io.OutputStreamWriter}.
+ * </p>
+ * <p>
+ * This is not thread-safe, and does not synchronize.
+ * </p>
+ *
+ * @author  AO Industries, Inc.
+ */
+final class Utf8Writer extends Writer {
+
+	static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	/**
+	 * The most bytes written when encoding a single character: a surrogate pair, or {@code '?'} for a lone high
+	 * surrogate followed by a three-byte character.  This is also the smallest buffer size.
+	 */
+	static final int MAX_BYTES_PER_ENCODE = 4;
+
+	/**
+	 * Takes ownership of buffers as they are filled or flushed.
+	 */
+	@FunctionalInterface
+	static interface Handoff {
+
+		/**
+		 * Receives a buffer, which is no longer used by the writer.
+		 *
+		 * @param  buf  A buffer of the writer's buffer size, from {@link Buffers}
+		 * @param  len  The number of bytes written to the buffer, at least one
+		 */
+		void accept(byte[] buf, int len) throws IOException;
+	}
+
+	private final OutputStream out;
+
+	private final WritableByteChannel channel;
+
+	private final Handoff handoff;
+
+	private final int bufferSize;
+
+	/**
+	 * The buffer, taken from {@link Buffers} on first write and given back on flush.
+	 */
+	private byte[] buf;
+
+	/**
+	 * Wraps {@link #buf} when writing to a channel.
+	 */
+	private ByteBuffer byteBuffer;
+
+	private int count;
+
+	/**
+	 * The number of characters copied from strings at a time.
+	 */
+	private static final int CHARS_SIZE = Escaper.CHARS_SIZE;
+
+	/**
+	 * Characters copied from strings, taken from {@link Buffers} on first use and given back on flush.
+	 */
+	private char[] chars;
+
+	/**
+	 * A high surrogate waiting for its low surrogate, or {@code 0} when none.
+	 */
+	private char highSurrogate;
+
+	Utf8Writer(OutputStream out, int bufferSize) {
+		if(bufferSize < MAX_BYTES_PER_ENCODE) throw new IllegalArgumentException("bufferSize < " + MAX_BYTES_PER_ENCODE + ": " + bufferSize);
+		this.out = out;
+		this.channel = null;
+		this.handoff = null;
+		this.bufferSize = bufferSize;
+	}
+
+	Utf8Writer(OutputStream out) {
+		this(out, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * @param  channel  Must be a blocking channel.
+	 */
+	Utf8Writer(WritableByteChannel channel, int bufferSize) {
+		if(bufferSize < MAX_BYTES_PER_ENCODE) throw new IllegalArgumentException("bufferSize < " + MAX_BYTES_PER_ENCODE + ": " + bufferSize);
+		this.out = null;
+		this.channel = channel;
+		this.handoff = null;
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * @param  channel  Must be a blocking channel.
+	 */
+	Utf8Writer(WritableByteChannel channel) {
+		this(channel, DEFAULT_BUFFER_SIZE);
+	}
+
+	Utf8Writer(Handoff handoff, int bufferSize) {
+		if(bufferSize < MAX_BYTES_PER_ENCODE) throw new IllegalArgumentException("bufferSize < " + MAX_BYTES_PER_ENCODE + ": " + bufferSize);
+		this.out = null;
+		this.channel = null;
+		this.handoff = handoff;
+		this.bufferSize = bufferSize;
+	}
+
+	Utf8Writer(Handoff handoff) {
+		this(handoff, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Takes the buffer on first write after being created or flushed.
+	 */
+	private void allocate() {
+		buf = Buffers.getBytes(bufferSize);
+		if(channel != null) byteBuffer = ByteBuffer.wrap(buf);
+	}
+
+	/**
+	 * Gives the buffers back once all bytes have been written.
+	 */
+	private void release() {
+		byte[] b = buf;
+		if(b != null) {
+			buf = null;
+			byteBuffer = null;
+			Buffers.release(b);
+		}
+		char[] c = chars;
+		if(c != null) {
+			chars = null;
+			Buffers.release(c);
+		}
+	}
+
+	/**
+	 * Writes the buffered bytes to the stream or channel, or hands off the buffer.  When handed off, there is no
+	 * buffer until the next {@link #allocate()}.
+	 */
+	private void flushBuffer() throws IOException {
+		if(count > 0) {
+			if(out != null) {
+				out.write(buf, 0, count);
+			} else if(channel != null) {
+				byteBuffer.limit(count).position(0);
+				while(byteBuffer.hasRemaining()) channel.write(byteBuffer);
+			} else {
+				byte[] b = buf;
+				int len = count;
+				buf = null;
+				count = 0;
+				handoff.accept(b, len);
+				return;
+			}
+			count = 0;
+		}
+	}
+
+	/**
+	 * Makes room in a full buffer while writing.
+	 */
+	private void flushFull() throws IOException {
+		flushBuffer();
+		if(buf == null) allocate();
+	}
+
+	/**
+	 * Encodes a single character beyond ASCII, or any character following a high surrogate.
+	 */
+	private void encode(char c) throws IOException {
+		if(buf.length - count < MAX_BYTES_PER_ENCODE) flushFull();
+		if(highSurrogate != 0) {
+			char high = highSurrogate;
+			highSurrogate = 0;
+			if(Character.isLowSurrogate(c)) {
+				int cp = Character.toCodePoint(high, c);
+				buf[count++] = (byte)(0xf0 | (cp >> 18));
+				buf[count++] = (byte)(0x80 | ((cp >> 12) & 0x3f));
+				buf[count++] = (byte)(0x80 | ((cp >> 6) & 0x3f));
+				buf[count++] = (byte)(0x80 | (cp & 0x3f));
+				return;
+			}
+			buf[count++] = '?';
+		}
+		if(c < 0x80) {
+			buf[count++] = (byte)c;
+		} else if(c < 0x800) {
+			buf[count++] = (byte)(0xc0 | (c >> 6));
+			buf[count++] = (byte)(0x80 | (c & 0x3f));
+		} else if(Character.isHighSurrogate(c)) {
+			highSurrogate = c;
+		} else if(Character.isLowSurrogate(c)) {
+			buf[count++] = '?';
+		} else {
+			buf[count++] = (byte)(0xe0 | (c >> 12));
+			buf[count++] = (byte)(0x80 | ((c >> 6) & 0x3f));
+			buf[count++] = (byte)(0x80 | (c & 0x3f));
+		}
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		if(buf == null) allocate();
+		char ch = (char)c;
+		if(ch < 0x80 && highSurrogate == 0) {
+			if(count == buf.length) flushFull();
+			buf[count++] = (byte)ch;
+		} else {
+			encode(ch);
+		}
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		if(buf == null) allocate();
+		int end = off + len;
+		while(off < end) {
+			if(highSurrogate != 0) {
+				encode(cbuf[off++]);
+			} else {
+				if(count == buf.length) flushFull();
+				int stop = Math.min(end, off + (buf.length - count));
+				// ASCII run
+				int c = count;
+				while(off < stop) {
+					char ch = cbuf[off];
+					if(ch >= 0x80) break;
+					buf[c++] = (byte)ch;
+					off++;
+				}
+				count = c;
+				if(off < stop) encode(cbuf[off++]);
+			}
+		}
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		char[] chars = this.chars;
+		if(chars == null) this.chars = chars = Buffers.getChars(CHARS_SIZE);
+		int end = off + len;
+		while(off < end) {
+			// Bulk copy, which is an intrinsic inflation for compact strings
+			int n = Math.min(end - off, CHARS_SIZE);
+			str.getChars(off, off + n, chars, 0);
+			write(chars, 0, n);
+			off += n;
+		}
+	}
+
+	@Override
+	public void write(String str) throws IOException {
+		write(str, 0, str.length());
+	}
+
+	@Override
+	public Utf8Writer append(CharSequence csq) throws IOException {
+		if(csq == null) csq = "null";
+		if(csq instanceof String) {
+			String str = (String)csq;
+			write(str, 0, str.length());
+		} else {
+			for(int i = 0, len = csq.length(); i < len; i++) write(csq.charAt(i));
+		}
+		return this;
+	}
+
+	@Override
+	public Utf8Writer append(CharSequence csq, int start, int end) throws IOException {
+		if(csq == null) csq = "null";
+		if(csq instanceof String) {
+			write((String)csq, start, end - start);
+		} else {
+			for(int i = start; i < end; i++) write(csq.charAt(i));
+		}
+		return this;
+	}
+
+	@Override
+	public Utf8Writer append(char c) throws IOException {
+		write(c);
+		return this;
+	}
+
+	/**
+	 * Writes bytes that are already encoded, such as pre-encoded markup.
+	 * Any pending high surrogate is first written as {@code '?'}.
+	 */
+	void writeEncoded(byte[] bytes, int off, int len) throws IOException {
+		if(highSurrogate != 0) {
+			highSurrogate = 0;
+			write('?');
+		}
+		if(buf == null) allocate();
+		if(handoff != null) {
+			// Fill whole buffers, since the buffers themselves are handed off
+			while(len > 0) {
+				if(count == buf.length) flushFull();
+				int n = Math.min(len, buf.length - count);
+				System.arraycopy(bytes, off, buf, count, n);
+				count += n;
+				off += n;
+				len -= n;
+			}
+			return;
+		}
+		if(len > buf.length - count) {
+			flushBuffer();
+			if(len > buf.length) {
+				if(out != null) {
+					out.write(bytes, off, len);
+				} else {
+					ByteBuffer bb = ByteBuffer.wrap(bytes, off, len);
+					while(bb.hasRemaining()) channel.write(bb);
+				}
+				return;
+			}
+		}
+		System.arraycopy(bytes, off, buf, count, len);
+		count += len;
+	}
+
+	/**
+	 * Writes all buffered bytes and flushes the stream, then gives the buffers back to the pool.
+	 */
+	@Override
+	public void flush() throws IOException {
+		flushBuffer();
+		release();
+		if(out != null) out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if(highSurrogate != 0) {
+			highSurrogate = 0;
+			write('?');
+		}
+		flushBuffer();
+		release();
+		if(out != null) {
+			out.close();
+		} else if(channel != null) {
+			channel.close();
+		}
+	}
+}
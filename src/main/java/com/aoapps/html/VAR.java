@@ -38,6 +38,10 @@ final public class VAR<
 > extends
 	AnyVAR<Document, PC, VAR<PC>, VAR__<PC>, VAR_c<PC>> {
 
+	// Created once, then reused with this element.  See Document#setFlyweights(boolean)
+	private VAR__<PC> flyweight__;
+	private VAR_c<PC> flyweight_c;
+
 	VAR(Document document, PC pc) {
 		super(document, pc);
 	}
@@ -50,11 +54,13 @@ final public class VAR<
 
 	@Override
 	protected VAR__<PC> new__() {
-		return new VAR__<>(this);
+		if(flyweight__ == null) flyweight__ = new VAR__<>(this);
+		return document.pushFlyweight(pc, flyweight__);
 	}
 
 	@Override
 	protected VAR_c<PC> new_c() {
-		return new VAR_c<>(this);
+		if(flyweight_c == null) flyweight_c = new VAR_c<>(this);
+		return document.pushFlyweight(pc, flyweight_c);
 	}
 }
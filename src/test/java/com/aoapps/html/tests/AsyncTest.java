@@ -0,0 +1,180 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * @see  com.aoapps.html.DIV#async__(com.aoapps.lang.io.function.IOConsumerE)
+ *
+ * @author  AO Industries, Inc.
+ */
+public class AsyncTest {
+
+	/**
+	 * Runs each region on a new thread.
+	 */
+	private static final Executor THREADS = command -> new Thread(command).start();
+
+	/**
+	 * Records the output as of each flush.
+	 */
+	private static class FlushWriter extends StringWriter {
+
+		private String flushed = "";
+
+		@Override
+		public void flush() {
+			flushed = toString();
+		}
+	}
+
+	private static String sync(boolean indent, boolean minify) throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.setIndent(indent);
+		document.setMinify(minify);
+		document.div__(outer -> outer
+			.p__("Before")
+			.div__(region -> region.p__("First"))
+			.p__("Between")
+			.div__(region -> region.p__("Second"))
+			.p__("After")
+		);
+		document.flush();
+		return out.toString();
+	}
+
+	@Test
+	public void testOrderingWhenLaterRegionCompletesFirst() throws IOException {
+		for(boolean indent : new boolean[] {false, true}) {
+			for(boolean minify : new boolean[] {false, true}) {
+				if(indent && minify) continue;
+				StringWriter out = new StringWriter();
+				Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+				document.setIndent(indent);
+				document.setMinify(minify);
+				document.setAsyncExecutor(THREADS);
+				CountDownLatch secondDone = new CountDownLatch(1);
+				document.div__(outer -> outer
+					.p__("Before")
+					.async__(region -> {
+						try {
+							assertTrue(secondDone.await(10, TimeUnit.SECONDS));
+						} catch(InterruptedException e) {
+							throw new AssertionError(e);
+						}
+						region.p__("First");
+					})
+					.p__("Between")
+					.async__(region -> {
+						region.p__("Second");
+						secondDone.countDown();
+					})
+					.p__("After")
+				);
+				document.awaitAsync();
+				document.flush();
+				assertEquals("indent=" + indent + ", minify=" + minify, sync(indent, minify), out.toString());
+			}
+		}
+	}
+
+	@Test
+	public void testFailureThrowsFromLaterWrites() throws IOException {
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, new StringWriter());
+		document.setAsyncExecutor(Runnable::run);
+		IllegalStateException failure = new IllegalStateException("Region failed");
+		try {
+			// The end tag of the region is the first write after it fails
+			document.async__(region -> {
+				throw failure;
+			});
+			fail("Expected IOException");
+		} catch(IOException e) {
+			assertSame(failure, e.getCause());
+		}
+		try {
+			document.p__("After");
+			fail("Expected IOException");
+		} catch(IOException e) {
+			assertSame(failure, e.getCause());
+		}
+		try {
+			document.awaitAsync();
+			fail("Expected IllegalStateException");
+		} catch(IllegalStateException e) {
+			assertSame(failure, e);
+		}
+	}
+
+	@Test
+	public void testFlushDuringPendingRegion() throws IOException {
+		FlushWriter out = new FlushWriter();
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.setAsyncExecutor(THREADS);
+		CountDownLatch release = new CountDownLatch(1);
+		document.p__("Before");
+		document.async__(region -> {
+			try {
+				assertTrue(release.await(10, TimeUnit.SECONDS));
+			} catch(InterruptedException e) {
+				throw new AssertionError(e);
+			}
+			region.text("Region");
+		});
+		document.p__("After");
+		document.flush();
+		assertEquals("<p>Before</p><div>", out.flushed);
+		release.countDown();
+		document.awaitAsync();
+		document.flush();
+		assertEquals("<p>Before</p><div>Region</div><p>After</p>", out.flushed);
+	}
+
+	@Test
+	public void testDeferredWithinRegion() throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.setAsyncExecutor(THREADS);
+		document.async__(region -> region.deferred__(deferred -> deferred.text("Deferred")));
+		document.awaitAsync();
+		assertEquals("<div><div id=\"ao-deferred-1\"></div></div>", out.toString());
+		document.renderDeferred();
+		String html = out.toString();
+		assertTrue(html, html.startsWith("<div><div id=\"ao-deferred-1\"></div></div><template id=\"ao-deferred-1-content\">Deferred</template>"));
+		assertTrue(html, html.endsWith("</script>"));
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Columns;
+import com.aoapps.html.Document;
+import com.aoapps.lang.io.function.IOConsumerE;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * The bulk rows of {@link Columns} must write the same as creating each element.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ColumnsTest {
+
+	public static class Row {
+
+		private final int id;
+		private final Double amount;
+		private final String name;
+		private final boolean active;
+
+		private Row(int id, Double amount, String name, boolean active) {
+			this.id = id;
+			this.amount = amount;
+			this.name = name;
+			this.active = active;
+		}
+
+		public int getId() {
+			return id;
+		}
+
+		public Double getAmount() {
+			return amount;
+		}
+
+		public String name() {
+			return name;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+	}
+
+	private static final List<Row> ROWS = Arrays.asList(
+		new Row(1, 12.5, "<First & last>", true),
+		new Row(-2, null, null, false),
+		new Row(Integer.MAX_VALUE, 0.1, "\"Quoted\"", true)
+	);
+
+	private static final Columns<Row> COLUMNS = Columns.builder(Row.class)
+		.property("id")
+		.property("amount", "numeric")
+		.property("name", "")
+		.column("  ", row -> row.name())
+		.column(" text ", Row::name)
+		.property("active", null)
+		.build();
+
+	private static String render(boolean indent, IOConsumerE<? super Document, IOException> body) throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.setIndent(indent);
+		body.accept(document);
+		return out.toString();
+	}
+
+	private static void elements(Document document, Iterable<Row> rows) throws IOException {
+		document.table__(table -> table.tbody__(tbody -> {
+			for(Row row : rows) {
+				tbody.tr__(tr -> {
+					tr.td__(row.getId());
+					if(row.getAmount() == null) tr.td().clazz("numeric").__();
+					else tr.td().clazz("numeric").__(row.getAmount());
+					if(row.name() == null) {
+						tr.td().clazz("").__();
+						tr.td().clazz("  ").__();
+						tr.td().clazz(" text ").__();
+					} else {
+						tr.td().clazz("").__(row.name());
+						tr.td().clazz("  ").__(row.name());
+						tr.td().clazz(" text ").__(row.name());
+					}
+					tr.td__(row.isActive());
+				});
+			}
+		}));
+	}
+
+	@Test
+	public void testIterableMatchesElements() throws IOException {
+		for(boolean indent : new boolean[] {false, true}) {
+			assertEquals(
+				"indent=" + indent,
+				render(indent, document -> elements(document, ROWS)),
+				render(indent, document -> document.table__(table -> table.tbody__(ROWS, COLUMNS)))
+			);
+		}
+	}
+
+	@Test
+	public void testStreamMatchesElementsAndCloses() throws IOException {
+		for(boolean indent : new boolean[] {false, true}) {
+			AtomicBoolean closed = new AtomicBoolean();
+			assertEquals(
+				"indent=" + indent,
+				render(indent, document -> elements(document, ROWS)),
+				render(indent, document -> document.table__(table -> table.tbody__(
+					ROWS.stream().onClose(() -> closed.set(true)),
+					COLUMNS
+				)))
+			);
+			assertTrue("Stream not closed", closed.get());
+		}
+	}
+
+	@Test
+	public void testRowsMatchesElements() throws IOException {
+		for(boolean indent : new boolean[] {false, true}) {
+			assertEquals(
+				"indent=" + indent,
+				render(indent, document -> elements(document, ROWS)),
+				render(indent, document -> document.table__(table -> table.tbody__(tbody -> tbody.rows__(ROWS, COLUMNS))))
+			);
+		}
+	}
+
+	@Test
+	public void testEmpty() throws IOException {
+		for(boolean indent : new boolean[] {false, true}) {
+			assertEquals(
+				"indent=" + indent,
+				render(indent, document -> elements(document, Collections.emptyList())),
+				render(indent, document -> document.table__(table -> table.tbody__(Stream.<Row>empty(), COLUMNS)))
+			);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMissingProperty() {
+		Columns.builder(Row.class).property("missing", "numeric");
+	}
+}
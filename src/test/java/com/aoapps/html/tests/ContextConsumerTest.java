@@ -0,0 +1,186 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.ContextConsumerE;
+import com.aoapps.html.Document;
+import com.aoapps.html.TBODY__;
+import com.aoapps.html.TD__;
+import com.aoapps.html.TR__;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * Elements given a context and a {@link ContextConsumerE} must write the same as a capturing lambda, including when
+ * nested and when the body throws.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ContextConsumerTest {
+
+	private static final List<String[]> ROWS = Arrays.asList(
+		new String[] {"1", "<First>"},
+		new String[] {"2", "Second & more"},
+		new String[] {"3", ""}
+	);
+
+	private static final ContextConsumerE<TD__<?>, String, RuntimeException> CELL = (td, value) -> td.text(value);
+
+	private static final ContextConsumerE<TR__<?>, String[], RuntimeException> ROW = (tr, row) -> {
+		for(String value : row) tr.td__(value, CELL);
+	};
+
+	private static final ContextConsumerE<TBODY__<?>, List<String[]>, RuntimeException> BODY = (tbody, rows) -> {
+		for(String[] row : rows) tbody.tr__(row, ROW);
+	};
+
+	private static Document newDocument(Serialization serialization, boolean indent, boolean flyweights, StringWriter out) {
+		Document document = new Document(serialization, Doctype.HTML5, out);
+		document.setIndent(indent);
+		document.setFlyweights(flyweights);
+		return document;
+	}
+
+	private static String withContext(Serialization serialization, boolean indent, boolean flyweights) throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = newDocument(serialization, indent, flyweights, out);
+		document.table__(table -> table.tbody__(ROWS, BODY));
+		document.div__("Outer", (div, outer) -> div
+			.p__("Inner", (p, inner) -> p.text(inner))
+			.span__(outer, (span, value) -> span.text(value))
+		);
+		return out.toString();
+	}
+
+	private static String capturing(Serialization serialization, boolean indent, boolean flyweights) throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = newDocument(serialization, indent, flyweights, out);
+		document.table__(table -> table.tbody__(tbody -> {
+			for(String[] row : ROWS) {
+				tbody.tr__(tr -> {
+					for(String value : row) tr.td__(td -> td.text(value));
+				});
+			}
+		}));
+		String outer = "Outer";
+		document.div__(div -> div
+			.p__(p -> p.text("Inner"))
+			.span__(span -> span.text(outer))
+		);
+		return out.toString();
+	}
+
+	@Test
+	public void testMatchesCapturingLambda() throws IOException {
+		for(Serialization serialization : Serialization.values()) {
+			for(boolean indent : new boolean[] {false, true}) {
+				for(boolean flyweights : new boolean[] {false, true}) {
+					assertEquals(
+						serialization + ", indent=" + indent + ", flyweights=" + flyweights,
+						capturing(serialization, indent, flyweights),
+						withContext(serialization, indent, flyweights)
+					);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testNestedKeepsOuterContext() throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.div__("Outer", (div, outer) -> {
+			div.span__("Inner", (span, inner) -> span.span__("Innermost", (innermost, value) -> innermost.text(value)).text(inner));
+			// Still the context of this body after the nested elements
+			div.text(outer);
+		});
+		assertEquals("<div><span><span>Innermost</span>Inner</span>Outer</div>", out.toString());
+	}
+
+	@Test
+	public void testNullContext() throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.p__((String)null, (p, value) -> p.text(value == null ? "None" : value));
+		assertEquals("<p>None</p>", out.toString());
+	}
+
+	private static class BodyException extends Exception {
+
+		private static final long serialVersionUID = 1L;
+	}
+
+	@Test
+	public void testBodyThrows() throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		BodyException failure = new BodyException();
+		try {
+			document.div__("Outer", (div, outer) -> div.span__("Inner", (span, inner) -> {
+				throw failure;
+			}));
+			fail("Expected BodyException");
+		} catch(BodyException e) {
+			assertSame(failure, e);
+		}
+		// Later elements get their own body and context, not those of the failed body
+		int before = out.getBuffer().length();
+		document.p__("After", (p, value) -> p.text(value));
+		assertEquals("<p>After</p>", out.toString().substring(before));
+	}
+
+	@Test
+	public void testBodyThrowsWhenNested() throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		try {
+			document.table__(table -> table.tbody__(ROWS, (tbody, rows) -> {
+				for(String[] row : rows) {
+					if("2".equals(row[0])) throw new IllegalStateException(row[1]);
+					tbody.tr__(row, ROW);
+				}
+			}));
+			fail("Expected IllegalStateException");
+		} catch(IllegalStateException e) {
+			assertEquals("Second & more", e.getMessage());
+		}
+		String html = out.toString();
+		assertTrue(html, html.contains("<tr><td>1</td>"));
+		assertFalse(html, html.contains("<td>2</td>"));
+		// The same document renders normally afterwards
+		StringWriter expected = new StringWriter();
+		new Document(Serialization.SGML, Doctype.HTML5, expected).table__(table -> table.tbody__(ROWS, BODY));
+		document.table__(table -> table.tbody__(ROWS, BODY));
+		assertEquals(expected.toString(), out.toString().substring(html.length()));
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * @see  com.aoapps.html.FlowContent#deferred__(com.aoapps.lang.io.function.IOConsumerE)
+ * @see  Document#renderDeferred()
+ *
+ * @author  AO Industries, Inc.
+ */
+public class DeferredTest {
+
+	private static final Pattern PLACEHOLDER = Pattern.compile("<div id=\"(ao-deferred-[0-9]+)\"></div>");
+
+	@Test
+	public void testPlaceholderWrittenImmediately() throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.div__(div -> div
+			.deferred__(deferred -> deferred.text("Slow"))
+			.p__("Fast")
+		);
+		assertEquals("<div><div id=\"ao-deferred-1\"></div><p>Fast</p></div>", out.toString());
+	}
+
+	@Test
+	public void testRenderDeferredInOrder() throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.deferred__(deferred -> deferred.text("First"));
+		document.p__("Between");
+		document.deferred__(deferred -> deferred.p__("Second"));
+		String placeholders = "<div id=\"ao-deferred-1\"></div><p>Between</p><div id=\"ao-deferred-2\"></div>";
+		assertEquals(placeholders, out.toString());
+		document.renderDeferred();
+		String html = out.toString();
+		assertTrue(html, html.startsWith(placeholders));
+		int first = html.indexOf("<template id=\"ao-deferred-1-content\">First</template>");
+		int second = html.indexOf("<template id=\"ao-deferred-2-content\"><p>Second</p></template>");
+		assertTrue(html, first > 0);
+		assertTrue(html, second > first);
+		// Each template is followed by the script moving it into its placeholder
+		assertTrue(html, html.indexOf("getElementById(\"ao-deferred-1\")", first) > first);
+		assertTrue(html, html.indexOf("getElementById(\"ao-deferred-2\")", second) > second);
+	}
+
+	@Test
+	public void testRenderDeferredOnlyOnce() throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.deferred__(deferred -> deferred.text("Once"));
+		document.renderDeferred();
+		String rendered = out.toString();
+		document.renderDeferred();
+		assertEquals(rendered, out.toString());
+	}
+
+	@Test
+	public void testIdsUniqueAcrossAsyncRegions() throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.deferred__(deferred -> deferred.text("Page"));
+		document.async__(region -> region.deferred__(deferred -> deferred.text("Region 1")));
+		document.async__(region -> region.deferred__(deferred -> deferred.text("Region 2")));
+		document.awaitAsync();
+		document.renderDeferred();
+		Set<String> ids = new HashSet<>();
+		Matcher matcher = PLACEHOLDER.matcher(out.toString());
+		int count = 0;
+		while(matcher.find()) {
+			ids.add(matcher.group(1));
+			count++;
+		}
+		assertEquals(3, count);
+		assertEquals(ids.toString(), 3, ids.size());
+	}
+
+	@Test
+	public void testDeferredWithinAsyncRenderedAtEnd() throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.deferred__(deferred -> deferred.text("Before"));
+		document.async__(region -> region
+			.deferred__(deferred -> deferred.text("Region"))
+			.async__(nested -> nested.deferred__(deferred -> deferred.text("Nested")))
+		);
+		document.deferred__(deferred -> deferred.text("After"));
+		// Awaits the asynchronous regions
+		document.renderDeferred();
+		String html = out.toString();
+		int templates = html.indexOf("<template");
+		assertTrue(html, templates > 0);
+		Matcher matcher = PLACEHOLDER.matcher(html);
+		int count = 0;
+		while(matcher.find()) {
+			assertTrue(html, matcher.end() <= templates);
+			count++;
+		}
+		assertEquals(4, count);
+		// Nothing is rendered within the asynchronous regions
+		assertEquals(html, -1, html.substring(0, templates).indexOf("<script"));
+		int before = html.indexOf("-content\">Before</template>");
+		int region = html.indexOf("-content\">Region</template>");
+		int nested = html.indexOf("-content\">Nested</template>");
+		int after = html.indexOf("-content\">After</template>");
+		assertTrue(html, templates < before);
+		assertTrue(html, before < region);
+		assertTrue(html, region < nested);
+		assertTrue(html, nested < after);
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import com.aoapps.html.DocumentPool;
+import com.aoapps.html.EncodingCache;
+import java.io.IOException;
+import java.io.StringWriter;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+/**
+ * @see  DocumentPool
+ *
+ * @author  AO Industries, Inc.
+ */
+public class DocumentPoolTest {
+
+	private static void render(Document document) throws IOException {
+		document.ul__(ul -> ul
+			.li__("One")
+			.li__("Two")
+		);
+		document.p__("Last");
+	}
+
+	private static String fresh(boolean minify) throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.setMinify(minify);
+		render(document);
+		document.flush();
+		return out.toString();
+	}
+
+	@Test
+	public void testNoOutputLostAcrossReset() throws IOException {
+		DocumentPool pool = new DocumentPool(1);
+		for(boolean minify : new boolean[] {false, true}) {
+			String expected = fresh(minify);
+			StringWriter first = new StringWriter();
+			Document document = pool.get(Serialization.SGML, Doctype.HTML5, first);
+			document.setMinify(minify);
+			render(document);
+			// Released without flushing, with an end tag held when minifying
+			pool.release(document);
+			assertEquals(expected, first.toString());
+
+			StringWriter second = new StringWriter();
+			Document reused = pool.get(Serialization.SGML, Doctype.HTML5, second);
+			assertSame(document, reused);
+			reused.setMinify(minify);
+			render(reused);
+			pool.release(reused);
+			assertEquals(expected, second.toString());
+			assertEquals("Earlier output must not change", expected, first.toString());
+		}
+	}
+
+	@Test
+	public void testResetRetainsEncodingCache() throws IOException {
+		EncodingCache cache = new EncodingCache(16);
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, new StringWriter());
+		document.setEncodingCache(cache);
+		document.reset(new StringWriter());
+		assertSame(cache, document.getEncodingCache());
+	}
+}
@@ -0,0 +1,356 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.html.Document;
+import com.aoapps.html.DocumentPublisher;
+import com.aoapps.lang.io.function.IOConsumerE;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * @author  AO Industries, Inc.
+ */
+public class DocumentPublisherTest {
+
+	private static final Object COMPLETE = "onComplete";
+
+	private static final long TIMEOUT = 10;
+
+	/**
+	 * How long to wait for a signal that must not arrive.
+	 */
+	private static final long QUIET_MILLIS = 200;
+
+	/**
+	 * Two full chunks and part of a third.
+	 */
+	private static final String TEXT;
+	static {
+		char[] chars = new char[DocumentPublisher.CHUNK_SIZE * 2 + 100];
+		for(int i = 0; i < chars.length; i++) chars[i] = (char)('a' + (i % 26));
+		TEXT = new String(chars);
+	}
+
+	private static final IOConsumerE<Document, RuntimeException> WRITE_TEXT = document -> document.getUnsafe(null).write(TEXT);
+
+	/**
+	 * Runs the render on a new thread, counting down once the render returns.
+	 */
+	private static class Threads implements Executor {
+
+		private final CountDownLatch done = new CountDownLatch(1);
+
+		@Override
+		public void execute(Runnable command) {
+			new Thread(() -> {
+				try {
+					command.run();
+				} finally {
+					done.countDown();
+				}
+			}).start();
+		}
+
+		private void awaitDone() throws InterruptedException {
+			assertTrue("Render did not end", done.await(TIMEOUT, TimeUnit.SECONDS));
+		}
+	}
+
+	/**
+	 * Records every signal, in order: each chunk, {@link #COMPLETE}, or the error.
+	 */
+	private static class Recorder implements Flow.Subscriber<ByteBuffer> {
+
+		private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+
+		private volatile Flow.Subscription subscription;
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(ByteBuffer item) {
+			signals.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			signals.add(throwable);
+		}
+
+		@Override
+		public void onComplete() {
+			signals.add(COMPLETE);
+		}
+
+		private Object next() throws InterruptedException {
+			Object signal = signals.poll(TIMEOUT, TimeUnit.SECONDS);
+			assertNotNull("No signal", signal);
+			return signal;
+		}
+
+		private ByteBuffer nextChunk() throws InterruptedException {
+			Object signal = next();
+			if(signal instanceof Throwable) throw new AssertionError((Throwable)signal);
+			assertTrue("Expected chunk: " + signal, signal instanceof ByteBuffer);
+			return (ByteBuffer)signal;
+		}
+
+		private void assertQuiet() throws InterruptedException {
+			assertNull(signals.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS));
+		}
+	}
+
+	private static byte[] toBytes(ByteBuffer chunk) {
+		byte[] bytes = new byte[chunk.remaining()];
+		chunk.duplicate().get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Renders the body directly to a stream, for comparison.
+	 */
+	private static byte[] expected(IOConsumerE<? super Document, ?> body) throws Throwable {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		Document document = new Document(EncodingContext.DEFAULT, bytes);
+		body.accept(document);
+		document.awaitAsync();
+		document.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Requests everything, then collects all chunks until completion.
+	 */
+	private static byte[] collect(IOConsumerE<? super Document, ?> body, Executor executor) throws InterruptedException {
+		Recorder recorder = new Recorder();
+		new DocumentPublisher(EncodingContext.DEFAULT, executor, body).subscribe(recorder);
+		recorder.subscription.request(Long.MAX_VALUE);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		Object signal;
+		while((signal = recorder.next()) != COMPLETE) {
+			if(signal instanceof Throwable) throw new AssertionError((Throwable)signal);
+			bytes.write(toBytes((ByteBuffer)signal), 0, ((ByteBuffer)signal).remaining());
+		}
+		recorder.assertQuiet();
+		return bytes.toByteArray();
+	}
+
+	@Test
+	public void testOneChunkPerDemand() throws Throwable {
+		Threads threads = new Threads();
+		Recorder recorder = new Recorder();
+		new DocumentPublisher(EncodingContext.DEFAULT, threads, WRITE_TEXT).subscribe(recorder);
+		// Nothing is rendered before the first request
+		recorder.assertQuiet();
+		recorder.subscription.request(1);
+		ByteBuffer first = recorder.nextChunk();
+		assertEquals(DocumentPublisher.CHUNK_SIZE, first.remaining());
+		recorder.assertQuiet();
+		recorder.subscription.request(1);
+		ByteBuffer second = recorder.nextChunk();
+		assertEquals(DocumentPublisher.CHUNK_SIZE, second.remaining());
+		recorder.assertQuiet();
+		recorder.subscription.request(5);
+		ByteBuffer last = recorder.nextChunk();
+		assertEquals(100, last.remaining());
+		assertSame(COMPLETE, recorder.next());
+		recorder.assertQuiet();
+		threads.awaitDone();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		for(ByteBuffer chunk : Arrays.asList(first, second, last)) bytes.write(toBytes(chunk), 0, chunk.remaining());
+		assertArrayEquals(expected(WRITE_TEXT), bytes.toByteArray());
+	}
+
+	@Test
+	public void testFlushEmitsShortChunk() throws Throwable {
+		IOConsumerE<Document, RuntimeException> body = document -> {
+			document.getUnsafe(null).write("Head");
+			document.flush();
+			document.getUnsafe(null).write("Body");
+		};
+		Recorder recorder = new Recorder();
+		new DocumentPublisher(EncodingContext.DEFAULT, new Threads(), body).subscribe(recorder);
+		recorder.subscription.request(Long.MAX_VALUE);
+		assertArrayEquals("Head".getBytes(StandardCharsets.UTF_8), toBytes(recorder.nextChunk()));
+		assertArrayEquals("Body".getBytes(StandardCharsets.UTF_8), toBytes(recorder.nextChunk()));
+		assertSame(COMPLETE, recorder.next());
+	}
+
+	@Test
+	public void testCancelEndsRender() throws Throwable {
+		Threads threads = new Threads();
+		Recorder recorder = new Recorder();
+		AtomicBoolean finished = new AtomicBoolean();
+		new DocumentPublisher(EncodingContext.DEFAULT, threads, document -> {
+			WRITE_TEXT.accept(document);
+			finished.set(true);
+		}).subscribe(recorder);
+		recorder.subscription.request(1);
+		recorder.nextChunk();
+		recorder.subscription.cancel();
+		threads.awaitDone();
+		assertFalse(finished.get());
+		// Neither onComplete nor onError after cancel
+		recorder.assertQuiet();
+	}
+
+	@Test
+	public void testNonPositiveRequestBeforeStart() throws Throwable {
+		for(long n : new long[] {0, -1, Long.MIN_VALUE}) {
+			Threads threads = new Threads();
+			Recorder recorder = new Recorder();
+			new DocumentPublisher(EncodingContext.DEFAULT, threads, WRITE_TEXT).subscribe(recorder);
+			recorder.subscription.request(n);
+			Object signal = recorder.next();
+			assertTrue("n=" + n + ": " + signal, signal instanceof IllegalArgumentException);
+			threads.awaitDone();
+			recorder.assertQuiet();
+		}
+	}
+
+	@Test
+	public void testNonPositiveRequestWhileRendering() throws Throwable {
+		Threads threads = new Threads();
+		Recorder recorder = new Recorder();
+		new DocumentPublisher(EncodingContext.DEFAULT, threads, WRITE_TEXT).subscribe(recorder);
+		recorder.subscription.request(1);
+		recorder.nextChunk();
+		recorder.subscription.request(0);
+		Object signal = recorder.next();
+		assertTrue(String.valueOf(signal), signal instanceof IllegalArgumentException);
+		threads.awaitDone();
+		recorder.assertQuiet();
+	}
+
+	@Test
+	public void testSecondSubscriberFails() throws Throwable {
+		DocumentPublisher publisher = new DocumentPublisher(EncodingContext.DEFAULT, new Threads(), WRITE_TEXT);
+		publisher.subscribe(new Recorder());
+		Recorder second = new Recorder();
+		publisher.subscribe(second);
+		assertNotNull(second.subscription);
+		Object signal = second.next();
+		assertTrue(String.valueOf(signal), signal instanceof IllegalStateException);
+	}
+
+	@Test
+	public void testBodyFailure() throws Throwable {
+		IllegalStateException failure = new IllegalStateException("Body failed");
+		Recorder recorder = new Recorder();
+		new DocumentPublisher(EncodingContext.DEFAULT, new Threads(), document -> {
+			document.getUnsafe(null).write("Partial");
+			throw failure;
+		}).subscribe(recorder);
+		recorder.subscription.request(Long.MAX_VALUE);
+		assertSame(failure, recorder.next());
+		recorder.assertQuiet();
+	}
+
+	@Test
+	public void testCompletesAfterAsyncRegions() throws Throwable {
+		IOConsumerE<Document, RuntimeException> body = document -> {
+			document.setAsyncExecutor(command -> new Thread(command).start());
+			CountDownLatch bodyDone = new CountDownLatch(1);
+			document.p__("Before");
+			document.async__(region -> {
+				try {
+					assertTrue(bodyDone.await(TIMEOUT, TimeUnit.SECONDS));
+				} catch(InterruptedException e) {
+					throw new AssertionError(e);
+				}
+				region.p__("Region");
+			});
+			document.p__("After");
+			bodyDone.countDown();
+		};
+		byte[] expected = expected(body);
+		assertArrayEquals(expected, collect(body, new Threads()));
+		assertArrayEquals(expected, collect(WRITE_TEXT, new Threads()));
+	}
+
+	@Test
+	public void testOutputAfterRelease() throws Throwable {
+		byte[] expected = expected(WRITE_TEXT);
+		for(int i = 0; i < 3; i++) {
+			Recorder recorder = new Recorder();
+			DocumentPublisher publisher = new DocumentPublisher(EncodingContext.DEFAULT, new Threads(), WRITE_TEXT);
+			publisher.subscribe(recorder);
+			recorder.subscription.request(Long.MAX_VALUE);
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			Object signal;
+			while((signal = recorder.next()) != COMPLETE) {
+				ByteBuffer chunk = (ByteBuffer)signal;
+				bytes.write(toBytes(chunk), 0, chunk.remaining());
+				assertTrue(publisher.release(chunk));
+			}
+			assertArrayEquals(expected, bytes.toByteArray());
+		}
+	}
+
+	@Test
+	public void testReleaseOnlyOwnChunksOnce() throws Throwable {
+		Recorder recorder = new Recorder();
+		DocumentPublisher publisher = new DocumentPublisher(EncodingContext.DEFAULT, new Threads(), WRITE_TEXT);
+		publisher.subscribe(recorder);
+		recorder.subscription.request(Long.MAX_VALUE);
+		ByteBuffer first = recorder.nextChunk();
+		// Not emitted by this publisher
+		assertFalse(publisher.release(ByteBuffer.allocate(DocumentPublisher.CHUNK_SIZE)));
+		assertFalse(publisher.release(ByteBuffer.allocateDirect(DocumentPublisher.CHUNK_SIZE)));
+		DocumentPublisher other = new DocumentPublisher(EncodingContext.DEFAULT, new Threads(), WRITE_TEXT);
+		assertFalse(other.release(first));
+		// Released once only, including through another buffer over the same array
+		assertTrue(publisher.release(first));
+		assertFalse(publisher.release(first));
+		assertFalse(publisher.release(ByteBuffer.wrap(first.array())));
+		Object signal;
+		while((signal = recorder.next()) != COMPLETE) {
+			ByteBuffer chunk = (ByteBuffer)signal;
+			assertTrue(publisher.release(chunk));
+			assertFalse(publisher.release(chunk));
+		}
+	}
+}
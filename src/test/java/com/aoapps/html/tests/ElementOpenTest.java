@@ -0,0 +1,109 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import com.aoapps.lang.io.function.IOConsumerE;
+import java.io.IOException;
+import java.io.StringWriter;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * The start tags of common elements are written from pre-encoded markup when not indenting, and must be followed by
+ * attributes, content, and end tags exactly as when written by the element.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ElementOpenTest {
+
+	private static void assertRenders(String expected, IOConsumerE<? super Document, IOException> body) throws IOException {
+		for(Serialization serialization : Serialization.values()) {
+			StringWriter out = new StringWriter();
+			body.accept(new Document(serialization, Doctype.HTML5, out));
+			assertEquals(serialization.name(), expected, out.toString());
+		}
+	}
+
+	@Test
+	public void testDivSpanP() throws IOException {
+		assertRenders(
+			"<div id=\"a\" class=\"b\"><span title=\"t\">S</span><p>P</p><div></div></div>",
+			document -> document.div().id("a").clazz("b").__(div -> div
+				.span().title("t").__("S")
+				.p().__("P")
+				.div().__()
+			)
+		);
+	}
+
+	@Test
+	public void testLists() throws IOException {
+		assertRenders(
+			"<ul class=\"u\"><li id=\"i\">1</li><li>2</li></ul><ol><li>3</li></ol><dl id=\"d\"><dt class=\"t\">T</dt><dd class=\"d\">D</dd></dl>",
+			document -> document
+				.ul().clazz("u").__(ul -> ul
+					.li().id("i").__("1")
+					.li().__("2")
+				)
+				.ol().__(ol -> ol.li().__("3"))
+				.dl().id("d").__(dl -> dl
+					.dt().clazz("t").__("T")
+					.dd().clazz("d").__("D")
+				)
+		);
+	}
+
+	@Test
+	public void testTable() throws IOException {
+		assertRenders(
+			"<table class=\"t\"><thead id=\"h\"><tr><th class=\"c\">H</th></tr></thead>"
+			+ "<tbody class=\"b\"><tr id=\"r\"><td class=\"c\">D</td><td></td></tr></tbody>"
+			+ "<tfoot id=\"f\"><tr><td>F</td></tr></tfoot></table>",
+			document -> document.table().clazz("t").__(table -> table
+				.thead().id("h").__(thead -> thead.tr().__(tr -> tr.th().clazz("c").__("H")))
+				.tbody().clazz("b").__(tbody -> tbody.tr().id("r").__(tr -> tr
+					.td().clazz("c").__("D")
+					.td().__()
+				))
+				.tfoot().id("f").__(tfoot -> tfoot.tr().__(tr -> tr.td().__("F")))
+			)
+		);
+	}
+
+	@Test
+	public void testHeadings() throws IOException {
+		assertRenders(
+			"<h1 id=\"1\">1</h1><h2 id=\"2\">2</h2><h3 id=\"3\">3</h3><h4 id=\"4\">4</h4><h5 id=\"5\">5</h5><h6 id=\"6\">6</h6>",
+			document -> document
+				.h1().id("1").__("1")
+				.h2().id("2").__("2")
+				.h3().id("3").__("3")
+				.h4().id("4").__("4")
+				.h5().id("5").__("5")
+				.h6().id("6").__("6")
+		);
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import com.aoapps.html.EncodedAttributeValue;
+import com.aoapps.html.EncodedText;
+import java.io.IOException;
+import java.io.StringWriter;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+/**
+ * @see  EncodedAttributeValue
+ *
+ * @author  AO Industries, Inc.
+ */
+public class EncodedAttributeValueTest {
+
+	private static final String[] VALUES = {"btn", "btn btn-primary", "<\"a\" & 'b'>", "é中😀"};
+
+	@Test
+	public void testClassMatchesBase() throws IOException {
+		for(Serialization serialization : Serialization.values()) {
+			for(String value : VALUES) {
+				EncodedAttributeValue encoded = EncodedAttributeValue.valueOf(value);
+				StringWriter expected = new StringWriter();
+				new Document(serialization, Doctype.HTML5, expected).div().clazz((Object)value).__(div -> div
+					.p().clazz((Object)value).__("Text")
+				);
+				StringWriter out = new StringWriter();
+				new Document(serialization, Doctype.HTML5, out).div().clazz(encoded).__(div -> div
+					.p().clazz(encoded).__("Text")
+				);
+				assertEquals(serialization + ", " + value, expected.toString(), out.toString());
+			}
+		}
+	}
+
+	@Test
+	public void testEmptyClassOmitted() throws IOException {
+		StringWriter out = new StringWriter();
+		new Document(Serialization.SGML, Doctype.HTML5, out).span().clazz(EncodedAttributeValue.valueOf("")).__("Text");
+		assertEquals("<span>Text</span>", out.toString());
+	}
+
+	/**
+	 * Adds a session id to URLs.
+	 */
+	private static EncodingContext withSession(String session) {
+		return new EncodingContext() {
+			@Override
+			public Serialization getSerialization() {
+				return Serialization.SGML;
+			}
+
+			@Override
+			public Doctype getDoctype() {
+				return Doctype.HTML5;
+			}
+
+			@Override
+			public String encodeURL(String href) {
+				return href + ";jsessionid=" + session;
+			}
+		};
+	}
+
+	@Test
+	public void testHrefMatchesBase() throws IOException {
+		EncodingContext context = withSession("1");
+		EncodedAttributeValue href = EncodedAttributeValue.valueOfURL(context, "/page?a=1&b=2");
+		assertSame(context, href.getEncodingContext());
+		StringWriter expected = new StringWriter();
+		new Document(context, expected).a().href("/page?a=1&b=2").__("Link");
+		StringWriter out = new StringWriter();
+		new Document(context, out).a().href(href).__("Link");
+		assertEquals(expected.toString(), out.toString());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testHrefOtherContext() throws IOException {
+		EncodedAttributeValue href = EncodedAttributeValue.valueOfURL(withSession("1"), "/page");
+		new Document(withSession("2"), new StringWriter()).a().href(href).__("Link");
+	}
+
+	@Test
+	public void testAnyContext() throws IOException {
+		EncodedAttributeValue clazz = EncodedAttributeValue.valueOf("btn");
+		assertNull(clazz.getEncodingContext());
+		for(String session : new String[] {"1", "2"}) {
+			StringWriter out = new StringWriter();
+			new Document(withSession(session), out).a().clazz(clazz).__("Link");
+			assertEquals("<a class=\"btn\">Link</a>", out.toString());
+		}
+	}
+
+	@Test
+	public void testEquals() {
+		String value = "<a & b>";
+		assertEquals(EncodedAttributeValue.valueOf(value), EncodedAttributeValue.valueOf(value));
+		assertEquals(EncodedText.valueOf(value), EncodedText.valueOf(value));
+		assertNotEquals(EncodedText.valueOf(value), EncodedAttributeValue.valueOf(value));
+		EncodingContext context = withSession("1");
+		assertEquals(EncodedAttributeValue.valueOfURL(context, "/page"), EncodedAttributeValue.valueOfURL(context, "/page"));
+		assertNotEquals(EncodedAttributeValue.valueOfURL(context, "/page"), EncodedAttributeValue.valueOfURL(withSession("2"), "/page"));
+		assertNotEquals(EncodedAttributeValue.valueOf("/page"), EncodedAttributeValue.valueOfURL(context, "/page"));
+	}
+}
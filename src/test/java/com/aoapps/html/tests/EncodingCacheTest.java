@@ -0,0 +1,216 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import com.aoapps.html.EncodingCache;
+import com.aoapps.html.Template;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+/**
+ * @see  EncodingCache
+ *
+ * @author  AO Industries, Inc.
+ */
+public class EncodingCacheTest {
+
+	private static String text(EncodingCache cache, String text) throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.setEncodingCache(cache);
+		document.text(text);
+		return out.toString();
+	}
+
+	private static void assertCounts(EncodingCache cache, long hits, long misses) {
+		assertEquals("hits", hits, cache.getHits());
+		assertEquals("misses", misses, cache.getMisses());
+	}
+
+	@Test
+	public void testOffByDefault() {
+		assertNull(new Document(Serialization.SGML, Doctype.HTML5, new StringWriter()).getEncodingCache());
+	}
+
+	@Test
+	public void testSize() {
+		assertEquals(1, new EncodingCache(1).getSize());
+		assertEquals(16, new EncodingCache(16).getSize());
+		assertEquals(32, new EncodingCache(17).getSize());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSizeTooSmall() {
+		new EncodingCache(0);
+	}
+
+	@Test
+	public void testHitsAfterSeenTwice() throws IOException {
+		EncodingCache cache = new EncodingCache(16);
+		String str = "<a & b>";
+		// First: recorded only
+		assertEquals("&lt;a &amp; b&gt;", text(cache, str));
+		assertCounts(cache, 0, 1);
+		// Second: encoded and cached
+		assertEquals("&lt;a &amp; b&gt;", text(cache, str));
+		assertCounts(cache, 0, 2);
+		// Then written from the cache
+		for(int i = 1; i <= 3; i++) {
+			assertEquals("&lt;a &amp; b&gt;", text(cache, str));
+			assertCounts(cache, i, 2);
+		}
+		assertEquals(0.6, cache.getHitRatio(), 0);
+	}
+
+	@Test
+	public void testCleanStringHits() throws IOException {
+		EncodingCache cache = new EncodingCache(16);
+		String str = "Clean";
+		for(int i = 0; i < 3; i++) {
+			assertEquals(str, text(cache, str));
+		}
+		assertCounts(cache, 1, 2);
+	}
+
+	@Test
+	public void testKeyedByIdentity() throws IOException {
+		EncodingCache cache = new EncodingCache(16);
+		String str = "<a & b>";
+		text(cache, str);
+		text(cache, str);
+		// An equal string that is a different instance is not a hit
+		String copy = new String(str.toCharArray());
+		assertEquals("&lt;a &amp; b&gt;", text(cache, copy));
+		assertEquals(0, cache.getHits());
+	}
+
+	@Test
+	public void testLongStringsNotCounted() throws IOException {
+		EncodingCache cache = new EncodingCache(16);
+		char[] chars = new char[EncodingCache.MAX_LENGTH + 1];
+		Arrays.fill(chars, '&');
+		String str = new String(chars);
+		String expected = str.replace("&", "&amp;");
+		for(int i = 0; i < 3; i++) {
+			assertEquals(expected, text(cache, str));
+		}
+		assertCounts(cache, 0, 0);
+	}
+
+	@Test
+	public void testCollisionReplaces() throws IOException {
+		// A single entry, so every string collides
+		EncodingCache cache = new EncodingCache(1);
+		String first = "<first>";
+		String second = "<second>";
+		text(cache, first);
+		text(cache, first);
+		assertEquals("&lt;first&gt;", text(cache, first));
+		assertCounts(cache, 1, 2);
+		// Replaces the entry for first
+		assertEquals("&lt;second&gt;", text(cache, second));
+		assertCounts(cache, 1, 3);
+		// No longer cached, so is recorded again
+		assertEquals("&lt;first&gt;", text(cache, first));
+		assertCounts(cache, 1, 4);
+		assertEquals("&lt;first&gt;", text(cache, first));
+		assertCounts(cache, 1, 5);
+		assertEquals("&lt;first&gt;", text(cache, first));
+		assertCounts(cache, 2, 5);
+	}
+
+	@Test
+	public void testClear() throws IOException {
+		EncodingCache cache = new EncodingCache(16);
+		String str = "<a>";
+		text(cache, str);
+		text(cache, str);
+		cache.clear();
+		text(cache, str);
+		assertCounts(cache, 0, 3);
+	}
+
+	@Test
+	public void testTextAndAttributeSeparate() throws IOException {
+		EncodingCache cache = new EncodingCache(1);
+		String str = "<\"a\" & 'b'>";
+		Template<String, RuntimeException> template = new Template<>((document, holes) ->
+			document.div().title(holes.attribute(m -> m)).__(holes.text(m -> m))
+		);
+		String expected = null;
+		for(int i = 0; i < 3; i++) {
+			StringWriter out = new StringWriter();
+			Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+			document.setEncodingCache(cache);
+			template.render(document, str);
+			if(expected == null) expected = out.toString();
+			else assertEquals(expected, out.toString());
+		}
+		// The same string in both contexts does not collide
+		assertCounts(cache, 2, 4);
+	}
+
+	private static final String[] CLASSES = {null, "", "  ", "btn", " btn btn-primary ", "<\"a\" & 'b'>", "\u00e9\u4e2d\ud83d\ude00"};
+
+	@Test
+	public void testClassMatchesBase() throws IOException {
+		for(Serialization serialization : Serialization.values()) {
+			for(EncodingCache cache : new EncodingCache[] {null, new EncodingCache(16)}) {
+				for(String clazz : CLASSES) {
+					// Three times, to write both before and after being cached
+					for(int i = 0; i < 3; i++) {
+						StringWriter expected = new StringWriter();
+						Document base = new Document(serialization, Doctype.HTML5, expected);
+						base.div().clazz((Object)clazz).__(div -> div.span().clazz((Object)clazz).__("Text"));
+						StringWriter out = new StringWriter();
+						Document document = new Document(serialization, Doctype.HTML5, out);
+						document.setEncodingCache(cache);
+						document.div().clazz(clazz).__(div -> div.span().clazz(clazz).__("Text"));
+						assertEquals(serialization + ", " + clazz, expected.toString(), out.toString());
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testClassHits() throws IOException {
+		EncodingCache cache = new EncodingCache(16);
+		String clazz = "btn & more";
+		for(int i = 0; i < 5; i++) {
+			StringWriter out = new StringWriter();
+			Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+			document.setEncodingCache(cache);
+			document.td().clazz(clazz).__();
+			assertEquals("<td class=\"btn &amp; more\"></td>", out.toString());
+		}
+		assertCounts(cache, 3, 2);
+	}
+}
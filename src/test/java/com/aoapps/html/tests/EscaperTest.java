@@ -0,0 +1,193 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import com.aoapps.html.EncodedAttributeValue;
+import com.aoapps.html.EncodedText;
+import com.aoapps.html.EncodingCache;
+import com.aoapps.lang.Strings;
+import com.aoapps.lang.io.function.IOConsumerE;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Differential fuzz test of the escaping of {@link Document#text(java.lang.Object)}, {@link EncodedText}, the
+ * <code>class</code> attribute, and {@link EncodedAttributeValue} against the paths of the base library they bypass,
+ * through real elements in every {@link Serialization} and {@link Doctype}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class EscaperTest {
+
+	private static final int ITERATIONS = 100_000;
+
+	private static final EncodingCache CACHE = new EncodingCache(EncodingCache.DEFAULT_SIZE);
+
+	private static final Serialization[] SERIALIZATIONS = Serialization.values();
+
+	private static final Doctype[] DOCTYPES = Doctype.values();
+
+	/**
+	 * Longer than the blocks strings are escaped in.
+	 */
+	private static final int LONG_LENGTH = 3 * 1024;
+
+	/**
+	 * Characters mixed into otherwise clean strings, including those escaped, control and invalid characters, and
+	 * characters beyond ASCII.
+	 */
+	private static final String DIRTY =
+		"&<>\"'\t\n\r\u0000\u0001\u001f\u007f\u0080\u009f \u00e9\u4e2d\ud83d\ude00\ud800\udc00\ufffe\uffff";
+
+	private static String randomString(Random random, int maxLength) {
+		int len = random.nextInt(maxLength + 1);
+		int dirtyOneIn = 1 + random.nextInt(64);
+		StringBuilder sb = new StringBuilder(len);
+		for(int i = 0; i < len; i++) {
+			if(random.nextInt(dirtyOneIn) == 0) {
+				sb.append(DIRTY.charAt(random.nextInt(DIRTY.length())));
+			} else {
+				sb.append((char)(' ' + random.nextInt('~' - ' ' + 1)));
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Writes to a new document, returning the output or the class of the exception thrown.
+	 */
+	private static String render(Serialization serialization, Doctype doctype, boolean cached, IOConsumerE<? super Document, IOException> body) {
+		StringWriter out = new StringWriter();
+		try {
+			Document document = new Document(serialization, doctype, out);
+			document.setEncodingCache(cached ? CACHE : null);
+			body.accept(document);
+			return out.toString();
+		} catch(IOException | IllegalArgumentException e) {
+			return e.getClass().getName();
+		}
+	}
+
+	/**
+	 * Gets the output of the text path of the base library, which escapes any value other than a {@link String} or
+	 * {@link EncodedText}.
+	 */
+	private static String baselineText(Serialization serialization, Doctype doctype, String s) {
+		return render(serialization, doctype, false, document -> document.text(new StringBuilder(s)));
+	}
+
+	/**
+	 * Gets the output of the class attribute path of the base library, which escapes any value given as an
+	 * {@link Object}.
+	 */
+	private static String baselineAttribute(Serialization serialization, Doctype doctype, String s) {
+		return render(serialization, doctype, false, document -> document.div().clazz((Object)new StringBuilder(s)).__());
+	}
+
+	/**
+	 * Cycles through every serialization and doctype.
+	 */
+	private static Serialization serialization(int i) {
+		return SERIALIZATIONS[i % SERIALIZATIONS.length];
+	}
+
+	private static Doctype doctype(int i) {
+		return DOCTYPES[(i / SERIALIZATIONS.length) % DOCTYPES.length];
+	}
+
+	private static String nextString(Random random, int i) {
+		// Some strings span multiple blocks
+		return randomString(random, (i % 100 == 0) ? LONG_LENGTH : 40);
+	}
+
+	@Test
+	public void testFuzzDocumentText() {
+		Random random = new Random(0);
+		for(int i = 0; i < ITERATIONS; i++) {
+			String s = nextString(random, i);
+			Serialization serialization = serialization(i);
+			Doctype doctype = doctype(i);
+			String expected = baselineText(serialization, doctype, s);
+			String message = serialization + ", " + doctype + ", " + s;
+			assertEquals(message, expected, render(serialization, doctype, false, document -> document.text(s)));
+			// Twice, to write once encoded and once from the cache
+			assertEquals(message, expected, render(serialization, doctype, true, document -> document.text(s)));
+			assertEquals(message, expected, render(serialization, doctype, true, document -> document.text(s)));
+		}
+	}
+
+	@Test
+	public void testFuzzEncodedText() {
+		Random random = new Random(1);
+		for(int i = 0; i < ITERATIONS; i++) {
+			String s = nextString(random, i);
+			Serialization serialization = serialization(i);
+			Doctype doctype = doctype(i);
+			assertEquals(
+				serialization + ", " + doctype + ", " + s,
+				baselineText(serialization, doctype, s),
+				render(serialization, doctype, false, document -> document.text(EncodedText.valueOf(s)))
+			);
+		}
+	}
+
+	@Test
+	public void testFuzzAttribute() {
+		Random random = new Random(2);
+		for(int i = 0; i < ITERATIONS; i++) {
+			String s = nextString(random, i);
+			Serialization serialization = serialization(i);
+			Doctype doctype = doctype(i);
+			String expected = baselineAttribute(serialization, doctype, s);
+			String message = serialization + ", " + doctype + ", " + s;
+			assertEquals(message, expected, render(serialization, doctype, false, document -> document.div().clazz(s).__()));
+			// Twice, to write once encoded and once from the cache
+			assertEquals(message, expected, render(serialization, doctype, true, document -> document.div().clazz(s).__()));
+			assertEquals(message, expected, render(serialization, doctype, true, document -> document.div().clazz(s).__()));
+		}
+	}
+
+	@Test
+	public void testFuzzEncodedAttributeValue() {
+		Random random = new Random(3);
+		for(int i = 0; i < ITERATIONS; i++) {
+			// Pre-encoded values are written as given, so are compared once trimmed as the base library does
+			String s = Strings.trimNullIfEmpty(nextString(random, i));
+			if(s != null) {
+				Serialization serialization = serialization(i);
+				Doctype doctype = doctype(i);
+				assertEquals(
+					serialization + ", " + doctype + ", " + s,
+					baselineAttribute(serialization, doctype, s),
+					render(serialization, doctype, false, document -> document.div().clazz(EncodedAttributeValue.valueOf(s)).__())
+				);
+			}
+		}
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.DIV__;
+import com.aoapps.html.Document;
+import com.aoapps.html.SPAN;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+import org.junit.Test;
+
+/**
+ * @see  Document#setFlyweights(boolean)
+ *
+ * @author  AO Industries, Inc.
+ */
+public class FlyweightsTest {
+
+	private static Document newDocument(StringWriter out, boolean flyweights) {
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.setFlyweights(flyweights);
+		return document;
+	}
+
+	private static String page(boolean flyweights, boolean indent) throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = newDocument(out, flyweights);
+		document.setIndent(indent);
+		for(int i = 0; i < 3; i++) {
+			int row = i;
+			document.div().clazz("row").__(div -> {
+				div.span().clazz("label").__("Row " + row);
+				div.span__(span -> span.b__(row));
+				div.ul__(ul -> {
+					for(int j = 0; j < row; j++) ul.li__(j);
+				});
+				div.input().text().name("field" + row).value(row).__();
+			});
+		}
+		return out.toString();
+	}
+
+	@Test
+	public void testSameOutput() throws IOException {
+		for(boolean indent : new boolean[] {false, true}) {
+			assertEquals("indent=" + indent, page(false, indent), page(true, indent));
+		}
+	}
+
+	@Test
+	public void testSiblingsReused() throws IOException {
+		Document document = newDocument(new StringWriter(), true);
+		List<SPAN<?>> spans = new ArrayList<>();
+		List<DIV__<?>> divs = new ArrayList<>();
+		for(int i = 0; i < 3; i++) {
+			document.div__(div -> {
+				divs.add(div);
+				for(int j = 0; j < 2; j++) {
+					SPAN<?> span = div.span();
+					spans.add(span);
+					span.__("Text");
+				}
+			});
+		}
+		for(int i = 1; i < divs.size(); i++) assertSame(divs.get(0), divs.get(i));
+		for(int i = 1; i < spans.size(); i++) assertSame(spans.get(0), spans.get(i));
+	}
+
+	@Test
+	public void testConsecutiveInputsOfDifferentTypes() throws IOException {
+		for(boolean flyweights : new boolean[] {false, true}) {
+			StringWriter out = new StringWriter();
+			Document document = newDocument(out, flyweights);
+			document.div__(div -> {
+				assertSame(div.input(), div.input());
+				div.input().text().name("first").value(1).__();
+				div.input().checkbox().name("second").checked(true).__();
+				div.input().text().name("third").__();
+				div.input().dynamic("hidden").value("fourth").__();
+				div.input().text().__();
+			});
+			assertEquals(
+				"flyweights=" + flyweights,
+				"<div><input type=\"text\" name=\"first\" value=\"1\">"
+					+ "<input type=\"checkbox\" name=\"second\" checked>"
+					+ "<input type=\"text\" name=\"third\">"
+					+ "<input type=\"hidden\" value=\"fourth\">"
+					+ "<input type=\"text\"></div>",
+				out.toString()
+			);
+		}
+	}
+
+	@Test
+	public void testNotReusedWhenDisabled() throws IOException {
+		Document document = newDocument(new StringWriter(), false);
+		List<DIV__<?>> divs = new ArrayList<>();
+		document.div__(divs::add);
+		document.div__(divs::add);
+		assertNotSame(divs.get(0), divs.get(1));
+	}
+
+	@Test
+	public void testStaleHandleThrowsWithAssertions() throws IOException {
+		assumeTrue("Only detected with assertions", Document.class.desiredAssertionStatus());
+		Document document = newDocument(new StringWriter(), true);
+		List<DIV__<?>> divs = new ArrayList<>();
+		document.div__(divs::add);
+		document.p__("Closes the div");
+		try {
+			divs.get(0).span();
+			fail("Expected IllegalStateException");
+		} catch(IllegalStateException e) {
+			// Expected
+		}
+	}
+
+	@Test
+	public void testStaleHandleCreatesNewElementWithoutAssertions() throws IOException {
+		assumeTrue("Only without assertions", !Document.class.desiredAssertionStatus());
+		StringWriter out = new StringWriter();
+		Document document = newDocument(out, true);
+		List<DIV__<?>> divs = new ArrayList<>();
+		document.div__(divs::add);
+		document.p__("Closes the div");
+		SPAN<?> span = divs.get(0).span();
+		span.__("Stale");
+		assertEquals("<div></div><p>Closes the div</p><span>Stale</span>", out.toString());
+	}
+
+	@Test
+	public void testStaleSiblingNotDetected() throws IOException {
+		Document document = newDocument(new StringWriter(), true);
+		List<DIV__<?>> divs = new ArrayList<>();
+		document.div__(divs::add);
+		// The next div reuses the same content model, so the first is open again
+		document.div__(divs::add);
+		assertSame(divs.get(0), divs.get(1));
+		divs.get(0).span__("Not detected");
+	}
+
+	@Test
+	public void testStaleTextNotChecked() throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = newDocument(out, true);
+		List<DIV__<?>> divs = new ArrayList<>();
+		document.div__(divs::add);
+		document.p__("Closes the div");
+		divs.get(0).text("Not checked");
+		assertEquals("<div></div><p>Closes the div</p>Not checked", out.toString());
+	}
+}
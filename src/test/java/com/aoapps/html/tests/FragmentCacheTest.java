@@ -0,0 +1,189 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import com.aoapps.html.FragmentCache;
+import com.aoapps.lang.io.function.IOConsumerE;
+import java.io.IOException;
+import java.io.StringWriter;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * {@link Document#cached(java.lang.Object, com.aoapps.lang.io.function.IOConsumerE)} must write the same as rendering
+ * the body directly, both when recording and when replaying.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class FragmentCacheTest {
+
+	private static final Object KEY = FragmentCacheTest.class;
+
+	private static final IOConsumerE<Document, IOException> BODY = document -> document
+		.div__(div -> div
+			.p__("Cached <text>")
+			.ul__(ul -> ul.li__("One").li__("Two"))
+		);
+
+	/**
+	 * Writes the body at several positions: after text, after a newline, nested, and at the top level.
+	 *
+	 * @param  cache  The cache to use or {@code null} to render the body directly
+	 */
+	private static void section(Document document, FragmentCache cache, IOConsumerE<Document, IOException> body) throws IOException {
+		if(cache == null) body.accept(document);
+		else document.cached(KEY, body);
+	}
+
+	private static String page(boolean indent, boolean minify, FragmentCache cache, IOConsumerE<Document, IOException> body) throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.setIndent(indent);
+		document.setMinify(minify);
+		if(cache != null) document.setFragmentCache(cache);
+		document.div__(div -> {
+			div.text("Inline");
+			section(document, cache, body);
+			document.getUnsafe(true).write('\n');
+			section(document, cache, body);
+			div.p__("Between");
+			div.div__(nested -> section(document, cache, body));
+		});
+		section(document, cache, body);
+		document.p__("Held end tag when minifying");
+		section(document, cache, body);
+		document.flush();
+		return out.toString();
+	}
+
+	private static void assertCachedMatchesLive(IOConsumerE<Document, IOException> body) throws IOException {
+		for(boolean indent : new boolean[] {false, true}) {
+			for(boolean minify : new boolean[] {false, true}) {
+				if(indent && minify) continue;
+				String message = "indent=" + indent + ", minify=" + minify;
+				String live = page(indent, minify, null, body);
+				FragmentCache cache = new FragmentCache(FragmentCache.DEFAULT_MAX_SIZE);
+				// Records on first use within the page
+				assertEquals(message, live, page(indent, minify, cache, body));
+				// Replays from the cache
+				long misses = cache.getMisses();
+				assertEquals(message, live, page(indent, minify, cache, body));
+				assertEquals(message, misses, cache.getMisses());
+			}
+		}
+	}
+
+	@Test
+	public void testCachedMatchesLive() throws IOException {
+		assertCachedMatchesLive(BODY);
+	}
+
+	@Test
+	public void testEndingInOptionalEndTag() throws IOException {
+		assertCachedMatchesLive(document -> document.p__("Ends in optional end tag"));
+		assertCachedMatchesLive(document -> document.ul__(ul -> ul.li__("Last")).p__("Last"));
+	}
+
+	@Test
+	public void testAsyncWithinBody() throws IOException {
+		assertCachedMatchesLive(document -> {
+			document.async__(region -> region.p__("Async in cached"));
+			document.awaitAsync();
+		});
+	}
+
+	private static FragmentCache afterTextAndNewLine(boolean indent) throws IOException {
+		FragmentCache cache = new FragmentCache(FragmentCache.DEFAULT_MAX_SIZE);
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, new StringWriter());
+		document.setIndent(indent);
+		document.setFragmentCache(cache);
+		document.text("Inline");
+		document.cached(KEY, BODY);
+		document.getUnsafe(true).write('\n');
+		document.cached(KEY, BODY);
+		return cache;
+	}
+
+	@Test
+	public void testKeyedByNewLineWhenIndenting() throws IOException {
+		FragmentCache cache = afterTextAndNewLine(true);
+		assertEquals(2, cache.size());
+		assertEquals(2, cache.getMisses());
+		cache = afterTextAndNewLine(false);
+		assertEquals(1, cache.size());
+		assertEquals(1, cache.getHits());
+	}
+
+	/**
+	 * Adds a session id to URLs.
+	 */
+	private static EncodingContext withSession(String session) {
+		return new EncodingContext() {
+			@Override
+			public Serialization getSerialization() {
+				return Serialization.SGML;
+			}
+
+			@Override
+			public Doctype getDoctype() {
+				return Doctype.HTML5;
+			}
+
+			@Override
+			public String encodeURL(String href) {
+				return href + ";jsessionid=" + session;
+			}
+		};
+	}
+
+	private static String link(FragmentCache cache, EncodingContext context) throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(context, out);
+		document.setFragmentCache(cache);
+		document.cached(KEY, cached -> cached.a().href("/page").__("Link"));
+		return out.toString();
+	}
+
+	@Test
+	public void testKeyedByEncodingContext() throws IOException {
+		FragmentCache cache = new FragmentCache(FragmentCache.DEFAULT_MAX_SIZE);
+		EncodingContext session1 = withSession("1");
+		assertEquals("<a href=\"/page;jsessionid=1\">Link</a>", link(cache, session1));
+		assertEquals("<a href=\"/page;jsessionid=2\">Link</a>", link(cache, withSession("2")));
+		assertEquals(2, cache.getMisses());
+		// Equal contexts share entries
+		assertEquals("<a href=\"/page;jsessionid=1\">Link</a>", link(cache, session1));
+		assertEquals(1, cache.getHits());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testDeferredNotCached() throws IOException {
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, new StringWriter());
+		document.setFragmentCache(new FragmentCache(1));
+		document.cached(KEY, cached -> cached.deferred__(deferred -> deferred.text("Deferred")));
+	}
+}
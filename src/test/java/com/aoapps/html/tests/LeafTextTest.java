@@ -0,0 +1,126 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import com.aoapps.html.EncodedText;
+import java.io.IOException;
+import java.io.StringWriter;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Leaf elements with only text are written directly, which must match creating the element.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class LeafTextTest {
+
+	private static final String[] TEXTS = {"", "Text", "<&\"'>", "é中😀", "Line\n"};
+
+	private static Document newDocument(Serialization serialization, Doctype doctype, boolean indent, StringWriter out) {
+		Document document = new Document(serialization, doctype, out);
+		document.setIndent(indent);
+		return document;
+	}
+
+	private static String direct(Serialization serialization, Doctype doctype, boolean indent, Object text) throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = newDocument(serialization, doctype, indent, out);
+		document.div__(div -> div
+			.span__(text)
+			.p__(text)
+			.ul__(ul -> ul.li__(text))
+		);
+		document.table__(table -> table.tbody__(tbody -> tbody.tr__(tr -> tr.td__(text).th__(text))));
+		document
+			.h1__(text)
+			.h2__(text)
+			.h3__(text)
+			.h4__(text)
+			.h5__(text)
+			.h6__(text)
+			.div__(text)
+			.dl__(dl -> dl.dt__(text).dd__(text));
+		document.select__(select -> select
+			.option__(text)
+			.optgroup().label("Group").__(optgroup -> optgroup.option__(text))
+		);
+		document.datalist().id("list").__(datalist -> datalist.option__(text));
+		document.p__(p -> p
+			.abbr__(text).b__(text).bdi__(text).cite__(text).code__(text).dfn__(text).em__(text).i__(text)
+			.kbd__(text).mark__(text).q__(text).s__(text).samp__(text).small__(text).strong__(text)
+			.sub__(text).sup__(text).u__(text).var__(text)
+		);
+		return out.toString();
+	}
+
+	private static String created(Serialization serialization, Doctype doctype, boolean indent, Object text) throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = newDocument(serialization, doctype, indent, out);
+		document.div__(div -> div
+			.span().__(text)
+			.p().__(text)
+			.ul__(ul -> ul.li().__(text))
+		);
+		document.table__(table -> table.tbody__(tbody -> tbody.tr__(tr -> tr.td().__(text).th().__(text))));
+		document.h1().__(text);
+		document.h2().__(text);
+		document.h3().__(text);
+		document.h4().__(text);
+		document.h5().__(text);
+		document.h6().__(text);
+		document.div().__(text);
+		document.dl__(dl -> dl.dt().__(text).dd().__(text));
+		document.select__(select -> select
+			.option().__(text)
+			.optgroup().label("Group").__(optgroup -> optgroup.option().__(text))
+		);
+		document.datalist().id("list").__(datalist -> datalist.option().__(text));
+		document.p__(p -> p
+			.abbr().__(text).b().__(text).bdi().__(text).cite().__(text).code().__(text).dfn().__(text)
+			.em().__(text).i().__(text).kbd().__(text).mark().__(text).q().__(text).s().__(text)
+			.samp().__(text).small().__(text).strong().__(text).sub().__(text).sup().__(text).u().__(text)
+			.var().__(text)
+		);
+		return out.toString();
+	}
+
+	@Test
+	public void testIdenticalToCreated() throws IOException {
+		for(Serialization serialization : Serialization.values()) {
+			for(Doctype doctype : Doctype.values()) {
+				for(boolean indent : new boolean[] {false, true}) {
+					for(String text : TEXTS) {
+						String message = serialization + ", " + doctype + ", indent=" + indent + ", text=" + text;
+						String expected = created(serialization, doctype, indent, text);
+						assertEquals(message, expected, direct(serialization, doctype, indent, text));
+						assertEquals(message, expected, direct(serialization, doctype, indent, EncodedText.valueOf(text)));
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,235 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import java.io.IOException;
+import java.io.StringWriter;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * Golden tests of {@link Document#setMinify(boolean)}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class MinifyTest {
+
+	/**
+	 * Writes the given markup through a minifying document, one character at a time and all at once.
+	 */
+	private static void assertMinified(String expected, String html) throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.setMinify(true);
+		document.getUnsafe(null).write(html);
+		document.flush();
+		assertEquals(html, expected, out.toString());
+
+		out = new StringWriter();
+		document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.setMinify(true);
+		for(int i = 0; i < html.length(); i++) {
+			document.getUnsafe(null).write(html.charAt(i));
+		}
+		document.flush();
+		assertEquals(html, expected, out.toString());
+	}
+
+	private static void assertUnchanged(String html) throws IOException {
+		assertMinified(html, html);
+	}
+
+	@Test
+	public void testLi() throws IOException {
+		assertMinified("<ul><li>a<li>b</ul>", "<ul><li>a</li><li>b</li></ul>");
+		assertMinified("<ol><li>a<li>b</ol>", "<ol><li>a</li><li>b</li></ol>");
+	}
+
+	@Test
+	public void testDtDd() throws IOException {
+		assertMinified("<dl><dt>a<dd>b<dt>c<dd>d</dl>", "<dl><dt>a</dt><dd>b</dd><dt>c</dt><dd>d</dd></dl>");
+		assertMinified("<dl><dt>a<dt>b<dd>c</dl>", "<dl><dt>a</dt><dt>b</dt><dd>c</dd></dl>");
+		// dt must be followed by dt or dd
+		assertUnchanged("<dl><dt>a</dt></dl>");
+		assertUnchanged("<dl><div><dt>a</dt></div></dl>");
+	}
+
+	@Test
+	public void testPBeforeStart() throws IOException {
+		for(String next : new String[] {
+			"address", "article", "aside", "blockquote", "details", "dialog", "div", "dl", "fieldset", "figcaption",
+			"figure", "footer", "form", "h1", "h2", "h3", "h4", "h5", "h6", "header", "hgroup", "main", "menu", "nav",
+			"ol", "p", "pre", "search", "section", "table", "ul"
+		}) {
+			assertMinified("<p>a<" + next + ">b</" + next + ">", "<p>a</p><" + next + ">b</" + next + ">");
+		}
+		assertMinified("<p>a<hr>", "<p>a</p><hr>");
+		assertUnchanged("<p>a</p><span>b</span>");
+		assertUnchanged("<p>a</p><img src=b>");
+		assertUnchanged("<p>a</p>b");
+	}
+
+	@Test
+	public void testPBeforeEnd() throws IOException {
+		assertMinified("<div><p>a</div>", "<div><p>a</p></div>");
+		assertMinified("<section><p>a<p>b</section>", "<section><p>a</p><p>b</p></section>");
+		for(String parent : new String[] {"a", "audio", "del", "ins", "map", "noscript", "video"}) {
+			assertUnchanged("<" + parent + "><p>a</p></" + parent + ">");
+		}
+		// Autonomous custom elements
+		assertUnchanged("<my-element><p>a</p></my-element>");
+		assertMinified("<x-y-z><p>a<p>b</p></x-y-z>", "<x-y-z><p>a</p><p>b</p></x-y-z>");
+	}
+
+	@Test
+	public void testOptgroupOption() throws IOException {
+		assertMinified(
+			"<select><optgroup label=G><option>a<option>b<optgroup label=H><option>c</select>",
+			"<select><optgroup label=\"G\"><option>a</option><option>b</option></optgroup><optgroup label=\"H\"><option>c</option></optgroup></select>"
+		);
+		assertMinified("<select><option>a<hr><option>b</select>", "<select><option>a</option><hr><option>b</option></select>");
+		assertMinified("<datalist><option>a<option>b</datalist>", "<datalist><option>a</option><option>b</option></datalist>");
+	}
+
+	@Test
+	public void testTable() throws IOException {
+		assertMinified(
+			"<table><thead><tr><th>h<th>i<tbody><tr><td>a<td>b<tr><td>c<tfoot><tr><td>f</table>",
+			"<table><thead><tr><th>h</th><th>i</th></tr></thead>"
+			+ "<tbody><tr><td>a</td><td>b</td></tr><tr><td>c</td></tr></tbody>"
+			+ "<tfoot><tr><td>f</td></tr></tfoot></table>"
+		);
+		// Nested td, tr, and tbody collapse at the end of the table
+		assertMinified("<table><tbody><tr><td>a</table>", "<table><tbody><tr><td>a</td></tr></tbody></table>");
+		assertMinified("<table><tbody><tr><td>a<tbody><tr><td>b</table>", "<table><tbody><tr><td>a</td></tr></tbody><tbody><tr><td>b</td></tr></tbody></table>");
+		// thead must be followed by tbody or tfoot
+		assertMinified("<table><thead><tr><th>h</thead></table>", "<table><thead><tr><th>h</th></tr></thead></table>");
+		// Nested table
+		assertMinified(
+			"<table><tbody><tr><td><table><tbody><tr><td>a</table></table>",
+			"<table><tbody><tr><td><table><tbody><tr><td>a</td></tr></tbody></table></td></tr></tbody></table>"
+		);
+	}
+
+	@Test
+	public void testBody() throws IOException {
+		assertMinified("<html><body><p>a</html>", "<html><body><p>a</p></body></html>");
+		// Not when followed by a comment
+		assertUnchanged("<html><body>a</body><!-- c --></html>");
+	}
+
+	@Test
+	public void testEndTagHeldUntilFlush() throws IOException {
+		assertUnchanged("<p>a</p>");
+		assertUnchanged("<li>a</li>");
+	}
+
+	@Test
+	public void testAttributeQuotes() throws IOException {
+		assertMinified(
+			"<div class=a id=b-c title=\"b c\" data-x=\"\" lang=en-US>d</div>",
+			"<div class=\"a\" id=\"b-c\" title=\"b c\" data-x=\"\" lang=\"en-US\">d</div>"
+		);
+		for(String quoted : new String[] {"a b", "a\tb", "a\nb", "a=b", "a<b", "a>b", "a`b", "a'b"}) {
+			assertUnchanged("<div title=\"" + quoted + "\"></div>");
+		}
+	}
+
+	@Test
+	public void testAttributeEntities() throws IOException {
+		assertMinified(
+			"<div title=a&amp;b data-q=&quot;x&quot; data-lt=a&lt;b data-apos=&#39;></div>",
+			"<div title=\"a&amp;b\" data-q=\"&quot;x&quot;\" data-lt=\"a&lt;b\" data-apos=\"&#39;\"></div>"
+		);
+		assertUnchanged("<div title=\"a &amp; b\"></div>");
+	}
+
+	@Test
+	public void testBooleanAttributes() throws IOException {
+		assertMinified(
+			"<input type=checkbox checked disabled readonly value=checked>",
+			"<input type=\"checkbox\" checked=\"checked\" disabled=\"disabled\" readonly=\"readonly\" value=\"checked\">"
+		);
+		assertMinified("<select multiple><option selected>a</select>", "<select multiple=\"multiple\"><option selected=\"selected\">a</option></select>");
+		assertMinified("<details open>a</details>", "<details open=\"open\">a</details>");
+		// Already minimized
+		assertUnchanged("<input checked>");
+		// Only when the value is the name
+		assertMinified("<input checked=true>", "<input checked=\"true\">");
+		assertMinified("<div data-checked=data-checked></div>", "<div data-checked=\"data-checked\"></div>");
+	}
+
+	@Test
+	public void testScriptAndStyle() throws IOException {
+		assertUnchanged("<script>if(a</b) x=\"</p>\";</script>");
+		assertUnchanged("<style>a[title=\"b c\"]{color:red}</style>");
+		// Not the end of the script
+		assertUnchanged("<script>a</scriptx>b<p></p></script>");
+		assertUnchanged("<style>a</stylex>b<li></li></style>");
+		assertMinified("<script>a</scriptx>b<ul><li>c</ul></script><ul><li>d</ul>", "<script>a</scriptx>b<ul><li>c</ul></script><ul><li>d</li></ul>");
+		// End tags are case-insensitive
+		assertMinified("<script>a<p></p></SCRIPT><ul><li>b</ul>", "<script>a<p></p></SCRIPT><ul><li>b</li></ul>");
+		assertMinified("<STYLE>a<p></p></Style><ul><li>b</ul>", "<STYLE>a<p></p></Style><ul><li>b</li></ul>");
+		// End tags followed by whitespace or slash
+		assertMinified("<script>a<p></p></script ><ul><li>b</ul>", "<script>a<p></p></script ><ul><li>b</li></ul>");
+		assertMinified("<script>a<p></p></script/><ul><li>b</ul>", "<script>a<p></p></script/><ul><li>b</li></ul>");
+		// Attributes of script unquoted
+		assertMinified("<script src=a.js></script>", "<script src=\"a.js\"></script>");
+	}
+
+	@Test
+	public void testComments() throws IOException {
+		assertMinified("<ul><li>a</li><!-- </li> --><li>b</ul>", "<ul><li>a</li><!-- </li> --><li>b</li></ul>");
+		assertUnchanged("<!-- <p class=\"a\"></p> -- - -->");
+		assertUnchanged("<!---->");
+		assertMinified("<!-- a --><p class=b>c</p>", "<!-- a --><p class=\"b\">c</p>");
+	}
+
+	@Test
+	public void testDoctype() throws IOException {
+		assertMinified("<!DOCTYPE html><html><body><p>a</html>", "<!DOCTYPE html><html><body><p>a</p></body></html>");
+		assertUnchanged("<?xml version=\"1.0\"?>");
+	}
+
+	@Test
+	public void testDocument() throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.setMinify(true);
+		document.ul__(ul -> ul
+			.li__("One")
+			.li__("<Two>")
+		);
+		document.p__("Last");
+		document.flush();
+		assertEquals("<ul><li>One<li>&lt;Two&gt;</ul><p>Last</p>", out.toString());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testXmlNotSupported() throws IOException {
+		new Document(Serialization.XML, Doctype.HTML5, new StringWriter()).setMinify(true);
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import com.aoapps.lang.io.function.IOConsumerE;
+import java.io.IOException;
+import java.io.StringWriter;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * The numeric attribute setters must write the same as the boxed setters of the base elements.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class NumberAttributeTest {
+
+	private static String render(IOConsumerE<? super Document, IOException> body) throws IOException {
+		StringWriter out = new StringWriter();
+		body.accept(new Document(Serialization.SGML, Doctype.HTML5, out));
+		return out.toString();
+	}
+
+	private static void assertSame(IOConsumerE<? super Document, IOException> primitive, IOConsumerE<? super Document, IOException> boxed) throws IOException {
+		assertEquals(render(boxed), render(primitive));
+	}
+
+	private static final float[] FLOATS = {0f, -0f, 0.1f, 1.1f, -3.5f, 1e10f, 1.0E-5f, Float.MIN_VALUE, Float.MAX_VALUE};
+
+	private static final double[] DOUBLES = {0d, -0d, 0.1d, 1.1d, -3.5d, 1e10d, 1e21d, 1.0E-5d, Double.MIN_VALUE, Double.MAX_VALUE};
+
+	private static final long[] LONGS = {0, 1, -1, 10, 99, Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE};
+
+	private static final int[] INTS = {0, 1, 2, 10, 999, Integer.MAX_VALUE};
+
+	@Test
+	public void testFloats() throws IOException {
+		for(float v : FLOATS) {
+			Float b = v;
+			assertSame(d -> d.meter().value(v).min(v).max(v).__(), d -> d.meter().value(b).min(b).max(b).__());
+			assertSame(d -> d.progress().value(v).max(v).__(), d -> d.progress().value(b).max(b).__());
+			assertSame(d -> d.input().number().value(v).min(v).max(v).__(), d -> d.input().number().value(b).min(b).max(b).__());
+			assertSame(d -> d.input().range().value(v).min(v).max(v).__(), d -> d.input().range().value(b).min(b).max(b).__());
+		}
+		assertEquals("<meter value=\"0.1\"></meter>", render(d -> d.meter().value(0.1f).__()));
+	}
+
+	@Test
+	public void testDoubles() throws IOException {
+		for(double v : DOUBLES) {
+			Double b = v;
+			assertSame(d -> d.meter().value(v).min(v).max(v).__(), d -> d.meter().value(b).min(b).max(b).__());
+			assertSame(d -> d.progress().value(v).max(v).__(), d -> d.progress().value(b).max(b).__());
+			assertSame(d -> d.input().number().value(v).min(v).max(v).__(), d -> d.input().number().value(b).min(b).max(b).__());
+			assertSame(d -> d.input().range().value(v).min(v).max(v).__(), d -> d.input().range().value(b).min(b).max(b).__());
+		}
+	}
+
+	@Test
+	public void testLongs() throws IOException {
+		for(long v : LONGS) {
+			Long b = v;
+			assertSame(d -> d.meter().value(v).min(v).max(v).__(), d -> d.meter().value(b).min(b).max(b).__());
+			assertSame(d -> d.progress().value(v).max(v).__(), d -> d.progress().value(b).max(b).__());
+			assertSame(d -> d.input().number().value(v).min(v).max(v).__(), d -> d.input().number().value(b).min(b).max(b).__());
+			assertSame(d -> d.input().range().value(v).min(v).max(v).__(), d -> d.input().range().value(b).min(b).max(b).__());
+		}
+	}
+
+	@Test
+	public void testInts() throws IOException {
+		for(int v : INTS) {
+			Integer b = v;
+			assertSame(
+				d -> d.table__(table -> table.tbody__(tbody -> tbody.tr__(tr -> tr.td().colspan(v).rowspan(v).__().th().colspan(v).rowspan(v).__()))),
+				d -> d.table__(table -> table.tbody__(tbody -> tbody.tr__(tr -> tr.td().colspan(b).rowspan(b).__().th().colspan(b).rowspan(b).__())))
+			);
+			assertSame(d -> d.img().width(v).height(v).__(), d -> d.img().width(b).height(b).__());
+			assertSame(d -> d.input().text().maxlength(v).size(v).__(), d -> d.input().text().maxlength(b).size(b).__());
+			assertSame(d -> d.input().email().maxlength(v).size(v).__(), d -> d.input().email().maxlength(b).size(b).__());
+		}
+	}
+
+	private static void assertRejected(IOConsumerE<? super Document, IOException> body) throws IOException {
+		try {
+			render(body);
+			fail("Non-finite value accepted");
+		} catch(IllegalArgumentException e) {
+			// Expected
+		}
+	}
+
+	@Test
+	public void testNonFiniteRejected() throws IOException {
+		for(double v : new double[] {Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY}) {
+			float f = (float)v;
+			assertRejected(d -> d.meter().value(v));
+			assertRejected(d -> d.meter().value(f));
+			assertRejected(d -> d.progress().max(v));
+			assertRejected(d -> d.input().number().min(v));
+			assertRejected(d -> d.input().range().max(f));
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import com.aoapps.html.OptionList;
+import com.aoapps.html.SELECT__;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * The pre-encoded options of {@link OptionList} must write the same as creating each element.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class OptionListTest {
+
+	/**
+	 * The option group, value, and label of each option, in order.
+	 */
+	private static final String[][] OPTIONS = {
+		{null, "", "None"},
+		{null, "a", "A"},
+		{null, " padded ", "Padded value"},
+		{"Group <1>", "b", "B & b"},
+		{"Group <1>", "\"quoted\"", "<Quoted>"},
+		{"Group 2", "c", "C"},
+		// The same value in another group
+		{"Group 2", "a", "A again"},
+		{null, "d", "D"}
+	};
+
+	private static final OptionList LIST;
+	static {
+		OptionList.Builder builder = OptionList.builder();
+		for(String[] option : OPTIONS) {
+			if(option[0] == null) builder.endOptgroup();
+			else builder.optgroup(option[0]);
+			builder.option(option[1], option[2]);
+		}
+		LIST = builder.build();
+	}
+
+	private static void elements(SELECT__<Document> select, Collection<String> selected) throws IOException {
+		int i = 0;
+		while(i < OPTIONS.length) {
+			String group = OPTIONS[i][0];
+			if(group == null) {
+				String[] option = OPTIONS[i++];
+				select.option().value(option[1]).selected(selected.contains(option[1])).__(option[2]);
+			} else {
+				int start = i;
+				while(i < OPTIONS.length && group.equals(OPTIONS[i][0])) i++;
+				int end = i;
+				select.optgroup().label(group).__(optgroup -> {
+					for(int j = start; j < end; j++) {
+						String[] option = OPTIONS[j];
+						optgroup.option().value(option[1]).selected(selected.contains(option[1])).__(option[2]);
+					}
+				});
+			}
+		}
+	}
+
+	private static String render(Serialization serialization, boolean indent, boolean bulk, Collection<String> selected) throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(serialization, Doctype.HTML5, out);
+		document.setIndent(indent);
+		document.select().name("s").multiple(true).__(select -> {
+			if(bulk) select.options__(LIST, selected);
+			else elements(select, selected);
+		});
+		return out.toString();
+	}
+
+	private static void assertMatchesElements(Collection<String> selected) throws IOException {
+		for(Serialization serialization : Serialization.values()) {
+			for(boolean indent : new boolean[] {false, true}) {
+				assertEquals(
+					serialization + ", indent=" + indent + ", selected=" + selected,
+					render(serialization, indent, false, selected),
+					render(serialization, indent, true, selected)
+				);
+			}
+		}
+	}
+
+	@Test
+	public void testNoneSelected() throws IOException {
+		assertMatchesElements(Collections.emptySet());
+	}
+
+	@Test
+	public void testOneSelected() throws IOException {
+		for(String[] option : OPTIONS) {
+			assertMatchesElements(Collections.singleton(option[1]));
+		}
+	}
+
+	@Test
+	public void testValueInTwoGroups() throws IOException {
+		assertMatchesElements(Collections.singleton("a"));
+	}
+
+	@Test
+	public void testManySelected() throws IOException {
+		assertMatchesElements(new HashSet<>(Arrays.asList("d", "b", "", "c")));
+	}
+
+	@Test
+	public void testDuplicatesSelectedOnce() throws IOException {
+		assertMatchesElements(Arrays.asList("b", "a", "b", "a", "d", "b"));
+	}
+
+	@Test
+	public void testUnknownSelected() throws IOException {
+		assertMatchesElements(Arrays.asList("unknown", null, "c"));
+	}
+
+	@Test
+	public void testSingleValue() throws IOException {
+		for(Serialization serialization : Serialization.values()) {
+			StringWriter bulk = new StringWriter();
+			new Document(serialization, Doctype.HTML5, bulk).select().__(select -> select.options__(LIST, "c"));
+			StringWriter elements = new StringWriter();
+			new Document(serialization, Doctype.HTML5, elements).select().__(select -> elements(select, Collections.singleton("c")));
+			assertEquals(serialization.name(), elements.toString(), bulk.toString());
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.html.Document;
+import com.aoapps.html.Template;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assume.assumeNotNull;
+import org.junit.Test;
+
+/**
+ * Renders many documents concurrently on virtual threads, with output that parks on every write, and fails when any
+ * virtual thread parks while pinned to its carrier, as reported by <code>-Djdk.tracePinnedThreads</code>.
+ * <p>
+ * Skipped on Java versions without virtual threads.
+ * </p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class PinningTest {
+
+	private static final int RENDERS = 10000;
+
+	private static final Template<Integer, RuntimeException> TEMPLATE = new Template<>((document, holes) ->
+		document.p__(holes.text(i -> "Template " + i))
+	);
+
+	/**
+	 * Parks on every write, as a socket would when its buffers are full.  Overrides the methods of {@link Writer} that
+	 * would otherwise synchronize.
+	 */
+	private static class ParkingWriter extends Writer {
+
+		private final StringBuilder out = new StringBuilder();
+
+		@Override
+		public void write(int c) {
+			LockSupport.parkNanos(1000);
+			out.append((char)c);
+		}
+
+		@Override
+		public void write(char[] cbuf, int off, int len) {
+			LockSupport.parkNanos(1000);
+			out.append(cbuf, off, len);
+		}
+
+		@Override
+		public void write(String str, int off, int len) {
+			LockSupport.parkNanos(1000);
+			out.append(str, off, off + len);
+		}
+
+		@Override
+		public void flush() {
+			LockSupport.parkNanos(1000);
+		}
+
+		@Override
+		public void close() {
+			// Nothing to close
+		}
+
+		@Override
+		public String toString() {
+			return out.toString();
+		}
+	}
+
+	private static void write(Document document, int i) throws IOException {
+		document.div().clazz("row").__(div -> div
+			.span__("<Label & value>")
+			.text(i)
+			.async__(region -> region.text("Async ").text(i))
+		);
+		document.cached(PinningTest.class, cached -> cached.p__("Cached"));
+		TEMPLATE.render(document, i);
+		document.awaitAsync();
+		document.flush();
+	}
+
+	private static String render(int i) throws IOException {
+		ParkingWriter out = new ParkingWriter();
+		write(new Document(EncodingContext.DEFAULT, out, 64), i);
+		return out.toString();
+	}
+
+	/**
+	 * Renders on the current thread, without buffering or parking.
+	 */
+	private static String expected(int i) throws IOException {
+		StringWriter out = new StringWriter();
+		write(new Document(EncodingContext.DEFAULT, out), i);
+		return out.toString();
+	}
+
+	@Test
+	public void testRenderDoesNotPin() throws Exception {
+		ExecutorService executor;
+		try {
+			executor = (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch(NoSuchMethodException e) {
+			executor = null;
+		}
+		assumeNotNull(executor);
+		if(System.getProperty("jdk.tracePinnedThreads") == null) {
+			// Only read when the first virtual thread is created
+			System.setProperty("jdk.tracePinnedThreads", "short");
+		}
+		PrintStream stdout = System.out;
+		ByteArrayOutputStream traces = new ByteArrayOutputStream();
+		System.setOut(new PrintStream(traces, true, StandardCharsets.UTF_8.name()));
+		try {
+			List<Future<String>> renders = new ArrayList<>(RENDERS);
+			for(int i = 0; i < RENDERS; i++) {
+				int index = i;
+				renders.add(executor.submit(() -> render(index)));
+			}
+			for(int i = 0; i < RENDERS; i++) {
+				assertEquals(expected(i), renders.get(i).get());
+			}
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+			System.setOut(stdout);
+		}
+		String traced = traces.toString(StandardCharsets.UTF_8.name());
+		stdout.print(traced);
+		assertFalse("Pinned:\n" + traced, traced.contains("<== monitors") || traced.contains("<== native"));
+	}
+}
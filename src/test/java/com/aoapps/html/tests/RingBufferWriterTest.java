@@ -0,0 +1,273 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import com.aoapps.html.RingBufferWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * @author  AO Industries, Inc.
+ */
+public class RingBufferWriterTest {
+
+	private static final Executor THREADS = command -> new Thread(command).start();
+
+	/**
+	 * Small enough to wrap and fill many times.
+	 */
+	private static final int[] CAPACITIES = {1, 2, 3, 16, RingBufferWriter.DEFAULT_CAPACITY};
+
+	/**
+	 * Records the output as of each flush, and whether closed.  Optionally slow, so the ring fills.
+	 */
+	private static class RecordingWriter extends StringWriter {
+
+		private final boolean slow;
+
+		private int writes;
+
+		private volatile String flushed = "";
+
+		private volatile boolean closed;
+
+		private RecordingWriter(boolean slow) {
+			this.slow = slow;
+		}
+
+		/**
+		 * Pauses every so often, long enough for the ring to fill.
+		 */
+		private void pause() {
+			if(slow && (++writes % 64) == 0) {
+				try {
+					Thread.sleep(1);
+				} catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+
+		@Override
+		public void write(char[] cbuf, int off, int len) {
+			pause();
+			super.write(cbuf, off, len);
+		}
+
+		@Override
+		public void flush() {
+			flushed = toString();
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+	}
+
+	/**
+	 * Writes the same random mix of single characters, arrays, and strings to both writers.
+	 */
+	private static void writeRandom(Random random, Writer out1, Writer out2) throws IOException {
+		for(int i = 0; i < 200; i++) {
+			char[] chars = new char[random.nextInt(50)];
+			for(int j = 0; j < chars.length; j++) chars[j] = (char)('a' + random.nextInt(26));
+			switch(random.nextInt(3)) {
+				case 0:
+					out1.write(chars.length);
+					out2.write(chars.length);
+					break;
+				case 1:
+					int off = chars.length == 0 ? 0 : random.nextInt(chars.length);
+					out1.write(chars, off, chars.length - off);
+					out2.write(chars, off, chars.length - off);
+					break;
+				default:
+					String str = new String(chars);
+					out1.write(str);
+					out2.write(str);
+			}
+		}
+	}
+
+	@Test
+	public void testOrderPreserved() throws IOException {
+		Random random = new Random(1);
+		for(int capacity : CAPACITIES) {
+			for(boolean slow : new boolean[] {false, true}) {
+				StringWriter expected = new StringWriter();
+				RecordingWriter out = new RecordingWriter(slow);
+				try(RingBufferWriter ring = new RingBufferWriter(out, capacity, THREADS)) {
+					writeRandom(random, ring, expected);
+				}
+				assertEquals("capacity=" + capacity + ", slow=" + slow, expected.toString(), out.toString());
+				assertEquals(expected.toString(), out.flushed);
+				assertFalse(out.closed);
+			}
+		}
+	}
+
+	@Test
+	public void testFlushWaitsForWritingThread() throws IOException {
+		for(int capacity : CAPACITIES) {
+			RecordingWriter out = new RecordingWriter(true);
+			try(RingBufferWriter ring = new RingBufferWriter(out, capacity, THREADS)) {
+				StringBuilder expected = new StringBuilder();
+				for(int i = 0; i < 20; i++) {
+					String str = "Line " + i + '\n';
+					ring.write(str);
+					expected.append(str);
+					ring.flush();
+					assertEquals("capacity=" + capacity, expected.toString(), out.flushed);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testFailureThrownFromLaterCalls() throws IOException {
+		IOException failure = new IOException("Connection reset");
+		Writer failing = new Writer() {
+			@Override
+			public void write(char[] cbuf, int off, int len) throws IOException {
+				throw failure;
+			}
+			@Override
+			public void flush() {
+				// Nothing to flush
+			}
+			@Override
+			public void close() {
+				// Nothing to close
+			}
+		};
+		RingBufferWriter ring = new RingBufferWriter(failing, 16, THREADS);
+		ring.write("First");
+		try {
+			ring.flush();
+			fail("Expected IOException");
+		} catch(IOException e) {
+			assertSame(failure, e.getCause());
+		}
+		try {
+			ring.write("Second");
+			fail("Expected IOException");
+		} catch(IOException e) {
+			assertSame(failure, e.getCause());
+		}
+		try {
+			ring.close();
+			fail("Expected IOException");
+		} catch(IOException e) {
+			assertSame(failure, e.getCause());
+		}
+	}
+
+	@Test
+	public void testFullRingUnblocksOnFailure() throws IOException {
+		IOException failure = new IOException("Connection reset");
+		Writer failing = new Writer() {
+			@Override
+			public void write(char[] cbuf, int off, int len) throws IOException {
+				throw failure;
+			}
+			@Override
+			public void flush() {
+				// Nothing to flush
+			}
+			@Override
+			public void close() {
+				// Nothing to close
+			}
+		};
+		RingBufferWriter ring = new RingBufferWriter(failing, 4, THREADS);
+		try {
+			// Much more than the ring holds
+			for(int i = 0; i < 1000; i++) ring.write("More than four characters");
+			fail("Expected IOException");
+		} catch(IOException e) {
+			assertSame(failure, e.getCause());
+		}
+	}
+
+	@Test
+	public void testWriteAfterClose() throws IOException {
+		RingBufferWriter ring = new RingBufferWriter(new StringWriter(), 16, THREADS);
+		ring.close();
+		// Closing again does nothing
+		ring.close();
+		try {
+			ring.write("After");
+			fail("Expected IOException");
+		} catch(IOException e) {
+			// Expected
+		}
+	}
+
+	private static void render(Document document) throws IOException {
+		document.div__(div -> {
+			for(int i = 0; i < 100; i++) div.p__("Paragraph " + i);
+		});
+		document.flush();
+	}
+
+	@Test
+	public void testDocumentFlushWaits() throws IOException {
+		StringWriter expected = new StringWriter();
+		render(new Document(Serialization.SGML, Doctype.HTML5, expected));
+		EncodingContext encodingContext = Document.getEncodingContext(Serialization.SGML, Doctype.HTML5);
+		for(int capacity : CAPACITIES) {
+			for(boolean minify : new boolean[] {false, true}) {
+				RecordingWriter out = new RecordingWriter(true);
+				try(RingBufferWriter ring = new RingBufferWriter(out, capacity, THREADS)) {
+					Document document = new Document(encodingContext, ring);
+					document.setMinify(minify);
+					render(document);
+					// Written and flushed before the ring is closed
+					String flushed = out.flushed;
+					if(minify) {
+						StringWriter minified = new StringWriter();
+						Document direct = new Document(Serialization.SGML, Doctype.HTML5, minified);
+						direct.setMinify(true);
+						render(direct);
+						assertEquals("capacity=" + capacity, minified.toString(), flushed);
+					} else {
+						assertEquals("capacity=" + capacity, expected.toString(), flushed);
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import com.aoapps.html.Template;
+import java.io.IOException;
+import java.io.StringWriter;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * @see  Template
+ *
+ * @author  AO Industries, Inc.
+ */
+public class TemplateTest {
+
+	private static final String[][] MODELS = {
+		{"Title", "Text"},
+		{"<&\"'>", "<&\"'>"},
+		{"é中😀", null},
+		{"", "Empty attribute"},
+		{null, "Null attribute"}
+	};
+
+	private static final Template<String[], RuntimeException> TEMPLATE = new Template<>((document, holes) -> {
+		document.div().title(holes.attribute(m -> m[0])).__(div -> div
+			.text("Before ")
+			.span__(holes.text(m -> m[1]))
+			.text(" after ")
+			.text(holes.text(m -> m[1]))
+		);
+		document.p__(holes.text(m -> "Title: " + m[0]));
+	});
+
+	private static String live(Serialization serialization, Doctype doctype, String[] model) throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(serialization, doctype, out);
+		document.div().title(model[0]).__(div -> div
+			.text("Before ")
+			.span__(model[1])
+			.text(" after ")
+			.text(model[1])
+		);
+		document.p__("Title: " + model[0]);
+		return out.toString();
+	}
+
+	private static String template(Serialization serialization, Doctype doctype, String[] model) throws IOException {
+		StringWriter out = new StringWriter();
+		TEMPLATE.render(new Document(serialization, doctype, out), model);
+		return out.toString();
+	}
+
+	@Test
+	public void testIdenticalToLive() throws IOException {
+		for(Serialization serialization : Serialization.values()) {
+			for(Doctype doctype : Doctype.values()) {
+				for(String[] model : MODELS) {
+					// Twice, to render both from a newly compiled and an already compiled program
+					for(int i = 0; i < 2; i++) {
+						assertEquals(
+							serialization + ", " + doctype,
+							live(serialization, doctype, model),
+							template(serialization, doctype, model)
+						);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testIdenticalToLiveWhenIndenting() throws IOException {
+		for(Serialization serialization : Serialization.values()) {
+			for(String[] model : MODELS) {
+				StringWriter expected = new StringWriter();
+				Document live = new Document(serialization, Doctype.HTML5, expected);
+				live.setIndent(true);
+				live.div__(div -> div.p__("Indented"));
+				live.div().title(model[0]).__(div -> div
+					.text("Before ")
+					.span__(model[1])
+					.text(" after ")
+					.text(model[1])
+				);
+				live.p__("Title: " + model[0]);
+				StringWriter out = new StringWriter();
+				Document document = new Document(serialization, Doctype.HTML5, out);
+				document.setIndent(true);
+				document.div__(div -> div.p__("Indented"));
+				TEMPLATE.render(document, model);
+				assertEquals(serialization.name(), expected.toString(), out.toString());
+			}
+		}
+	}
+
+	/**
+	 * Adds a session id to URLs, as a context created per request would.
+	 */
+	private static EncodingContext withSession(String session) {
+		return new EncodingContext() {
+			@Override
+			public Serialization getSerialization() {
+				return Serialization.SGML;
+			}
+
+			@Override
+			public Doctype getDoctype() {
+				return Doctype.HTML5;
+			}
+
+			@Override
+			public String encodeURL(String href) {
+				return href + ";jsessionid=" + session;
+			}
+		};
+	}
+
+	private static final Template<String, RuntimeException> LINK = new Template<>((document, holes) ->
+		document.a().href("/page").__(holes.text(m -> m))
+	);
+
+	@Test
+	public void testEncodingContextNotShared() throws IOException {
+		for(String session : new String[] {"first", "second", "first"}) {
+			EncodingContext context = withSession(session);
+			StringWriter expected = new StringWriter();
+			new Document(context, expected).a().href("/page").__("Link");
+			StringWriter out = new StringWriter();
+			LINK.render(new Document(context, out), "Link");
+			assertEquals(expected.toString(), out.toString());
+			assertTrue(out.toString(), out.toString().contains(";jsessionid=" + session));
+		}
+	}
+
+	@Test
+	public void testEncodingContextsBeyondLimit() throws IOException {
+		Template<String, RuntimeException> link = new Template<>((document, holes) ->
+			document.a().href("/page").__(holes.text(m -> m))
+		);
+		for(int i = 0; i < Template.MAX_PROGRAMS * 2; i++) {
+			EncodingContext context = withSession(Integer.toString(i));
+			StringWriter expected = new StringWriter();
+			new Document(context, expected).a().href("/page").__("Link");
+			StringWriter out = new StringWriter();
+			link.render(new Document(context, out), "Link");
+			assertEquals(expected.toString(), out.toString());
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMarkInStaticContent() throws IOException {
+		new Template<String, RuntimeException>((document, holes) -> document
+			.p__("Private use \uE000 character")
+			.p__(holes.text(m -> m))
+		).render(new Document(Serialization.SGML, Doctype.HTML5, new StringWriter()), "Value");
+	}
+
+	@Test
+	public void testMarkInHoleValue() throws IOException {
+		String value = "\uE000t0:\uE000";
+		StringWriter expected = new StringWriter();
+		new Document(Serialization.SGML, Doctype.HTML5, expected).p__(value);
+		for(int i = 0; i < 2; i++) {
+			StringWriter out = new StringWriter();
+			Template<String, RuntimeException> template = new Template<>((document, holes) -> document.p__(holes.text(m -> m)));
+			template.render(new Document(Serialization.SGML, Doctype.HTML5, out), value);
+			assertEquals(expected.toString(), out.toString());
+		}
+	}
+}
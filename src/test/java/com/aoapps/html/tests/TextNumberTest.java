@@ -0,0 +1,109 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import com.aoapps.lang.io.function.IOConsumerE;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ * The numeric overloads of {@link com.aoapps.html.TextContent#text(long)} and friends must write the same as the
+ * boxed {@link com.aoapps.html.TextContent#text(java.lang.Object)}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class TextNumberTest {
+
+	private static String render(boolean indent, IOConsumerE<? super Document, IOException> body) throws IOException {
+		StringWriter out = new StringWriter();
+		Document document = new Document(Serialization.SGML, Doctype.HTML5, out);
+		document.setIndent(indent);
+		body.accept(document);
+		return out.toString();
+	}
+
+	private static void assertSame(IOConsumerE<? super Document, IOException> primitive, IOConsumerE<? super Document, IOException> boxed) throws IOException {
+		for(boolean indent : new boolean[] {false, true}) {
+			assertEquals(render(indent, boxed), render(indent, primitive));
+		}
+	}
+
+	private static final float[] FLOATS = {
+		0f, -0f, 1.1f, 0.1f, -3.5f, 1e10f, 1.0E-5f, Float.MIN_VALUE, Float.MAX_VALUE,
+		Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY
+	};
+
+	private static final double[] DOUBLES = {
+		0d, -0d, 1.1d, 0.1d, -3.5d, 1e10d, 1e21d, 1.0E-5d, 123456789.125d, Double.MIN_VALUE, Double.MAX_VALUE,
+		Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY
+	};
+
+	private static final long[] LONGS = {0, 1, -1, 9, 10, 99, 100, Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE};
+
+	@Test
+	public void testFloat() throws IOException {
+		for(float f : FLOATS) {
+			assertSame(d -> d.div__(div -> div.text(f)), d -> d.div__(div -> div.text((Object)f)));
+		}
+		assertEquals("<div>1.1</div>", render(false, d -> d.div__(div -> div.text(1.1f))));
+	}
+
+	@Test
+	public void testDouble() throws IOException {
+		for(double v : DOUBLES) {
+			assertSame(d -> d.div__(div -> div.text(v)), d -> d.div__(div -> div.text((Object)v)));
+		}
+	}
+
+	@Test
+	public void testLongAndInt() throws IOException {
+		for(long v : LONGS) {
+			assertSame(d -> d.div__(div -> div.text(v)), d -> d.div__(div -> div.text((Object)v)));
+			int i = (int)v;
+			assertSame(d -> d.div__(div -> div.text(i)), d -> d.div__(div -> div.text((Object)i)));
+		}
+	}
+
+	@Test
+	public void testShortAndByte() throws IOException {
+		for(short v : new short[] {0, -1, Short.MIN_VALUE, Short.MAX_VALUE}) {
+			assertSame(d -> d.div__(div -> div.text(v)), d -> d.div__(div -> div.text((Object)v)));
+		}
+		for(byte v : new byte[] {0, -1, Byte.MIN_VALUE, Byte.MAX_VALUE}) {
+			assertSame(d -> d.div__(div -> div.text(v)), d -> d.div__(div -> div.text((Object)v)));
+		}
+	}
+
+	@Test
+	public void testBigDecimal() throws IOException {
+		for(BigDecimal v : new BigDecimal[] {BigDecimal.ZERO, new BigDecimal("1.10"), new BigDecimal("1E+5"), new BigDecimal("-0.000001"), null}) {
+			assertSame(d -> d.div__(div -> div.text(v)), d -> d.div__(div -> div.text((Object)v)));
+		}
+	}
+}
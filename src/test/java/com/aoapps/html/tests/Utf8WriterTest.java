@@ -0,0 +1,175 @@
+/*
+ * ao-fluent-html - Fluent Java DSL for high-performance HTML generation.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-fluent-html.
+ *
+ * ao-fluent-html is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-fluent-html is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-fluent-html.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.aoapps.html.tests;
+
+import com.aoapps.encoding.Doctype;
+import com.aoapps.encoding.EncodingContext;
+import com.aoapps.encoding.Serialization;
+import com.aoapps.html.Document;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import static org.junit.Assert.assertArrayEquals;
+import org.junit.Test;
+
+/**
+ * Writing to an {@link java.io.OutputStream} or {@link java.nio.channels.WritableByteChannel} must produce the same
+ * bytes as an {@link OutputStreamWriter}, including malformed surrogates written as {@code '?'}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class Utf8WriterTest {
+
+	private static final int[] CHUNK_SIZES = {4, 5, 7, 8192};
+
+	private static final String[] STRINGS = {
+		"",
+		"ASCII only",
+		"Latin-1: \u00e9\u00e8\u00ff",
+		"Three bytes: \u20ac\u4e2d\uffff",
+		"Pairs: \ud83d\ude00\ud83d\ude01\ud800\udc00",
+		"Lone high: \ud800 then more",
+		"Lone low: \udc00 then more",
+		"High then pair: \ud800\ud83d\ude00",
+		"High then three bytes: \ud800\u20ac",
+		"Reversed: \ude00\ud83d then more",
+		"<Markup & \"quotes\">"
+	};
+
+	private static byte[] expected(String... writes) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try(Writer out = new OutputStreamWriter(bytes, StandardCharsets.UTF_8)) {
+			for(String str : writes) out.write(str);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static byte[] stream(int chunkSize, String... writes) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		Document document = new Document(EncodingContext.DEFAULT, bytes, chunkSize);
+		for(String str : writes) document.getUnsafe(null).write(str);
+		document.flush();
+		return bytes.toByteArray();
+	}
+
+	private static byte[] channel(int chunkSize, String... writes) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		Document document = new Document(EncodingContext.DEFAULT, Channels.newChannel(bytes), chunkSize);
+		for(String str : writes) document.getUnsafe(null).write(str);
+		document.flush();
+		return bytes.toByteArray();
+	}
+
+	private static void assertWrites(String... writes) throws IOException {
+		byte[] expected = expected(writes);
+		for(int chunkSize : CHUNK_SIZES) {
+			assertArrayEquals("stream, chunkSize=" + chunkSize, expected, stream(chunkSize, writes));
+			assertArrayEquals("channel, chunkSize=" + chunkSize, expected, channel(chunkSize, writes));
+		}
+	}
+
+	@Test
+	public void testStrings() throws IOException {
+		for(String str : STRINGS) {
+			assertWrites(str);
+		}
+	}
+
+	@Test
+	public void testAllStringsTogether() throws IOException {
+		assertWrites(STRINGS);
+		assertWrites(String.join("", STRINGS));
+	}
+
+	@Test
+	public void testSurrogatePairSplitAcrossWrites() throws IOException {
+		assertWrites("a\ud83d", "\ude00b");
+		assertWrites("\ud83d", "\ude00");
+		assertWrites("\u20ac\u20ac\u20ac\ud83d", "\ude00\u20ac");
+	}
+
+	@Test
+	public void testLoneSurrogatesAcrossWrites() throws IOException {
+		assertWrites("a\ud83d", "b");
+		assertWrites("a\ud83d", "\u20ac");
+		assertWrites("a\ud83d", "\ud83d", "\ude00");
+		assertWrites("\ude00", "\ud83d", "\ude00");
+	}
+
+	@Test
+	public void testTextElement() throws IOException {
+		String text = "<\u00e9\u20ac\ud83d\ude00 & more>";
+		for(int chunkSize : CHUNK_SIZES) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			Document document = new Document(EncodingContext.DEFAULT, Channels.newChannel(bytes), chunkSize);
+			document.p__(text);
+			document.flush();
+			assertArrayEquals(
+				"chunkSize=" + chunkSize,
+				expected("<p>&lt;\u00e9\u20ac\ud83d\ude00 &amp; more&gt;</p>"),
+				bytes.toByteArray()
+			);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testChunkSizeTooSmall() {
+		new Document(EncodingContext.DEFAULT, new ByteArrayOutputStream(), 3);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testChannelChunkSizeTooSmall() {
+		new Document(EncodingContext.DEFAULT, Channels.newChannel(new ByteArrayOutputStream()), 3);
+	}
+
+	private static final EncodingContext ISO_8859_1 = new EncodingContext() {
+		@Override
+		public Serialization getSerialization() {
+			return Serialization.SGML;
+		}
+
+		@Override
+		public Doctype getDoctype() {
+			return Doctype.HTML5;
+		}
+
+		@Override
+		public Charset getCharacterEncoding() {
+			return StandardCharsets.ISO_8859_1;
+		}
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testStreamRequiresUtf8() {
+		new Document(ISO_8859_1, new ByteArrayOutputStream());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testChannelRequiresUtf8() {
+		new Document(ISO_8859_1, Channels.newChannel(new ByteArrayOutputStream()));
+	}
+}